@@ -1,12 +1,24 @@
 package io.github.xtemplus.config;
 
+import com.baomidou.mybatisplus.core.injector.ISqlInjector;
+import io.github.xtemplus.mybatisplus.assembly.AssemblyWarmUp;
+import io.github.xtemplus.mybatisplus.injector.DefaultSqlInjectorX;
+import io.github.xtemplus.mybatisplus.stream.FetchSizeInterceptor;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.mybatisplus.telemetry.QueryShapeInterceptor;
+import io.github.xtemplus.mybatisplus.tracking.DirtyTrackingInterceptor;
 import io.github.xtemplus.service.TemplateCoreService;
 import io.github.xtemplus.utils.Log;
 import io.github.xtemplus.utils.MachineCodeUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
 
 /**
  * 模板核心自动配置类
@@ -20,9 +32,32 @@ public class BaseAutoConfiguration {
 
     private final BaseProperties properties;
 
-    public BaseAutoConfiguration(BaseProperties properties) {
+    public BaseAutoConfiguration(BaseProperties properties, ObjectProvider<DataSource> dataSources,
+                                 ObjectProvider<PlatformTransactionManager> transactionManagers) {
         this.properties = properties;
 
+        // 写入 MyBatis-Plus 扩展全局配置
+        BaseProperties.Mybatis mybatis = properties.getMybatis();
+        MybatisPlusXConfig.setDbType(mybatis.getDbType());
+        MybatisPlusXConfig.setInStrategy(mybatis.getInStrategy());
+        MybatisPlusXConfig.setInChunkSize(mybatis.getInChunkSize());
+        MybatisPlusXConfig.setInBucketing(mybatis.isInBucketing());
+        MybatisPlusXConfig.setInBucketSizes(mybatis.getInBucketSizes());
+        MybatisPlusXConfig.setFullTextConfig(mybatis.getFullTextConfig());
+        MybatisPlusXConfig.setShapeTelemetry(mybatis.isShapeTelemetry());
+        MybatisPlusXConfig.setShapeTelemetryMaxShapes(mybatis.getShapeTelemetryMaxShapes());
+        MybatisPlusXConfig.setBatchQuerySize(mybatis.getBatchQuerySize());
+        MybatisPlusXConfig.setCaseInsensitiveStrings(mybatis.getCaseInsensitiveStrings());
+        MybatisPlusXConfig.setStreamFetchSize(mybatis.getStreamFetchSize());
+        MybatisPlusXConfig.setDeferredJoinThreshold(mybatis.getDeferredJoinThreshold());
+        MybatisPlusXConfig.setMultiRowInsert(mybatis.isMultiRowInsert());
+        MybatisPlusXConfig.setMultiRowInsertMaxBytes(mybatis.getMultiRowInsertMaxBytes());
+        MybatisPlusXConfig.setUpdateBatchStrategy(mybatis.getUpdateBatchStrategy());
+        MybatisPlusXConfig.setCaseWhenBatchSize(mybatis.getCaseWhenBatchSize());
+        MybatisPlusXConfig.setParallelInsertThreads(mybatis.getParallelInsertThreads());
+        // 使用时再获取，避免提前初始化数据源
+        MybatisPlusXConfig.setDataSource(dataSources::getIfUnique);
+        MybatisPlusXConfig.setTransactionManager(transactionManagers::getIfUnique);
 
         // 打印机器码
         String machineCode = MachineCodeUtil.getMachineCode();
@@ -93,5 +128,59 @@ public class BaseAutoConfiguration {
     public TemplateCoreService templateCoreService() {
         return new TemplateCoreService(properties);
     }
-}
 
+    /**
+     * 查询组装元数据预热，未配置 template.core.mybatis.assembly-warm-up-packages 时不执行
+     *
+     * @return AssemblyWarmUp实例
+     */
+    @Bean
+    public AssemblyWarmUp assemblyWarmUp() {
+        BaseProperties.Mybatis mybatis = properties.getMybatis();
+        return new AssemblyWarmUp(mybatis.getAssemblyWarmUpPackages(), mybatis.getAssemblyWarmUpThreads());
+    }
+
+    /**
+     * MyBatis Plus SQL 注入器，为 BaseMapperX 注入拓展方法，应用自定义注入器时不生效
+     *
+     * @return DefaultSqlInjectorX实例
+     */
+    @Bean
+    @ConditionalOnMissingBean(ISqlInjector.class)
+    public DefaultSqlInjectorX sqlInjectorX() {
+        return new DefaultSqlInjectorX();
+    }
+
+    /**
+     * 流式查询 fetch size 拦截器，只对 selectStream 生效
+     *
+     * @return FetchSizeInterceptor实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FetchSizeInterceptor fetchSizeInterceptor() {
+        return new FetchSizeInterceptor();
+    }
+
+    /**
+     * 脏字段跟踪拦截器，只在 DirtyTracker 跟踪范围内记录查询结果快照
+     *
+     * @return DirtyTrackingInterceptor实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DirtyTrackingInterceptor dirtyTrackingInterceptor() {
+        return new DirtyTrackingInterceptor();
+    }
+
+    /**
+     * 查询形态耗时统计拦截器，开启 template.core.mybatis.shape-telemetry 时注册
+     *
+     * @return QueryShapeInterceptor实例
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "template.core.mybatis", name = "shape-telemetry", havingValue = "true")
+    public QueryShapeInterceptor queryShapeInterceptor() {
+        return new QueryShapeInterceptor();
+    }
+}
@@ -1,7 +1,13 @@
 package io.github.xtemplus.config;
 
+import com.baomidou.mybatisplus.annotation.DbType;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
+import io.github.xtemplus.mybatisplus.annotation.UpdateBatchStrategy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 模板核心配置属性
  *
@@ -50,6 +56,11 @@ public class BaseProperties {
      */
     private String encryptedPrivateKey;
 
+    /**
+     * MyBatis-Plus 扩展配置
+     */
+    private Mybatis mybatis = new Mybatis();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -113,5 +124,265 @@ public class BaseProperties {
     public void setEncryptedPrivateKey(String encryptedPrivateKey) {
         this.encryptedPrivateKey = encryptedPrivateKey;
     }
-}
 
+    public Mybatis getMybatis() {
+        return mybatis;
+    }
+
+    public void setMybatis(Mybatis mybatis) {
+        this.mybatis = mybatis;
+    }
+
+    /**
+     * MyBatis-Plus 扩展配置（template.core.mybatis.*）
+     */
+    public static class Mybatis {
+
+        /**
+         * 启动时预热查询组装元数据的扫描包，为空时不预热
+         */
+        private List<String> assemblyWarmUpPackages = new ArrayList<>();
+
+        /**
+         * 预热线程数，默认为 CPU 核数（最多 4）
+         */
+        private int assemblyWarmUpThreads = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+        /**
+         * 数据库类型，用于方言相关的 SQL 渲染，为空时按数据源 URL 自动识别
+         */
+        private DbType dbType;
+
+        /**
+         * 大 IN 列表的默认处理策略，默认为普通 IN
+         */
+        private InStrategy inStrategy = InStrategy.PLAIN;
+
+        /**
+         * IN 列表分块大小，元素数量超过该值时启用 inStrategy
+         */
+        private int inChunkSize = 1000;
+
+        /**
+         * 是否按桶大小补齐 IN 列表以减少不同的 SQL 形态，默认关闭
+         */
+        private boolean inBucketing = false;
+
+        /**
+         * IN 列表桶大小，为空时按 2 的幂分桶（1, 2, 4, 8 ...）
+         */
+        private List<Integer> inBucketSizes = new ArrayList<>();
+
+        /**
+         * PostgreSQL 全文检索配置（如 simple、english），需与 to_tsvector 表达式索引一致，为空时使用数据库默认配置
+         */
+        private String fullTextConfig;
+
+        /**
+         * 是否统计 WrapperAssembler 组装的查询形态（非空字段组合）及其执行耗时，默认关闭
+         */
+        private boolean shapeTelemetry = false;
+
+        /**
+         * 查询形态统计的最大条数，超出后新形态只计入溢出计数
+         */
+        private int shapeTelemetryMaxShapes = 1000;
+
+        /**
+         * selectListBatch 每条 SQL 合并的查询 DTO 数量上限
+         */
+        private int batchQuerySize = 100;
+
+        /**
+         * 内存过滤（toPredicate、selectListBatch 结果拆分）时字符串是否忽略大小写，与数据库排序规则保持一致；为空时 MySQL、MariaDB、SQL Server 忽略大小写
+         */
+        private Boolean caseInsensitiveStrings;
+
+        /**
+         * selectStream 未指定时的 JDBC fetch size，MySQL 固定使用流式读取
+         */
+        private int streamFetchSize = 1000;
+
+        /**
+         * selectPage 的 pageNum * pageSize 超过该值时先查主键再按主键回表，小于等于 0 时关闭，默认关闭
+         */
+        private int deferredJoinThreshold = 0;
+
+        /**
+         * insertBatch 是否使用多行 INSERT ... VALUES (...),(...)，驱动已改写批量语句或数据库不支持时自动使用 JDBC 批处理，默认关闭
+         */
+        private boolean multiRowInsert = false;
+
+        /**
+         * 多行 INSERT 单条语句的估算字节上限，应小于 MySQL max_allowed_packet
+         */
+        private int multiRowInsertMaxBytes = 4 * 1024 * 1024;
+
+        /**
+         * updateBatch 的默认策略
+         */
+        private UpdateBatchStrategy updateBatchStrategy = UpdateBatchStrategy.PER_ROW;
+
+        /**
+         * CASE_WHEN 策略每条 UPDATE 的最大行数
+         */
+        private int caseWhenBatchSize = 500;
+
+        /**
+         * insertBatchParallel 的最大并发分区数，每个分区占用一个连接，不应超过连接池大小
+         */
+        private int parallelInsertThreads = 4;
+
+        public List<String> getAssemblyWarmUpPackages() {
+            return assemblyWarmUpPackages;
+        }
+
+        public void setAssemblyWarmUpPackages(List<String> assemblyWarmUpPackages) {
+            this.assemblyWarmUpPackages = assemblyWarmUpPackages;
+        }
+
+        public int getAssemblyWarmUpThreads() {
+            return assemblyWarmUpThreads;
+        }
+
+        public void setAssemblyWarmUpThreads(int assemblyWarmUpThreads) {
+            this.assemblyWarmUpThreads = assemblyWarmUpThreads;
+        }
+
+        public DbType getDbType() {
+            return dbType;
+        }
+
+        public void setDbType(DbType dbType) {
+            this.dbType = dbType;
+        }
+
+        public InStrategy getInStrategy() {
+            return inStrategy;
+        }
+
+        public void setInStrategy(InStrategy inStrategy) {
+            this.inStrategy = inStrategy;
+        }
+
+        public int getInChunkSize() {
+            return inChunkSize;
+        }
+
+        public void setInChunkSize(int inChunkSize) {
+            this.inChunkSize = inChunkSize;
+        }
+
+        public boolean isInBucketing() {
+            return inBucketing;
+        }
+
+        public void setInBucketing(boolean inBucketing) {
+            this.inBucketing = inBucketing;
+        }
+
+        public List<Integer> getInBucketSizes() {
+            return inBucketSizes;
+        }
+
+        public void setInBucketSizes(List<Integer> inBucketSizes) {
+            this.inBucketSizes = inBucketSizes;
+        }
+
+        public String getFullTextConfig() {
+            return fullTextConfig;
+        }
+
+        public void setFullTextConfig(String fullTextConfig) {
+            this.fullTextConfig = fullTextConfig;
+        }
+
+        public boolean isShapeTelemetry() {
+            return shapeTelemetry;
+        }
+
+        public void setShapeTelemetry(boolean shapeTelemetry) {
+            this.shapeTelemetry = shapeTelemetry;
+        }
+
+        public int getShapeTelemetryMaxShapes() {
+            return shapeTelemetryMaxShapes;
+        }
+
+        public void setShapeTelemetryMaxShapes(int shapeTelemetryMaxShapes) {
+            this.shapeTelemetryMaxShapes = shapeTelemetryMaxShapes;
+        }
+
+        public int getBatchQuerySize() {
+            return batchQuerySize;
+        }
+
+        public void setBatchQuerySize(int batchQuerySize) {
+            this.batchQuerySize = batchQuerySize;
+        }
+
+        public Boolean getCaseInsensitiveStrings() {
+            return caseInsensitiveStrings;
+        }
+
+        public void setCaseInsensitiveStrings(Boolean caseInsensitiveStrings) {
+            this.caseInsensitiveStrings = caseInsensitiveStrings;
+        }
+
+        public int getStreamFetchSize() {
+            return streamFetchSize;
+        }
+
+        public void setStreamFetchSize(int streamFetchSize) {
+            this.streamFetchSize = streamFetchSize;
+        }
+
+        public int getDeferredJoinThreshold() {
+            return deferredJoinThreshold;
+        }
+
+        public void setDeferredJoinThreshold(int deferredJoinThreshold) {
+            this.deferredJoinThreshold = deferredJoinThreshold;
+        }
+
+        public boolean isMultiRowInsert() {
+            return multiRowInsert;
+        }
+
+        public void setMultiRowInsert(boolean multiRowInsert) {
+            this.multiRowInsert = multiRowInsert;
+        }
+
+        public int getMultiRowInsertMaxBytes() {
+            return multiRowInsertMaxBytes;
+        }
+
+        public void setMultiRowInsertMaxBytes(int multiRowInsertMaxBytes) {
+            this.multiRowInsertMaxBytes = multiRowInsertMaxBytes;
+        }
+
+        public UpdateBatchStrategy getUpdateBatchStrategy() {
+            return updateBatchStrategy;
+        }
+
+        public void setUpdateBatchStrategy(UpdateBatchStrategy updateBatchStrategy) {
+            this.updateBatchStrategy = updateBatchStrategy;
+        }
+
+        public int getCaseWhenBatchSize() {
+            return caseWhenBatchSize;
+        }
+
+        public void setCaseWhenBatchSize(int caseWhenBatchSize) {
+            this.caseWhenBatchSize = caseWhenBatchSize;
+        }
+
+        public int getParallelInsertThreads() {
+            return parallelInsertThreads;
+        }
+
+        public void setParallelInsertThreads(int parallelInsertThreads) {
+            this.parallelInsertThreads = parallelInsertThreads;
+        }
+    }
+}
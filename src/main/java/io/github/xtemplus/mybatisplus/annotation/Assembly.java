@@ -8,4 +8,6 @@ import java.lang.annotation.*;
 public @interface Assembly {
     AssemblyType type() default AssemblyType.EQ;
     String column() default ""; // 数据库字段名，默认用属性名
+    InStrategy inStrategy() default InStrategy.GLOBAL; // IN 类型的大列表处理策略
+    boolean escape() default false; // LIKE 类型是否转义用户输入中的 % 和 _
 }
@@ -1,5 +1,17 @@
 package io.github.xtemplus.mybatisplus.annotation;
 
 public enum AssemblyType {
-    EQ, LIKE, GT, LT, GE, LE, IN, BETWEEN
+    EQ, LIKE, GT, LT, GE, LE, IN, BETWEEN,
+    /**
+     * 后缀匹配 LIKE '%值'
+     */
+    LIKE_LEFT,
+    /**
+     * 前缀匹配 LIKE '值%'，可以使用 B-tree 索引
+     */
+    LIKE_RIGHT,
+    /**
+     * 全文检索，按数据库类型渲染为 MATCH ... AGAINST / to_tsvector @@ plainto_tsquery
+     */
+    FULLTEXT
 }
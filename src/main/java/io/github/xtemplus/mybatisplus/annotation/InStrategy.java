@@ -0,0 +1,30 @@
+package io.github.xtemplus.mybatisplus.annotation;
+
+/**
+ * 大 IN 列表处理策略
+ * <p>
+ * 元素数量不超过 template.core.mybatis.in-chunk-size 时始终使用普通 IN
+ */
+public enum InStrategy {
+    /**
+     * 使用全局配置（template.core.mybatis.in-strategy）
+     */
+    GLOBAL,
+    /**
+     * 普通 IN，每个元素一个绑定参数
+     */
+    PLAIN,
+    /**
+     * 按块拆分为 (col IN (...) OR col IN (...))，规避单个 IN 的元素数量限制
+     */
+    OR_CHUNKS,
+    /**
+     * 按块拆分为多次查询后合并结果，仅 BaseMapperX.selectList(field, values) 支持，
+     * 在 wrapper 组装场景下按 OR_CHUNKS 处理
+     */
+    CHUNKED_QUERIES,
+    /**
+     * 绑定单个数组参数 col = ANY(?)，仅 PostgreSQL / H2 支持，其它数据库按 OR_CHUNKS 处理
+     */
+    ANY_ARRAY
+}
@@ -0,0 +1,26 @@
+package io.github.xtemplus.mybatisplus.annotation;
+
+/**
+ * 按主键批量更新策略
+ */
+public enum UpdateBatchStrategy {
+    /**
+     * 使用全局配置（template.core.mybatis.update-batch-strategy）
+     */
+    GLOBAL,
+    /**
+     * 每个实体一条 UPDATE，通过 JDBC 批处理执行（Db.updateBatchById）
+     */
+    PER_ROW,
+    /**
+     * 每批实体一条 UPDATE t SET col = CASE id WHEN ? THEN ? ... END WHERE id IN (...)，
+     * 实体带乐观锁字段时按 PER_ROW 处理
+     */
+    CASE_WHEN,
+    /**
+     * 只更新与 {@link io.github.xtemplus.mybatisplus.tracking.DirtyTracker} 快照相比变化的列，
+     * 变化列相同的实体合并为一次 JDBC 批处理；未跟踪的实体按 updateById 的 updateStrategy 规则更新，
+     * updateStrategy 为 NEVER 的字段不更新，实体带乐观锁字段时按 PER_ROW 处理
+     */
+    DIRTY
+}
@@ -0,0 +1,82 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import io.github.xtemplus.mybatisplus.query.LambdaQueryWrapperX;
+import io.github.xtemplus.utils.Log;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 编译期生成组装器注册表
+ * <p>
+ * 按命名约定（DTO 全类名，内部类的 $ 替换为 _，加 Assembler 后缀）查找生成类，查找结果（含未找到）会被缓存；
+ * 在无法使用 Class.forName 的环境（如未配置反射的 native image）可通过 {@link #register} 手动注册
+ */
+public final class AssemblerRegistry {
+
+    /**
+     * 生成类的类名后缀
+     */
+    public static final String SUFFIX = "Assembler";
+
+    private static final GeneratedAssembler<?> NONE = new GeneratedAssembler<Object>() {
+        @Override
+        public void assemble(Object queryDto, QueryWrapper<Object> wrapper) {
+        }
+
+        @Override
+        public void assembleLambda(Object queryDto, LambdaQueryWrapperX<Object> wrapper) {
+        }
+    };
+
+    private static final Map<Class<?>, GeneratedAssembler<?>> ASSEMBLERS = new ConcurrentHashMap<>();
+
+    private AssemblerRegistry() {
+    }
+
+    /**
+     * 手动注册组装器
+     */
+    public static <T> void register(Class<T> dtoClass, GeneratedAssembler<T> assembler) {
+        ASSEMBLERS.put(dtoClass, assembler);
+    }
+
+    /**
+     * 查找 DTO 类对应的生成组装器
+     *
+     * @param dtoClass DTO 类
+     * @return 组装器，不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedAssembler<T> find(Class<?> dtoClass) {
+        GeneratedAssembler<?> assembler = ASSEMBLERS.computeIfAbsent(dtoClass, AssemblerRegistry::load);
+        return assembler == NONE ? null : (GeneratedAssembler<T>) assembler;
+    }
+
+    /**
+     * 生成类的全类名
+     */
+    public static String assemblerClassName(String dtoBinaryName) {
+        return dtoBinaryName.replace('$', '_') + SUFFIX;
+    }
+
+    private static GeneratedAssembler<?> load(Class<?> dtoClass) {
+        ClassLoader classLoader = ObjUtil.defaultIfNull(dtoClass.getClassLoader(), AssemblerRegistry.class.getClassLoader());
+        String className = assemblerClassName(dtoClass.getName());
+        try {
+            Class<?> clazz = Class.forName(className, true, classLoader);
+            if (!GeneratedAssembler.class.isAssignableFrom(clazz)) {
+                return NONE;
+            }
+            Log.debug("DTO {} 使用编译期生成的组装器 {}", dtoClass.getName(), className);
+            return (GeneratedAssembler<?>) clazz.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return NONE;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            Log.warn("加载生成的组装器 {} 失败，使用反射组装：{}", className, e.toString());
+            return NONE;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
+import io.github.xtemplus.mybatisplus.query.FullTextConditions;
+import io.github.xtemplus.mybatisplus.query.InConditions;
+import io.github.xtemplus.mybatisplus.query.LikeConditions;
+import io.github.xtemplus.utils.Log;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 查询条件拼接器工厂
+ * <p>
+ * 根据 {@link AssemblyType} 生成 {@link ConditionApplier}，字符串列名与 Lambda 列共用同一套拼接逻辑
+ */
+public final class AssemblyConditions {
+
+    private AssemblyConditions() {
+    }
+
+    /**
+     * 判断值是否为空（包括 null、空集合、空数组、空字符串）
+     */
+    public static boolean isEmptyValue(Object value) {
+        if (ObjUtil.isNull(value)) {
+            return true;
+        }
+
+        // 检查空集合
+        if (value instanceof Collection && ((Collection<?>) value).isEmpty()) {
+            return true;
+        }
+
+        // 检查空数组
+        if (value.getClass().isArray() && java.lang.reflect.Array.getLength(value) == 0) {
+            return true;
+        }
+
+        // 检查空字符串（包括纯空格）
+        if (value instanceof String && ((String) value).trim().isEmpty()) {
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * 生成条件拼接器
+     *
+     * @param type     查询类型，null 时按 EQ 处理
+     * @param property 字段名（用于异常信息）
+     * @return 条件拼接器
+     */
+    public static ConditionApplier of(AssemblyType type, String property) {
+        return of(type, property, InStrategy.GLOBAL, false);
+    }
+
+    /**
+     * 生成条件拼接器
+     *
+     * @param type       查询类型，null 时按 EQ 处理
+     * @param property   字段名（用于异常信息）
+     * @param inStrategy IN 类型的大列表处理策略
+     * @return 条件拼接器
+     */
+    public static ConditionApplier of(AssemblyType type, String property, InStrategy inStrategy) {
+        return of(type, property, inStrategy, false);
+    }
+
+    /**
+     * 生成条件拼接器
+     *
+     * @param type       查询类型，null 时按 EQ 处理
+     * @param property   字段名（用于异常信息）
+     * @param inStrategy IN 类型的大列表处理策略
+     * @param escape     LIKE 类型是否转义值中的 % 和 _
+     * @return 条件拼接器
+     */
+    public static ConditionApplier of(AssemblyType type, String property, InStrategy inStrategy, boolean escape) {
+        if (ObjUtil.isNull(type)) {
+            return (wrapper, column, value) -> raw(wrapper).eq(column, value);
+        }
+
+        switch (type) {
+            case LIKE:
+                return like(property, SqlLike.DEFAULT, escape);
+
+            case LIKE_LEFT:
+                return like(property, SqlLike.LEFT, escape);
+
+            case LIKE_RIGHT:
+                return like(property, SqlLike.RIGHT, escape);
+
+            case FULLTEXT:
+                return (wrapper, column, value) -> {
+                    if (!(value instanceof String)) {
+                        throw new IllegalArgumentException(
+                            String.format("字段 %s 的 FULLTEXT 类型仅支持 String，当前类型：%s",
+                                property, value.getClass().getName())
+                        );
+                    }
+                    FullTextConditions.match(wrapper, column, value.toString());
+                };
+
+            case IN:
+                return (wrapper, column, value) -> {
+                    if (!(value instanceof Collection)) {
+                        throw new IllegalArgumentException(
+                            String.format("字段 %s 的 IN 类型仅支持 Collection，当前类型：%s",
+                                property, value.getClass().getName())
+                        );
+                    }
+                    InConditions.in(wrapper, column, (Collection<?>) value, inStrategy);
+                };
+
+            case BETWEEN:
+                return (wrapper, column, value) -> applyBetween(wrapper, column, value, property);
+
+            case GT:
+                return (wrapper, column, value) -> raw(wrapper).gt(column, value);
+
+            case LT:
+                return (wrapper, column, value) -> raw(wrapper).lt(column, value);
+
+            case GE:
+                return (wrapper, column, value) -> raw(wrapper).ge(column, value);
+
+            case LE:
+                return (wrapper, column, value) -> raw(wrapper).le(column, value);
+
+            case EQ:
+            default:
+                return (wrapper, column, value) -> raw(wrapper).eq(column, value);
+        }
+    }
+
+    private static ConditionApplier like(String property, SqlLike mode, boolean escape) {
+        return (wrapper, column, value) -> {
+            if (!(value instanceof String)) {
+                throw new IllegalArgumentException(
+                    String.format("字段 %s 的 LIKE 类型仅支持 String，当前类型：%s",
+                        property, value.getClass().getName())
+                );
+            }
+            LikeConditions.like(wrapper, column, value.toString(), mode, escape);
+        };
+    }
+
+    private static void applyBetween(AbstractWrapper<?, ?, ?> wrapper, Object column, Object value, String property) {
+        if (!(value instanceof List) || ((List<?>) value).size() != 2) {
+            throw new IllegalArgumentException(
+                String.format("字段 %s 的 BETWEEN 类型需为长度为2的List", property)
+            );
+        }
+        List<?> betweenList = (List<?>) value;
+        Object start = betweenList.get(0);
+        Object end = betweenList.get(1);
+
+        // 验证起始值和结束值不为 null
+        if (start == null || end == null) {
+            throw new IllegalArgumentException(
+                String.format("字段 %s 的 BETWEEN 起始值和结束值不能为 null", property)
+            );
+        }
+
+        // 如果是可比较类型，验证起始值不大于结束值
+        if (start instanceof Comparable && end instanceof Comparable) {
+            try {
+                @SuppressWarnings("unchecked")
+                int compare = ((Comparable<Object>) start).compareTo(end);
+                if (compare > 0) {
+                    Log.warn("字段 {} 的 BETWEEN 起始值({})大于结束值({})，将自动交换",
+                        property, start, end);
+                    // 自动交换，提升用户体验
+                    Object temp = start;
+                    start = end;
+                    end = temp;
+                }
+            } catch (ClassCastException e) {
+                // 类型不兼容，忽略比较
+                Log.debug("字段 {} 的 BETWEEN 值类型不兼容，跳过大小比较", property);
+            }
+        }
+
+        raw(wrapper).between(column, start, end);
+    }
+
+    /**
+     * 去掉 wrapper 的泛型约束，列类型由调用方保证与 wrapper 匹配
+     */
+    @SuppressWarnings("unchecked")
+    private static AbstractWrapper<Object, Object, ?> raw(AbstractWrapper<?, ?, ?> wrapper) {
+        return (AbstractWrapper<Object, Object, ?>) wrapper;
+    }
+}
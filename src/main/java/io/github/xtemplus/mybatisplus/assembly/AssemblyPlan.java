@@ -0,0 +1,279 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.StringUtils;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.xtemplus.mybatisplus.annotation.Assembly;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.criteria.SqlCriteria;
+import io.github.xtemplus.mybatisplus.support.LambdaColumns;
+import io.github.xtemplus.mybatisplus.support.PropertyAccessor;
+import io.github.xtemplus.mybatisplus.support.PropertyAccessors;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 查询 DTO 的组装计划
+ * <p>
+ * 每个 DTO 类只编译一次，预先完成字段过滤、列名解析、查询类型、条件拼接器与属性读取器的绑定，
+ * 计划本身不可变（Lambda 列引用与实体属性读取器按实体类惰性解析并缓存），可在多线程间共享
+ */
+final class AssemblyPlan {
+
+    private final Class<?> dtoClass;
+    private final FieldPlan[] fields;
+    /**
+     * 与 fields 一一对应的列名与查询类型，用于查询形态统计
+     */
+    private final String[] columns;
+    private final AssemblyType[] types;
+    /**
+     * 实体类 -> 与 fields 一一对应的 Lambda 列引用
+     */
+    private final Map<Class<?>, SFunction<?, ?>[]> lambdaColumns = new ConcurrentHashMap<>();
+    /**
+     * 实体类 -> 与 fields 一一对应的实体属性读取器与属性类型
+     */
+    private final Map<Class<?>, EntityProperties> entityProperties = new ConcurrentHashMap<>();
+
+    private AssemblyPlan(Class<?> dtoClass, FieldPlan[] fields) {
+        this.dtoClass = dtoClass;
+        this.fields = fields;
+        this.columns = new String[fields.length];
+        this.types = new AssemblyType[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            columns[i] = fields[i].column;
+            types[i] = fields[i].type;
+        }
+    }
+
+    Class<?> dtoClass() {
+        return dtoClass;
+    }
+
+    FieldPlan[] fields() {
+        return fields;
+    }
+
+    String[] columns() {
+        return columns;
+    }
+
+    AssemblyType[] types() {
+        return types;
+    }
+
+    /**
+     * 获取字段在实体上对应的 Lambda 列引用，按实体类解析一次后缓存
+     */
+    SFunction<?, ?>[] lambdaColumns(Class<?> entityClass) {
+        return lambdaColumns.computeIfAbsent(entityClass, this::resolveLambdaColumns);
+    }
+
+    private SFunction<?, ?>[] resolveLambdaColumns(Class<?> entityClass) {
+        TableInfo tableInfo = LambdaColumns.tableInfo(entityClass);
+        SFunction<?, ?>[] columns = new SFunction<?, ?>[fields.length];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < fields.length; i++) {
+            FieldPlan fieldPlan = fields[i];
+            String property = LambdaColumns.resolveProperty(tableInfo, fieldPlan.property, fieldPlan.column);
+            if (ObjUtil.isNull(property)) {
+                missing.add(fieldPlan.property);
+                continue;
+            }
+            columns[i] = LambdaColumns.of(entityClass, property);
+        }
+        // 跳过字段会使查询条件变宽、返回不应返回的数据，无法映射时直接失败
+        checkMissing(missing, entityClass);
+        return columns;
+    }
+
+    /**
+     * 获取字段在实体上对应的属性读取器，按实体类解析一次后缓存
+     */
+    PropertyAccessor[] entityAccessors(Class<?> entityClass) {
+        return entityProperties(entityClass).accessors;
+    }
+
+    /**
+     * 获取字段在实体上对应的属性类型，用于把 DTO 值转换为实体属性类型后在内存中比较
+     */
+    Class<?>[] entityTypes(Class<?> entityClass) {
+        return entityProperties(entityClass).types;
+    }
+
+    private EntityProperties entityProperties(Class<?> entityClass) {
+        return entityProperties.computeIfAbsent(entityClass, this::resolveEntityProperties);
+    }
+
+    private EntityProperties resolveEntityProperties(Class<?> entityClass) {
+        // 非 MyBatis-Plus 实体（如缓存的 VO）按字段名匹配
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        PropertyAccessor[] accessors = new PropertyAccessor[fields.length];
+        Class<?>[] types = new Class<?>[fields.length];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < fields.length; i++) {
+            FieldPlan fieldPlan = fields[i];
+            String property = ObjUtil.isNull(tableInfo)
+                ? fieldPlan.property
+                : LambdaColumns.resolveProperty(tableInfo, fieldPlan.property, fieldPlan.column);
+            Field entityField = ObjUtil.isNull(property) ? null : findField(entityClass, property);
+            if (ObjUtil.isNull(entityField)) {
+                missing.add(fieldPlan.property);
+                continue;
+            }
+            accessors[i] = PropertyAccessors.forField(entityField);
+            types[i] = entityField.getType();
+        }
+        checkMissing(missing, entityClass);
+        return new EntityProperties(accessors, types);
+    }
+
+    private void checkMissing(List<String> missing, Class<?> entityClass) {
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                "%s 的字段 %s 在实体 %s 中没有对应属性，不参与查询的字段请标注 @TableField(exist = false)",
+                dtoClass.getName(), missing, entityClass.getName()));
+        }
+    }
+
+    private static Field findField(Class<?> clazz, String name) {
+        while (clazz != null && clazz != Object.class) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+            clazz = clazz.getSuperclass();
+        }
+        return null;
+    }
+
+    /**
+     * 编译组装计划
+     */
+    static AssemblyPlan compile(Class<?> dtoClass) {
+        List<FieldPlan> plans = new ArrayList<>();
+        for (Field field : getAllFields(dtoClass)) {
+            // 跳过不应该参与查询的字段
+            if (shouldSkipField(field)) {
+                continue;
+            }
+            plans.add(new FieldPlan(dtoClass, field, field.getAnnotation(Assembly.class)));
+        }
+        return new AssemblyPlan(dtoClass, plans.toArray(new FieldPlan[0]));
+    }
+
+    /**
+     * 获取类的所有字段（包括继承的字段）
+     */
+    private static Field[] getAllFields(Class<?> clazz) {
+        List<Field> fieldList = new ArrayList<>();
+        while (clazz != null && clazz != Object.class) {
+            fieldList.addAll(Arrays.asList(clazz.getDeclaredFields()));
+            clazz = clazz.getSuperclass();
+        }
+        return fieldList.toArray(new Field[0]);
+    }
+
+    /**
+     * 判断字段是否应该被跳过
+     */
+    private static boolean shouldSkipField(Field field) {
+        int modifiers = field.getModifiers();
+
+        // 跳过 static、transient、final 字段
+        if (Modifier.isStatic(modifiers)
+            || Modifier.isTransient(modifiers)
+            || Modifier.isFinal(modifiers)) {
+            return true;
+        }
+
+        // 跳过 @TableField(exist = false) 标记的非数据库字段
+        TableField tableField = field.getAnnotation(TableField.class);
+        if (ObjUtil.isNotNull(tableField) && !tableField.exist()) {
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * 与 fields 一一对应的实体属性读取器与属性类型
+     */
+    private static final class EntityProperties {
+        private final PropertyAccessor[] accessors;
+        private final Class<?>[] types;
+
+        private EntityProperties(PropertyAccessor[] accessors, Class<?>[] types) {
+            this.accessors = accessors;
+            this.types = types;
+        }
+    }
+
+    /**
+     * 单个字段的组装计划
+     */
+    static final class FieldPlan {
+        final Field field;
+        final String property;
+        /**
+         * 列名：注解指定 > 字段名转下划线
+         * <p>
+         * 使用 MyBatis-Plus 内置的 StringUtils.camelToUnderline() 方法，确保转换逻辑一致，
+         * 例如：dictType -> dict_type, userId -> user_id, userID -> user_i_d
+         */
+        final String column;
+        final Assembly assembly;
+        /**
+         * 没有注解时默认使用 EQ 类型
+         */
+        final AssemblyType type;
+        /**
+         * LIKE 类型是否转义值中的 % 和 _
+         */
+        final boolean escape;
+        final ConditionApplier applier;
+        final BiConsumer<SqlCriteria, Object> criteriaApplier;
+        final PropertyAccessor accessor;
+        /**
+         * 请求参数 -> 字段类型的转换器
+         */
+        final Function<Object, Object> paramConverter;
+
+        private FieldPlan(Class<?> dtoClass, Field field, Assembly assembly) {
+            this.field = field;
+            this.property = field.getName();
+            this.assembly = assembly;
+            this.column = ObjUtil.isNull(assembly) || assembly.column().isEmpty()
+                ? StringUtils.camelToUnderline(property)
+                : assembly.column();
+            this.type = ObjUtil.isNull(assembly) ? AssemblyType.EQ : assembly.type();
+            this.applier = ObjUtil.isNull(assembly)
+                ? AssemblyConditions.of(type, property)
+                : AssemblyConditions.of(type, property, assembly.inStrategy(), assembly.escape());
+            this.escape = ObjUtil.isNotNull(assembly) && assembly.escape();
+            this.criteriaApplier = CriteriaConditions.of(type, property, column, escape, dtoClass);
+            this.accessor = PropertyAccessors.forField(field);
+            this.paramConverter = ParamConverters.of(field);
+        }
+
+        /**
+         * 读取字段值
+         */
+        Object read(Object queryDto) {
+            return accessor.get(queryDto);
+        }
+    }
+}
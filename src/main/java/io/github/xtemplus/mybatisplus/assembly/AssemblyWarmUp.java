@@ -0,0 +1,120 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import cn.hutool.core.util.ObjUtil;
+import io.github.xtemplus.mybatisplus.annotation.Assembly;
+import io.github.xtemplus.utils.Log;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 查询组装元数据启动预热
+ * <p>
+ * 在所有单例初始化完成后（Web 容器接收请求之前）扫描指定包下带 @Assembly 字段的类，
+ * 在有界线程池中并行编译组装计划，避免发布后首个请求承担反射与列名转换开销
+ */
+public class AssemblyWarmUp implements SmartInitializingSingleton {
+
+    private final List<String> basePackages;
+    private final int threads;
+
+    public AssemblyWarmUp(List<String> basePackages, int threads) {
+        this.basePackages = basePackages;
+        this.threads = Math.max(1, threads);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (ObjUtil.isEmpty(basePackages)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Set<String> classNames = scan();
+        AtomicInteger warmed = new AtomicInteger();
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, classNames.size())), r -> {
+            Thread thread = new Thread(r, "assembly-warm-up-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+            List<Future<?>> futures = new ArrayList<>(classNames.size());
+            for (String className : classNames) {
+                futures.add(executor.submit(() -> {
+                    if (warmUp(className, classLoader)) {
+                        warmed.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.warn("查询组装元数据预热被中断");
+        } catch (Exception e) {
+            Log.warn("查询组装元数据预热失败：{}", e.toString());
+        } finally {
+            executor.shutdownNow();
+        }
+        Log.info("查询组装元数据预热完成，扫描类 {} 个，预热 {} 个，耗时 {} ms",
+            classNames.size(), warmed.get(), System.currentTimeMillis() - start);
+    }
+
+    private Set<String> scan() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent() && beanDefinition.getMetadata().isConcrete();
+            }
+        };
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+        Set<String> classNames = new LinkedHashSet<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                classNames.add(candidate.getBeanClassName());
+            }
+        }
+        return classNames;
+    }
+
+    private boolean warmUp(String className, ClassLoader classLoader) {
+        try {
+            Class<?> clazz = ClassUtils.forName(className, classLoader);
+            if (!hasAssemblyField(clazz)) {
+                return false;
+            }
+            WrapperAssembler.warmUp(clazz);
+            return true;
+        } catch (Throwable e) {
+            Log.debug("预热类 {} 失败：{}", className, e.toString());
+            return false;
+        }
+    }
+
+    private static boolean hasAssemblyField(Class<?> clazz) {
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Assembly.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import io.github.xtemplus.mybatisplus.support.PropertyAccessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 批量组装结果：一条合并后的查询及其包含的 DTO
+ * <p>
+ * 同一形态（非空字段组合相同）的多个 DTO 合并为 (a AND b) OR (a AND b) ...，
+ * 只有一个 EQ 字段的形态合并为 col IN (...)；执行后通过 {@link #distribute} 将结果按 DTO 拆分：
+ * IN 形态按转换为实体属性类型后的 EQ 值匹配，其它形态按 {@link WrapperAssembler#toPredicate} 匹配。
+ * 内存比较无法完全复现数据库的比较规则（排序规则、尾随空格等），有行不属于任何 DTO 时拆分失败，
+ * 调用方需改为按 {@link #getWrapper(int)} 逐个 DTO 查询
+ *
+ * @param <T> 实体类型
+ */
+public class BatchQuery<T> {
+
+    private final QueryWrapper<T> wrapper;
+    private final WrapperAssembler.ShapeKey shape;
+    private final List<?> queryDtos;
+    private final int[] indexes;
+
+    BatchQuery(QueryWrapper<T> wrapper, WrapperAssembler.ShapeKey shape, List<?> queryDtos, int[] indexes) {
+        this.wrapper = wrapper;
+        this.shape = shape;
+        this.queryDtos = queryDtos;
+        this.indexes = indexes;
+    }
+
+    public QueryWrapper<T> getWrapper() {
+        return wrapper;
+    }
+
+    /**
+     * 单个 DTO 的查询条件，用于拆分失败时逐个查询
+     *
+     * @param index DTO 在输入列表中的下标，需为 {@link #getIndexes()} 之一
+     */
+    public QueryWrapper<T> getWrapper(int index) {
+        return WrapperAssembler.mergeShape(shape, queryDtos, Collections.singletonList(index));
+    }
+
+    /**
+     * 合并到本查询的 DTO 在输入列表中的下标
+     */
+    public int[] getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * 将查询结果拆分到各 DTO 对应的结果列表中，同一行可能属于多个 DTO
+     *
+     * @param rows    本查询的结果
+     * @param results 与输入 DTO 列表一一对应的结果列表
+     * @return 是否拆分成功；有行不属于任何 DTO 时返回 false，results 不变
+     */
+    public boolean distribute(List<T> rows, List<List<T>> results) {
+        if (rows.isEmpty()) {
+            return true;
+        }
+        if (indexes.length == 1) {
+            results.get(indexes[0]).addAll(rows);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<T> entityClass = (Class<T>) rows.get(0).getClass();
+        List<List<T>> matched = ObjUtil.isNull(shape.inField())
+            ? matchPredicates(rows, entityClass)
+            : matchKeys(rows, entityClass, shape.inField());
+        if (ObjUtil.isNull(matched)) {
+            return false;
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            results.get(indexes[i]).addAll(matched.get(i));
+        }
+        return true;
+    }
+
+    /**
+     * IN 形态：DTO 的 EQ 值转换为实体属性类型后作为键，按行的属性值查找所属 DTO
+     */
+    private List<List<T>> matchKeys(List<T> rows, Class<T> entityClass, int field) {
+        AssemblyPlan.FieldPlan fieldPlan = shape.plan.fields()[field];
+        Class<?> entityType = shape.plan.entityTypes(entityClass)[field];
+        PropertyAccessor accessor = shape.plan.entityAccessors(entityClass)[field];
+
+        Map<Object, List<Integer>> owners = new HashMap<>();
+        for (int i = 0; i < indexes.length; i++) {
+            Object value = PredicateConditions.coerce(fieldPlan.type, fieldPlan.read(queryDtos.get(indexes[i])), entityType);
+            owners.computeIfAbsent(PredicateConditions.key(value), k -> new ArrayList<>()).add(i);
+        }
+
+        List<List<T>> matched = emptyLists();
+        for (T row : rows) {
+            Object value = accessor.get(row);
+            List<Integer> targets = ObjUtil.isNull(value) ? null : owners.get(PredicateConditions.key(value));
+            if (ObjUtil.isNull(targets)) {
+                return null;
+            }
+            for (int target : targets) {
+                matched.get(target).add(row);
+            }
+        }
+        return matched;
+    }
+
+    private List<List<T>> matchPredicates(List<T> rows, Class<T> entityClass) {
+        List<Predicate<T>> predicates = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            predicates.add(WrapperAssembler.toPredicate(queryDtos.get(index), entityClass));
+        }
+
+        List<List<T>> matched = emptyLists();
+        for (T row : rows) {
+            boolean owned = false;
+            for (int i = 0; i < predicates.size(); i++) {
+                if (predicates.get(i).test(row)) {
+                    matched.get(i).add(row);
+                    owned = true;
+                }
+            }
+            if (!owned) {
+                return null;
+            }
+        }
+        return matched;
+    }
+
+    private List<List<T>> emptyLists() {
+        List<List<T>> lists = new ArrayList<>(indexes.length);
+        for (int i = 0; i < indexes.length; i++) {
+            lists.add(new ArrayList<>());
+        }
+        return lists;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+
+/**
+ * 查询条件拼接器
+ * <p>
+ * 在编译组装计划时按 {@link io.github.xtemplus.mybatisplus.annotation.AssemblyType} 预先生成，
+ * 请求期间直接调用，不再做注解解析与类型分派
+ */
+@FunctionalInterface
+public interface ConditionApplier {
+
+    /**
+     * 拼接查询条件
+     *
+     * @param wrapper QueryWrapper 或 LambdaQueryWrapper
+     * @param column  列（字符串列名或 SFunction）
+     * @param value   字段值（已保证非空）
+     */
+    void apply(AbstractWrapper<?, ?, ?> wrapper, Object column, Object value);
+}
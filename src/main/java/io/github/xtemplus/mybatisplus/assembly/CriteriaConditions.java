@@ -0,0 +1,141 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.criteria.SqlCriteria;
+import io.github.xtemplus.mybatisplus.query.FullTextConditions;
+import io.github.xtemplus.utils.Log;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link SqlCriteria} 条件拼接器工厂
+ * <p>
+ * 与 {@link AssemblyConditions} 对应，列名在编译组装计划时确定，拼接时只传入值；
+ * IN 类型超过 in-chunk-size 时统一按 OR 分块处理
+ */
+final class CriteriaConditions {
+
+    private CriteriaConditions() {
+    }
+
+    /**
+     * 生成条件拼接器
+     *
+     * @param type     查询类型，null 时按 EQ 处理
+     * @param property 字段名（用于异常信息）
+     * @param column   列名
+     * @param escape   LIKE 类型是否转义值中的 % 和 _
+     * @param dtoClass 查询 DTO 类，DTO 本身是实体时用于 H2 全文检索确定表与主键
+     * @return 条件拼接器
+     */
+    static BiConsumer<SqlCriteria, Object> of(AssemblyType type, String property, String column, boolean escape,
+                                              Class<?> dtoClass) {
+        if (ObjUtil.isNull(type)) {
+            return (criteria, value) -> criteria.eq(column, value);
+        }
+
+        switch (type) {
+            case LIKE:
+                return like(property, column, SqlLike.DEFAULT, escape);
+
+            case LIKE_LEFT:
+                return like(property, column, SqlLike.LEFT, escape);
+
+            case LIKE_RIGHT:
+                return like(property, column, SqlLike.RIGHT, escape);
+
+            case FULLTEXT:
+                // 与 FullTextConditions#match 一致在拼接时渲染，编译计划时实体的 TableInfo 可能尚未注册
+                return (criteria, value) -> {
+                    String text = requireString(property, "FULLTEXT", value);
+                    String template = FullTextConditions.template(column, dtoClass);
+                    if (ObjUtil.isNull(template)) {
+                        criteria.like(column, text, SqlLike.DEFAULT, false);
+                        return;
+                    }
+                    criteria.apply(template.replace("{0}", "?"), text);
+                };
+
+            case IN:
+                return (criteria, value) -> {
+                    if (!(value instanceof Collection)) {
+                        throw new IllegalArgumentException(
+                            String.format("字段 %s 的 IN 类型仅支持 Collection，当前类型：%s",
+                                property, value.getClass().getName())
+                        );
+                    }
+                    criteria.in(column, (Collection<?>) value);
+                };
+
+            case BETWEEN:
+                return (criteria, value) -> applyBetween(criteria, column, value, property);
+
+            case GT:
+                return (criteria, value) -> criteria.gt(column, value);
+
+            case LT:
+                return (criteria, value) -> criteria.lt(column, value);
+
+            case GE:
+                return (criteria, value) -> criteria.ge(column, value);
+
+            case LE:
+                return (criteria, value) -> criteria.le(column, value);
+
+            case EQ:
+            default:
+                return (criteria, value) -> criteria.eq(column, value);
+        }
+    }
+
+    private static BiConsumer<SqlCriteria, Object> like(String property, String column, SqlLike mode, boolean escape) {
+        return (criteria, value) -> criteria.like(column, requireString(property, "LIKE", value), mode, escape);
+    }
+
+    private static String requireString(String property, String type, Object value) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException(
+                String.format("字段 %s 的 %s 类型仅支持 String，当前类型：%s",
+                    property, type, value.getClass().getName())
+            );
+        }
+        return (String) value;
+    }
+
+    private static void applyBetween(SqlCriteria criteria, String column, Object value, String property) {
+        if (!(value instanceof List) || ((List<?>) value).size() != 2) {
+            throw new IllegalArgumentException(
+                String.format("字段 %s 的 BETWEEN 类型需为长度为2的List", property)
+            );
+        }
+        List<?> betweenList = (List<?>) value;
+        Object start = betweenList.get(0);
+        Object end = betweenList.get(1);
+        if (start == null || end == null) {
+            throw new IllegalArgumentException(
+                String.format("字段 %s 的 BETWEEN 起始值和结束值不能为 null", property)
+            );
+        }
+
+        // 与 AssemblyConditions 一致，起始值大于结束值时自动交换
+        if (start instanceof Comparable && end instanceof Comparable) {
+            try {
+                @SuppressWarnings("unchecked")
+                int compare = ((Comparable<Object>) start).compareTo(end);
+                if (compare > 0) {
+                    Log.warn("字段 {} 的 BETWEEN 起始值({})大于结束值({})，将自动交换", property, start, end);
+                    Object temp = start;
+                    start = end;
+                    end = temp;
+                }
+            } catch (ClassCastException e) {
+                Log.debug("字段 {} 的 BETWEEN 值类型不兼容，跳过大小比较", property);
+            }
+        }
+        criteria.between(column, start, end);
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import io.github.xtemplus.mybatisplus.query.LambdaQueryWrapperX;
+
+/**
+ * 编译期生成的查询条件组装器
+ * <p>
+ * 由 {@link io.github.xtemplus.mybatisplus.processor.AssemblyProcessor} 为带 @Assembly 字段的 DTO 生成，
+ * 类名为 DTO 类名加 Assembler 后缀，通过 {@link AssemblerRegistry} 查找
+ *
+ * @param <T> DTO 类型
+ */
+public interface GeneratedAssembler<T> {
+
+    /**
+     * 组装字符串列名条件
+     *
+     * @param queryDto 查询 DTO 对象
+     * @param wrapper  目标 wrapper
+     */
+    void assemble(T queryDto, QueryWrapper<T> wrapper);
+
+    /**
+     * 组装 Lambda 列条件（列引用为 DTO getter 的方法引用）
+     *
+     * @param queryDto 查询 DTO 对象
+     * @param wrapper  目标 wrapper
+     */
+    void assembleLambda(T queryDto, LambdaQueryWrapperX<T> wrapper);
+
+    /**
+     * 是否支持 Lambda 列条件
+     * <p>
+     * getter 不符合 getXxx / isXxx（boolean）命名时（如 name()、Lombok 为 isActive 字段生成的 isActive()），
+     * MyBatis-Plus 无法从方法引用还原属性名，此时返回 false，由调用方改用反射组装
+     */
+    default boolean supportsLambda() {
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.convert.ConvertException;
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 请求参数转换器工厂
+ * <p>
+ * 按 DTO 字段的（泛型）类型生成参数转换器，在编译组装计划时确定目标类型：
+ * <ul>
+ *     <li>标量字段取第一个参数值，使用 hutool Convert 转换</li>
+ *     <li>集合字段（IN、BETWEEN）接受多个同名参数或逗号分隔的单个参数，逐个转换为元素类型</li>
+ *     <li>空白字符串视为未传，返回 null</li>
+ * </ul>
+ */
+final class ParamConverters {
+
+    private ParamConverters() {
+    }
+
+    static Function<Object, Object> of(Field field) {
+        Class<?> type = field.getType();
+        String property = field.getName();
+        if (!Collection.class.isAssignableFrom(type)) {
+            return raw -> convert(type, first(raw), property);
+        }
+
+        Class<?> elementType = elementType(field.getGenericType());
+        boolean set = Set.class.isAssignableFrom(type);
+        return raw -> {
+            Collection<Object> values = set ? new LinkedHashSet<>() : new ArrayList<>();
+            for (Object token : tokens(raw)) {
+                Object value = convert(elementType, token, property);
+                if (ObjUtil.isNotNull(value)) {
+                    values.add(value);
+                }
+            }
+            return values.isEmpty() ? null : values;
+        };
+    }
+
+    private static Object convert(Class<?> type, Object raw, String property) {
+        if (ObjUtil.isNull(raw) || (raw instanceof CharSequence && StrUtil.isBlank((CharSequence) raw))) {
+            return null;
+        }
+        if (type.isInstance(raw)) {
+            return raw;
+        }
+        try {
+            Object value = Convert.convert(type, raw instanceof CharSequence ? raw.toString().trim() : raw);
+            if (ObjUtil.isNull(value)) {
+                throw new ConvertException("转换结果为 null");
+            }
+            return value;
+        } catch (RuntimeException e) {
+            // hutool 对不同类型抛出 ConvertException、NumberFormatException、DateException 等
+            throw new IllegalArgumentException(
+                String.format("参数 %s 类型错误，无法将 %s 转换为 %s", property, raw, type.getSimpleName()), e
+            );
+        }
+    }
+
+    /**
+     * 单值参数：数组或集合取第一个元素
+     */
+    private static Object first(Object raw) {
+        if (raw instanceof Object[]) {
+            Object[] array = (Object[]) raw;
+            return array.length == 0 ? null : array[0];
+        }
+        if (raw instanceof Collection) {
+            Collection<?> collection = (Collection<?>) raw;
+            return collection.isEmpty() ? null : collection.iterator().next();
+        }
+        return raw;
+    }
+
+    /**
+     * 多值参数：展开数组、集合，字符串按逗号拆分
+     */
+    private static Collection<Object> tokens(Object raw) {
+        Collection<Object> tokens = new ArrayList<>();
+        if (raw instanceof Object[]) {
+            for (Object item : (Object[]) raw) {
+                addTokens(tokens, item);
+            }
+        } else if (raw instanceof Collection) {
+            for (Object item : (Collection<?>) raw) {
+                addTokens(tokens, item);
+            }
+        } else {
+            addTokens(tokens, raw);
+        }
+        return tokens;
+    }
+
+    private static void addTokens(Collection<Object> tokens, Object item) {
+        if (item instanceof String) {
+            tokens.addAll(StrUtil.split((String) item, ',', true, true));
+        } else if (ObjUtil.isNotNull(item)) {
+            tokens.add(item);
+        }
+    }
+
+    private static Class<?> elementType(Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+            if (argument instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) argument).getRawType();
+            }
+        }
+        return Object.class;
+    }
+}
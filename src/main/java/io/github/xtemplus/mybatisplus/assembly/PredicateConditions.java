@@ -0,0 +1,306 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlUtils;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.utils.Log;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 内存过滤条件工厂
+ * <p>
+ * 与 {@link AssemblyConditions} 对应，按相同的查询类型语义生成针对实体属性值的 {@link Predicate}：
+ * <ul>
+ *     <li>实体属性为 null 时与 SQL 一致，任何条件都不成立</li>
+ *     <li>数值统一按 BigDecimal 比较，Integer 1 与 Long 1 相等</li>
+ *     <li>DTO 值先按 {@link #coerce} 转换为实体属性类型，String "7" 与 Long 7、Date 与 LocalDateTime 可以比较</li>
+ *     <li>字符串是否忽略大小写由 template.core.mybatis.case-insensitive-strings 决定，默认与数据库排序规则一致</li>
+ *     <li>LIKE 未开启转义时值中的 % 和 _ 按通配符处理</li>
+ *     <li>FULLTEXT 按词不区分大小写匹配，MySQL 任一词命中即可，PostgreSQL、H2 需全部命中，其它数据库按 LIKE '%值%'</li>
+ * </ul>
+ */
+final class PredicateConditions {
+
+    /**
+     * 无法比较（null 或类型不兼容）
+     */
+    private static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+    private PredicateConditions() {
+    }
+
+    /**
+     * 生成实体属性值的过滤条件
+     *
+     * @param type     查询类型，null 时按 EQ 处理
+     * @param property 字段名（用于异常信息）
+     * @param escape   LIKE 类型是否转义值中的 % 和 _
+     * @param value    DTO 字段值（非空）
+     * @return 过滤条件
+     */
+    static Predicate<Object> of(AssemblyType type, String property, boolean escape, Object value) {
+        boolean ci = MybatisPlusXConfig.isCaseInsensitiveStrings();
+        if (ObjUtil.isNull(type)) {
+            return eq(value, ci);
+        }
+
+        switch (type) {
+            case LIKE:
+                return like(requireString(property, "LIKE", value), SqlLike.DEFAULT, escape, ci);
+
+            case LIKE_LEFT:
+                return like(requireString(property, "LIKE", value), SqlLike.LEFT, escape, ci);
+
+            case LIKE_RIGHT:
+                return like(requireString(property, "LIKE", value), SqlLike.RIGHT, escape, ci);
+
+            case FULLTEXT:
+                return fullText(requireString(property, "FULLTEXT", value));
+
+            case IN:
+                if (!(value instanceof Collection)) {
+                    throw new IllegalArgumentException(
+                        String.format("字段 %s 的 IN 类型仅支持 Collection，当前类型：%s",
+                            property, value.getClass().getName())
+                    );
+                }
+                Set<Object> candidates = new HashSet<>();
+                for (Object candidate : (Collection<?>) value) {
+                    candidates.add(normalize(candidate, ci));
+                }
+                return actual -> ObjUtil.isNotNull(actual) && candidates.contains(normalize(actual, ci));
+
+            case BETWEEN:
+                return between(value, property, ci);
+
+            case GT:
+                return actual -> compare(actual, value, ci) > 0;
+
+            case LT:
+                return actual -> {
+                    int compare = compare(actual, value, ci);
+                    return compare < 0 && compare != INCOMPARABLE;
+                };
+
+            case GE:
+                return actual -> compare(actual, value, ci) >= 0;
+
+            case LE:
+                return actual -> {
+                    int compare = compare(actual, value, ci);
+                    return compare <= 0 && compare != INCOMPARABLE;
+                };
+
+            case EQ:
+            default:
+                return eq(value, ci);
+        }
+    }
+
+    /**
+     * 把 DTO 值转换为实体属性类型，集合逐个元素转换；LIKE、FULLTEXT 的字符串值与无法转换的值保持原样
+     *
+     * @param type       查询类型
+     * @param value      DTO 字段值（非空）
+     * @param entityType 实体属性类型，null 时不转换
+     * @return 转换后的值
+     */
+    static Object coerce(AssemblyType type, Object value, Class<?> entityType) {
+        if (ObjUtil.isNull(entityType) || isTextSearch(type)) {
+            return value;
+        }
+        if (value instanceof Collection) {
+            List<Object> converted = new ArrayList<>(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                converted.add(coerceValue(element, entityType));
+            }
+            return converted;
+        }
+        return coerceValue(value, entityType);
+    }
+
+    /**
+     * 按 {@link #of} 的相等语义生成比较键，用于按 EQ 值拆分结果
+     */
+    static Object key(Object value) {
+        return normalize(value, MybatisPlusXConfig.isCaseInsensitiveStrings());
+    }
+
+    private static Object coerceValue(Object value, Class<?> entityType) {
+        if (ObjUtil.isNull(value) || ClassUtil.isAssignable(entityType, value.getClass())) {
+            return value;
+        }
+        return Convert.convertQuietly(entityType, value, value);
+    }
+
+    private static boolean isTextSearch(AssemblyType type) {
+        return type == AssemblyType.LIKE || type == AssemblyType.LIKE_LEFT || type == AssemblyType.LIKE_RIGHT
+            || type == AssemblyType.FULLTEXT;
+    }
+
+    private static Predicate<Object> eq(Object value, boolean ci) {
+        Object expected = normalize(value, ci);
+        return actual -> ObjUtil.isNotNull(actual) && expected.equals(normalize(actual, ci));
+    }
+
+    private static Predicate<Object> like(String value, SqlLike mode, boolean escape, boolean ci) {
+        if (ci) {
+            Predicate<Object> lowered = like(value.toLowerCase(Locale.ROOT), mode, escape, false);
+            return actual -> ObjUtil.isNotNull(actual) && lowered.test(actual.toString().toLowerCase(Locale.ROOT));
+        }
+        if (escape || (value.indexOf('%') < 0 && value.indexOf('_') < 0)) {
+            switch (mode) {
+                case LEFT:
+                    return actual -> ObjUtil.isNotNull(actual) && actual.toString().endsWith(value);
+                case RIGHT:
+                    return actual -> ObjUtil.isNotNull(actual) && actual.toString().startsWith(value);
+                default:
+                    return actual -> ObjUtil.isNotNull(actual) && actual.toString().contains(value);
+            }
+        }
+
+        // 值中包含通配符时与数据库一致，按 LIKE 模式匹配
+        Pattern pattern = likePattern(SqlUtils.concatLike(value, mode));
+        return actual -> ObjUtil.isNotNull(actual) && pattern.matcher(actual.toString()).matches();
+    }
+
+    private static Pattern likePattern(String like) {
+        StringBuilder regex = new StringBuilder(like.length() + 16);
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < like.length(); i++) {
+            char c = like.charAt(i);
+            if (c == '%' || c == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static Predicate<Object> fullText(String value) {
+        DbType dbType = MybatisPlusXConfig.getDbType();
+        boolean anyTerm = dbType == DbType.MYSQL || dbType == DbType.MARIADB;
+        boolean allTerms = dbType == DbType.POSTGRE_SQL || dbType == DbType.H2;
+        if (!anyTerm && !allTerms) {
+            return like(value, SqlLike.DEFAULT, false, true);
+        }
+
+        // 去掉 MySQL 布尔模式的操作符后按空白拆分
+        String[] terms = value.toLowerCase(Locale.ROOT).replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+");
+        return actual -> {
+            if (ObjUtil.isNull(actual)) {
+                return false;
+            }
+            String text = actual.toString().toLowerCase(Locale.ROOT);
+            for (String term : terms) {
+                boolean hit = text.contains(term);
+                if (anyTerm && hit) {
+                    return true;
+                }
+                if (allTerms && !hit) {
+                    return false;
+                }
+            }
+            return allTerms;
+        };
+    }
+
+    private static Predicate<Object> between(Object value, String property, boolean ci) {
+        if (!(value instanceof List) || ((List<?>) value).size() != 2) {
+            throw new IllegalArgumentException(
+                String.format("字段 %s 的 BETWEEN 类型需为长度为2的List", property)
+            );
+        }
+        List<?> betweenList = (List<?>) value;
+        Object start = betweenList.get(0);
+        Object end = betweenList.get(1);
+        if (start == null || end == null) {
+            throw new IllegalArgumentException(
+                String.format("字段 %s 的 BETWEEN 起始值和结束值不能为 null", property)
+            );
+        }
+
+        // 与 AssemblyConditions 一致，起始值大于结束值时自动交换
+        int order = compare(start, end, ci);
+        if (order != INCOMPARABLE && order > 0) {
+            Log.warn("字段 {} 的 BETWEEN 起始值({})大于结束值({})，将自动交换", property, start, end);
+            Object temp = start;
+            start = end;
+            end = temp;
+        }
+        Object lower = start;
+        Object upper = end;
+        return actual -> {
+            int low = compare(actual, lower, ci);
+            int high = compare(actual, upper, ci);
+            return low != INCOMPARABLE && high != INCOMPARABLE && low >= 0 && high <= 0;
+        };
+    }
+
+    /**
+     * 比较实体属性值与条件值，无法比较时返回 {@link #INCOMPARABLE}
+     */
+    @SuppressWarnings("unchecked")
+    private static int compare(Object actual, Object expected, boolean ci) {
+        if (ObjUtil.isNull(actual) || ObjUtil.isNull(expected)) {
+            return INCOMPARABLE;
+        }
+        Object left = normalize(actual, ci);
+        Object right = normalize(expected, ci);
+        if (!(left instanceof Comparable) || !left.getClass().isInstance(right)) {
+            return INCOMPARABLE;
+        }
+        return Integer.signum(((Comparable<Object>) left).compareTo(right));
+    }
+
+    /**
+     * 数值统一转为去掉末尾 0 的 BigDecimal，字符统一转为字符串，忽略大小写时字符串转为小写
+     */
+    private static Object normalize(Object value, boolean ci) {
+        if (value instanceof Number) {
+            try {
+                BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+                return decimal.stripTrailingZeros();
+            } catch (NumberFormatException e) {
+                // NaN、Infinity 保持原值
+                return value;
+            }
+        }
+        if (value instanceof Character || value instanceof String) {
+            return ci ? value.toString().toLowerCase(Locale.ROOT) : value.toString();
+        }
+        return value;
+    }
+
+    private static String requireString(String property, String type, Object value) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException(
+                String.format("字段 %s 的 %s 类型仅支持 String，当前类型：%s",
+                    property, type, value.getClass().getName())
+            );
+        }
+        return (String) value;
+    }
+}
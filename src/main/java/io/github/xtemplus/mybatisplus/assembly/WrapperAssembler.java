@@ -1,19 +1,29 @@
 package io.github.xtemplus.mybatisplus.assembly;
 
 import cn.hutool.core.util.ObjUtil;
-import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
-import com.baomidou.mybatisplus.core.toolkit.StringUtils;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
-import io.github.xtemplus.mybatisplus.annotation.Assembly;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
+import io.github.xtemplus.mybatisplus.criteria.SqlCriteria;
+import io.github.xtemplus.mybatisplus.query.InConditions;
 import io.github.xtemplus.mybatisplus.query.LambdaQueryWrapperX;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.mybatisplus.support.PropertyAccessor;
+import io.github.xtemplus.mybatisplus.telemetry.QueryShapes;
 import io.github.xtemplus.utils.Log;
+import io.github.xtemplus.utils.ServletUtil;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * MyBatis-Plus 查询条件自动组装器
@@ -21,255 +31,153 @@ import java.util.function.BiConsumer;
  * 功能：
  * 1. 自动将查询 DTO 对象转换为 MyBatis-Plus 的 QueryWrapper
  * 2. 通过反射读取对象字段，根据 @Assembly 注解自动组装查询条件
- * 3. 支持多种查询类型（EQ、LIKE、IN、BETWEEN、GT、LT、GE、LE）
+ * 3. 支持多种查询类型（EQ、LIKE、LIKE_LEFT、LIKE_RIGHT、FULLTEXT、IN、BETWEEN、GT、LT、GE、LE）
  * 4. 自动处理驼峰命名到下划线的转换（使用 MyBatis-Plus 内置转换逻辑）
  * 5. 支持继承字段、过滤非数据库字段
+ * 6. 每个 DTO 类只编译一次组装计划（{@link AssemblyPlan}），请求期间不再做反射元数据查找
+ * 7. 存在编译期生成的组装器（{@link GeneratedAssembler}）时优先使用，完全绕过反射
+ * 8. 支持组装为轻量的 {@link SqlCriteria}，配合 BaseMapperX#selectListByCriteria 绕过 Wrapper
+ * 9. 支持编译为内存过滤条件（{@link #toPredicate(Object, Class)}），按相同语义过滤已缓存的实体
+ * 10. 开启 template.core.mybatis.shape-telemetry 后统计查询形态（{@link QueryShapes}）
+ * 11. 支持批量组装（{@link #assembleBatch(List)}），同形态的多个 DTO 合并为一条查询
+ * 12. 支持直接从请求参数组装（{@link #assembleParams(Map, Class)}），DTO 类只作为结构描述
  * </p>
  */
 public class WrapperAssembler {
-    private static final Map<Class<?>, Field[]> FIELD_CACHE = new ConcurrentHashMap<>();
-    private static final Map<Field, Assembly> ASSEMBLY_CACHE = new ConcurrentHashMap<>();
-    private static final Map<String, String> CAMEL_TO_UNDERSCORE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, AssemblyPlan> PLAN_CACHE = new ConcurrentHashMap<>();
 
     /**
-     * 驼峰命名转下划线命名
-     * 使用 MyBatis-Plus 内置的 StringUtils.camelToUnderline() 方法，确保转换逻辑一致
-     * 例如：dictType -> dict_type, userId -> user_id, userID -> user_i_d
-     * 
-     * 注意：MyBatis-Plus 的转换规则是遇到大写字母就加下划线，
-     * 对于连续大写（如 userID），会转为 user_i_d，这是标准行为
+     * 获取 DTO 类的组装计划（首次访问时编译并缓存）
      */
-    private static String camelToUnderscore(String camelCase) {
-        return CAMEL_TO_UNDERSCORE_CACHE.computeIfAbsent(camelCase, 
-            key -> StringUtils.camelToUnderline(key));
+    static AssemblyPlan planOf(Class<?> dtoClass) {
+        return PLAN_CACHE.computeIfAbsent(dtoClass, AssemblyPlan::compile);
     }
 
     /**
-     * 获取类的所有字段（包括继承的字段）
+     * 创建 QueryWrapper，类型是 MyBatis-Plus 实体时设置为 Wrapper 的实体类
      */
-    private static Field[] getAllFields(Class<?> clazz) {
-        List<Field> fieldList = new ArrayList<>();
-        while (clazz != null && clazz != Object.class) {
-            fieldList.addAll(Arrays.asList(clazz.getDeclaredFields()));
-            clazz = clazz.getSuperclass();
+    @SuppressWarnings("unchecked")
+    private static <T> QueryWrapper<T> newWrapper(Class<?> entityClass) {
+        QueryWrapper<T> wrapper = new QueryWrapper<>();
+        if (ObjUtil.isNotNull(TableInfoHelper.getTableInfo(entityClass))) {
+            wrapper.setEntityClass((Class<T>) entityClass);
         }
-        return fieldList.toArray(new Field[0]);
+        return wrapper;
     }
 
     /**
-     * 判断字段是否应该被跳过
+     * 预热 DTO 类的组装元数据：编译组装计划、查找生成的组装器，
+     * DTO 本身是已加载的实体时同时解析 Lambda 列引用
+     *
+     * @param dtoClass DTO 类
      */
-    private static boolean shouldSkipField(Field field) {
-        int modifiers = field.getModifiers();
-        
-        // 跳过 static、transient、final 字段
-        if (Modifier.isStatic(modifiers) 
-            || Modifier.isTransient(modifiers)
-            || Modifier.isFinal(modifiers)) {
-            return true;
-        }
-        
-        // 跳过 @TableField(exist = false) 标记的非数据库字段
-        TableField tableField = field.getAnnotation(TableField.class);
-        if (ObjUtil.isNotNull(tableField) && !tableField.exist()) {
-            return true;
+    public static void warmUp(Class<?> dtoClass) {
+        AssemblyPlan plan = planOf(dtoClass);
+        AssemblerRegistry.find(dtoClass);
+        if (ObjUtil.isNotNull(TableInfoHelper.getTableInfo(dtoClass))) {
+            plan.lambdaColumns(dtoClass);
         }
-        
-        return false;
     }
 
     /**
-     * 判断值是否为空（包括 null、空集合、空数组、空字符串）
+     * 组装 QueryWrapper（使用字符串列名）
+     * 
+     * @param queryDto 查询 DTO 对象
+     * @param <T> 实体类型
+     * @return QueryWrapper 对象
      */
-    private static boolean isEmptyValue(Object value) {
-        if (ObjUtil.isNull(value)) {
-            return true;
-        }
-        
-        // 检查空集合
-        if (value instanceof Collection && ((Collection<?>) value).isEmpty()) {
-            return true;
-        }
-        
-        // 检查空数组
-        if (value.getClass().isArray() && java.lang.reflect.Array.getLength(value) == 0) {
-            return true;
-        }
-        
-        // 检查空字符串（包括纯空格）
-        if (value instanceof String && ((String) value).trim().isEmpty()) {
-            return true;
-        }
-        
-        return false;
+    public static <T> QueryWrapper<T> assemble(T queryDto) {
+        return assemble(queryDto, null);
     }
 
     /**
-     * 公共组装逻辑
+     * 组装 QueryWrapper（使用字符串列名），并指定 Wrapper 的实体类
+     * <p>
+     * 需要表信息的条件依赖实体类，如 H2 的 FULLTEXT 按实体的表与主键过滤；
+     * 未指定时 DTO 本身是 MyBatis-Plus 实体则使用 DTO 类，否则这类条件按数据库退化（H2 FULLTEXT 退化为 LIKE）
+     *
+     * @param queryDto 查询 DTO 对象
+     * @param entityClass 实体类，可为 null
+     * @param <T> 实体类型
+     * @return QueryWrapper 对象
      */
-    private static <T, W> void assembleFields(T queryDto, W wrapper, BiConsumer<AssemblyFieldContext<T, W>, Object> consumer) {
-        // 使用 getAllFields 获取包括继承的所有字段
-        Field[] fields = FIELD_CACHE.computeIfAbsent(queryDto.getClass(), WrapperAssembler::getAllFields);
-        
-        for (Field field : fields) {
-            // 跳过不应该参与查询的字段
-            if (shouldSkipField(field)) {
-                continue;
+    public static <T> QueryWrapper<T> assemble(T queryDto, Class<T> entityClass) {
+        QueryWrapper<T> wrapper = newWrapper(ObjUtil.isNull(entityClass) ? queryDto.getClass() : entityClass);
+
+        // 优先使用编译期生成的组装器
+        GeneratedAssembler<T> generated = AssemblerRegistry.find(queryDto.getClass());
+        if (ObjUtil.isNotNull(generated)) {
+            generated.assemble(queryDto, wrapper);
+            if (MybatisPlusXConfig.isShapeTelemetry()) {
+                AssemblyPlan plan = planOf(queryDto.getClass());
+                recordShape(plan, shapeMask(plan, queryDto), queryDto.getClass(), wrapper);
             }
-            
-            Assembly assembly = ASSEMBLY_CACHE.computeIfAbsent(field, f -> f.getAnnotation(Assembly.class));
-            field.setAccessible(true);
-            
-            try {
-                Object value = field.get(queryDto);
-                
-                // 跳过空值（包括 null、空集合、空数组、空字符串）
-                if (isEmptyValue(value)) {
-                    continue;
-                }
-                
-                consumer.accept(new AssemblyFieldContext<>(field, assembly, wrapper, queryDto), value);
-                
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(
-                    String.format("访问字段 %s.%s 失败", 
-                        queryDto.getClass().getName(), 
-                        field.getName()
-                    ), e
-                );
+            return wrapper;
+        }
+
+        AssemblyPlan plan = planOf(queryDto.getClass());
+        AssemblyPlan.FieldPlan[] fields = plan.fields();
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object value = fields[i].read(queryDto);
+
+            // 跳过空值（包括 null、空集合、空数组、空字符串）
+            if (AssemblyConditions.isEmptyValue(value)) {
+                continue;
             }
+
+            fields[i].applier.apply(wrapper, fields[i].column, value);
+            mask |= bit(i);
         }
+        recordShape(plan, mask, queryDto.getClass(), wrapper);
+        return wrapper;
     }
 
     /**
-     * 组装 QueryWrapper（使用字符串列名）
-     * 
-     * @param queryDto 查询 DTO 对象
+     * 直接从请求参数组装 QueryWrapper（使用字符串列名），不创建 DTO
+     * <p>
+     * DTO 类只作为结构描述：按组装计划中的字段名取参数，按字段类型转换后拼接条件，
+     * 集合字段支持多个同名参数或逗号分隔；参数无法转换时抛出 IllegalArgumentException
+     *
+     * @param params      请求参数，值可以是 String、String[] 或已转换的对象
+     * @param schemaClass 查询 DTO 类
      * @param <T> 实体类型
      * @return QueryWrapper 对象
      */
-    public static <T> QueryWrapper<T> assemble(T queryDto) {
-        QueryWrapper<T> wrapper = new QueryWrapper<>();
-        assembleFields(queryDto, wrapper, (ctx, value) -> {
-            // 获取列名：注解指定 > 字段名转下划线
-            String column;
-            if (ObjUtil.isNull(ctx.assembly)) {
-                // 没有注解时，将驼峰字段名转为下划线列名
-                column = camelToUnderscore(ctx.field.getName());
-            } else {
-                // 有注解时，优先使用注解的column，否则转换字段名
-                column = ctx.assembly.column().isEmpty() 
-                        ? camelToUnderscore(ctx.field.getName()) 
-                        : ctx.assembly.column();
-            }
-            
-            // 没有注解时默认使用EQ类型
-            if (ObjUtil.isNull(ctx.assembly)) {
-                wrapper.eq(column, value);
-                return;
+    public static <T> QueryWrapper<T> assembleParams(Map<String, ?> params, Class<?> schemaClass) {
+        QueryWrapper<T> wrapper = newWrapper(schemaClass);
+        AssemblyPlan plan = planOf(schemaClass);
+        AssemblyPlan.FieldPlan[] fields = plan.fields();
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object raw = params.get(fields[i].property);
+            if (ObjUtil.isNull(raw)) {
+                continue;
             }
-            
-            // 根据注解类型组装查询条件
-            switch (ctx.assembly.type()) {
-                case LIKE:
-                    if (!(value instanceof String)) {
-                        throw new IllegalArgumentException(
-                            String.format("字段 %s 的 LIKE 类型仅支持 String，当前类型：%s", 
-                                ctx.field.getName(), value.getClass().getName())
-                        );
-                    }
-                    wrapper.like(column, value.toString());
-                    break;
-                    
-                case IN:
-                    if (!(value instanceof Collection)) {
-                        throw new IllegalArgumentException(
-                            String.format("字段 %s 的 IN 类型仅支持 Collection，当前类型：%s", 
-                                ctx.field.getName(), value.getClass().getName())
-                        );
-                    }
-                    wrapper.in(column, (Collection<?>) value);
-                    break;
-                    
-                case BETWEEN:
-                    if (!(value instanceof List) || ((List<?>) value).size() != 2) {
-                        throw new IllegalArgumentException(
-                            String.format("字段 %s 的 BETWEEN 类型需为长度为2的List", ctx.field.getName())
-                        );
-                    }
-                    List<?> betweenList = (List<?>) value;
-                    Object start = betweenList.get(0);
-                    Object end = betweenList.get(1);
-                    
-                    // 验证起始值和结束值不为 null
-                    if (start == null || end == null) {
-                        throw new IllegalArgumentException(
-                            String.format("字段 %s 的 BETWEEN 起始值和结束值不能为 null", ctx.field.getName())
-                        );
-                    }
-                    
-                    // 如果是可比较类型，验证起始值不大于结束值
-                    if (start instanceof Comparable && end instanceof Comparable) {
-                        try {
-                            @SuppressWarnings("unchecked")
-                            int compare = ((Comparable<Object>) start).compareTo(end);
-                            if (compare > 0) {
-                                Log.warn("字段 {} 的 BETWEEN 起始值({})大于结束值({})，将自动交换",
-                                    ctx.field.getName(), start, end);
-                                // 自动交换，提升用户体验
-                                Object temp = start;
-                                start = end;
-                                end = temp;
-                            }
-                        } catch (ClassCastException e) {
-                            // 类型不兼容，忽略比较
-                            Log.debug("字段 {} 的 BETWEEN 值类型不兼容，跳过大小比较", ctx.field.getName());
-                        }
-                    }
-                    
-                    wrapper.between(column, start, end);
-                    break;
-                    
-                case EQ:
-                    wrapper.eq(column, value);
-                    break;
-                    
-                case GT:
-                    wrapper.gt(column, value);
-                    break;
-                    
-                case LT:
-                    wrapper.lt(column, value);
-                    break;
-                    
-                case GE:
-                    wrapper.ge(column, value);
-                    break;
-                    
-                case LE:
-                    wrapper.le(column, value);
-                    break;
-                    
-                default:
-                    wrapper.eq(column, value);
-                    break;
+            Object value = fields[i].paramConverter.apply(raw);
+
+            // 跳过空值（包括 null、空集合、空数组、空字符串）
+            if (AssemblyConditions.isEmptyValue(value)) {
+                continue;
             }
-        });
+
+            fields[i].applier.apply(wrapper, fields[i].column, value);
+            mask |= bit(i);
+        }
+        recordShape(plan, mask, schemaClass, wrapper);
         return wrapper;
     }
 
     /**
-     * 组装 QueryWrapper（使用字符串列名）
-     * 
-     * @param queryDto 查询 DTO 对象
-     * @param entityClass 实体类（保留参数以保持向后兼容，实际未使用）
+     * 从当前请求参数组装 QueryWrapper
+     *
+     * @param schemaClass 查询 DTO 类
      * @param <T> 实体类型
      * @return QueryWrapper 对象
-     * @deprecated 建议使用 {@link #assemble(Object)}，entityClass 参数未使用
+     * @see #assembleParams(Map, Class)
      */
-    @Deprecated
-    public static <T> QueryWrapper<T> assemble(T queryDto, Class<T> entityClass) {
-        return assemble(queryDto);
+    public static <T> QueryWrapper<T> assembleParams(Class<?> schemaClass) {
+        return assembleParams(ServletUtil.getParams(), schemaClass);
     }
 
     /**
@@ -283,120 +191,301 @@ public class WrapperAssembler {
      */
     public static <T> LambdaQueryWrapperX<T> assembleLambda(T queryDto, Class<T> entityClass, Map<String, SFunction<T, ?>> propertyFuncMap) {
         LambdaQueryWrapperX<T> wrapper = new LambdaQueryWrapperX<>();
-        assembleFields(queryDto, wrapper, (ctx, value) -> {
-            String property = ctx.field.getName();
-            SFunction<T, ?> func = propertyFuncMap.get(property);
-            
+        wrapper.setEntityClass(entityClass);
+        AssemblyPlan plan = planOf(queryDto.getClass());
+        AssemblyPlan.FieldPlan[] fields = plan.fields();
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            AssemblyPlan.FieldPlan fieldPlan = fields[i];
+            Object value = fieldPlan.read(queryDto);
+
+            // 跳过空值（包括 null、空集合、空数组、空字符串）
+            if (AssemblyConditions.isEmptyValue(value)) {
+                continue;
+            }
+
+            SFunction<T, ?> func = propertyFuncMap.get(fieldPlan.property);
+
             // 如果字段不在 Map 中，记录警告并跳过
             if (ObjUtil.isNull(func)) {
-                Log.warn("字段 {} 在 propertyFuncMap 中不存在，已跳过该字段的查询条件组装", property);
-                return;
+                Log.warn("字段 {} 在 propertyFuncMap 中不存在，已跳过该字段的查询条件组装", fieldPlan.property);
+                continue;
+            }
+
+            fieldPlan.applier.apply(wrapper, func, value);
+            mask |= bit(i);
+        }
+        recordShape(plan, mask, entityClass, wrapper);
+        return wrapper;
+    }
+
+    /**
+     * 组装 LambdaQueryWrapper（Lambda 列引用由实体 TableInfo 自动解析）
+     * <p>
+     * DTO 字段按属性名（其次按列名）匹配实体属性，解析结果按 (DTO 类, 实体类) 缓存，
+     * 实体中不存在的字段在首次解析时抛出 IllegalArgumentException
+     *
+     * @param queryDto 查询 DTO 对象
+     * @param entityClass 实体类
+     * @param <T> 实体类型
+     * @return LambdaQueryWrapperX 对象
+     */
+    public static <T> LambdaQueryWrapperX<T> assembleLambda(T queryDto, Class<T> entityClass) {
+        LambdaQueryWrapperX<T> wrapper = new LambdaQueryWrapperX<>();
+        wrapper.setEntityClass(entityClass);
+
+        // DTO 即实体时优先使用编译期生成的组装器
+        if (queryDto.getClass() == entityClass) {
+            GeneratedAssembler<T> generated = AssemblerRegistry.find(entityClass);
+            if (ObjUtil.isNotNull(generated) && generated.supportsLambda()) {
+                generated.assembleLambda(queryDto, wrapper);
+                if (MybatisPlusXConfig.isShapeTelemetry()) {
+                    AssemblyPlan plan = planOf(entityClass);
+                    recordShape(plan, shapeMask(plan, queryDto), entityClass, wrapper);
+                }
+                return wrapper;
+            }
+        }
+
+        AssemblyPlan plan = planOf(queryDto.getClass());
+        AssemblyPlan.FieldPlan[] fields = plan.fields();
+        SFunction<?, ?>[] columns = plan.lambdaColumns(entityClass);
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object value = fields[i].read(queryDto);
+
+            // 跳过空值（包括 null、空集合、空数组、空字符串）
+            if (AssemblyConditions.isEmptyValue(value)) {
+                continue;
+            }
+
+            fields[i].applier.apply(wrapper, columns[i], value);
+            mask |= bit(i);
+        }
+        recordShape(plan, mask, entityClass, wrapper);
+        return wrapper;
+    }
+
+    /**
+     * 组装轻量查询条件（使用字符串列名）
+     * <p>
+     * 条件直接渲染为带 ? 占位符的 SQL 片段，不创建 Wrapper，
+     * 通过 BaseMapperX#selectListByCriteria 执行
+     *
+     * @param queryDto 查询 DTO 对象
+     * @return SqlCriteria 对象
+     */
+    public static SqlCriteria assembleCriteria(Object queryDto) {
+        SqlCriteria criteria = new SqlCriteria();
+        AssemblyPlan plan = planOf(queryDto.getClass());
+        AssemblyPlan.FieldPlan[] fields = plan.fields();
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object value = fields[i].read(queryDto);
+
+            // 跳过空值（包括 null、空集合、空数组、空字符串）
+            if (AssemblyConditions.isEmptyValue(value)) {
+                continue;
             }
-            
-            // 没有注解时默认使用EQ类型
-            if (ObjUtil.isNull(ctx.assembly)) {
-                wrapper.eq(func, value);
-                return;
+
+            fields[i].criteriaApplier.accept(criteria, value);
+            mask |= bit(i);
+        }
+        recordShape(plan, mask, queryDto.getClass(), criteria);
+        return criteria;
+    }
+
+    /**
+     * 将查询 DTO 编译为实体的内存过滤条件
+     * <p>
+     * 与 SQL 组装使用相同的字段规则与查询类型语义，跳过空值；DTO 字段按属性名（其次按列名）匹配实体属性，
+     * 实体中不存在的字段在首次解析时抛出 IllegalArgumentException。语义差异见 {@link PredicateConditions}
+     *
+     * @param queryDto    查询 DTO 对象
+     * @param entityClass 实体类
+     * @param <T>         实体类型
+     * @return 过滤条件，没有有效条件时始终为 true
+     */
+    public static <T> Predicate<T> toPredicate(Object queryDto, Class<T> entityClass) {
+        AssemblyPlan plan = planOf(queryDto.getClass());
+        AssemblyPlan.FieldPlan[] fields = plan.fields();
+        PropertyAccessor[] accessors = plan.entityAccessors(entityClass);
+        Class<?>[] entityTypes = plan.entityTypes(entityClass);
+
+        List<PropertyAccessor> readers = new ArrayList<>(fields.length);
+        List<Predicate<Object>> tests = new ArrayList<>(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            Object value = fields[i].read(queryDto);
+
+            // 跳过空值（包括 null、空集合、空数组、空字符串）
+            if (AssemblyConditions.isEmptyValue(value)) {
+                continue;
+            }
+
+            readers.add(accessors[i]);
+            Object expected = PredicateConditions.coerce(fields[i].type, value, entityTypes[i]);
+            tests.add(PredicateConditions.of(fields[i].type, fields[i].property, fields[i].escape, expected));
+        }
+
+        PropertyAccessor[] readerArray = readers.toArray(new PropertyAccessor[0]);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Predicate<Object>[] testArray = tests.toArray(new Predicate[0]);
+        return entity -> {
+            for (int i = 0; i < readerArray.length; i++) {
+                if (!testArray[i].test(readerArray[i].get(entity))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * 批量组装：按形态（DTO 类与非空字段组合）分组，每组最多 batch-query-size 个 DTO 合并为一条查询
+     * <p>
+     * 同形态的 DTO 合并为 (a AND b) OR (a AND b) ...，只有一个 EQ 字段的形态合并为 col IN (...)，
+     * 执行后通过 {@link BatchQuery#distribute} 按 DTO 拆分结果
+     *
+     * @param queryDtos 查询 DTO 列表
+     * @param <T> 实体类型
+     * @return 合并后的查询
+     */
+    public static <T> List<BatchQuery<T>> assembleBatch(List<?> queryDtos) {
+        // 形态 -> DTO 下标，保持首次出现的顺序
+        Map<ShapeKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < queryDtos.size(); i++) {
+            Object queryDto = queryDtos.get(i);
+            AssemblyPlan plan = planOf(queryDto.getClass());
+            groups.computeIfAbsent(new ShapeKey(plan, presentFields(plan, queryDto)), k -> new ArrayList<>()).add(i);
+        }
+
+        int batchSize = MybatisPlusXConfig.getBatchQuerySize();
+        List<BatchQuery<T>> batches = new ArrayList<>();
+        for (Map.Entry<ShapeKey, List<Integer>> group : groups.entrySet()) {
+            List<Integer> indexes = group.getValue();
+            for (int from = 0; from < indexes.size(); from += batchSize) {
+                List<Integer> chunk = indexes.subList(from, Math.min(from + batchSize, indexes.size()));
+                batches.add(new BatchQuery<>(mergeShape(group.getKey(), queryDtos, chunk), group.getKey(), queryDtos,
+                    chunk.stream().mapToInt(Integer::intValue).toArray()));
+            }
+        }
+        return batches;
+    }
+
+    static <T> QueryWrapper<T> mergeShape(ShapeKey shape, List<?> queryDtos, List<Integer> indexes) {
+        QueryWrapper<T> wrapper = newWrapper(shape.plan.dtoClass());
+        AssemblyPlan.FieldPlan[] fields = shape.plan.fields();
+        int[] present = shape.present;
+
+        // 单个 EQ 字段：合并为 IN
+        if (indexes.size() > 1 && ObjUtil.isNotNull(shape.inField())) {
+            AssemblyPlan.FieldPlan fieldPlan = fields[present[0]];
+            Set<Object> values = new LinkedHashSet<>();
+            for (int index : indexes) {
+                values.add(fieldPlan.read(queryDtos.get(index)));
             }
-            
-            // 根据注解类型组装查询条件
-            switch (ctx.assembly.type()) {
-                case LIKE:
-                    if (!(value instanceof String)) {
-                        throw new IllegalArgumentException(
-                            String.format("字段 %s 的 LIKE 类型仅支持 String，当前类型：%s", 
-                                property, value.getClass().getName())
-                        );
-                    }
-                    wrapper.like(func, value.toString());
-                    break;
-                    
-                case IN:
-                    if (!(value instanceof Collection)) {
-                        throw new IllegalArgumentException(
-                            String.format("字段 %s 的 IN 类型仅支持 Collection，当前类型：%s", 
-                                property, value.getClass().getName())
-                        );
-                    }
-                    wrapper.in(func, (Collection<?>) value);
-                    break;
-                    
-                case BETWEEN:
-                    if (!(value instanceof List) || ((List<?>) value).size() != 2) {
-                        throw new IllegalArgumentException(
-                            String.format("字段 %s 的 BETWEEN 类型需为长度为2的List", property)
-                        );
-                    }
-                    List<?> betweenList = (List<?>) value;
-                    Object start = betweenList.get(0);
-                    Object end = betweenList.get(1);
-                    
-                    // 验证起始值和结束值不为 null
-                    if (start == null || end == null) {
-                        throw new IllegalArgumentException(
-                            String.format("字段 %s 的 BETWEEN 起始值和结束值不能为 null", property)
-                        );
-                    }
-                    
-                    // 如果是可比较类型，验证起始值不大于结束值
-                    if (start instanceof Comparable && end instanceof Comparable) {
-                        try {
-                            @SuppressWarnings("unchecked")
-                            int compare = ((Comparable<Object>) start).compareTo(end);
-                            if (compare > 0) {
-                                Log.warn("字段 {} 的 BETWEEN 起始值({})大于结束值({})，将自动交换",
-                                    property, start, end);
-                                // 自动交换
-                                Object temp = start;
-                                start = end;
-                                end = temp;
-                            }
-                        } catch (ClassCastException e) {
-                            Log.debug("字段 {} 的 BETWEEN 值类型不兼容，跳过大小比较", property);
-                        }
-                    }
-                    
-                    wrapper.between(func, start, end);
-                    break;
-                    
-                case EQ:
-                    wrapper.eq(func, value);
-                    break;
-                    
-                case GT:
-                    wrapper.gt(func, value);
-                    break;
-                    
-                case LT:
-                    wrapper.lt(func, value);
-                    break;
-                    
-                case GE:
-                    wrapper.ge(func, value);
-                    break;
-                    
-                case LE:
-                    wrapper.le(func, value);
-                    break;
+            InConditions.in(wrapper, fieldPlan.column, values, InStrategy.GLOBAL);
+            return wrapper;
+        }
+
+        if (present.length == 0 || indexes.size() == 1) {
+            Object queryDto = queryDtos.get(indexes.get(0));
+            for (int field : present) {
+                fields[field].applier.apply(wrapper, fields[field].column, fields[field].read(queryDto));
             }
-        });
+            return wrapper;
+        }
+
+        for (int index : indexes) {
+            Object queryDto = queryDtos.get(index);
+            wrapper.or(nested -> {
+                for (int field : present) {
+                    fields[field].applier.apply(nested, fields[field].column, fields[field].read(queryDto));
+                }
+            });
+        }
         return wrapper;
     }
 
     /**
-     * 组装上下文（内部类）
+     * 非空字段下标
      */
-    private static class AssemblyFieldContext<T, W> {
-        Field field;
-        Assembly assembly;
-        W wrapper;
-        T queryDto;
-
-        public AssemblyFieldContext(Field field, Assembly assembly, W wrapper, T queryDto) {
-            this.field = field;
-            this.assembly = assembly;
-            this.wrapper = wrapper;
-            this.queryDto = queryDto;
+    private static int[] presentFields(AssemblyPlan plan, Object queryDto) {
+        AssemblyPlan.FieldPlan[] fields = plan.fields();
+        int[] present = new int[fields.length];
+        int size = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (!AssemblyConditions.isEmptyValue(fields[i].read(queryDto))) {
+                present[size++] = i;
+            }
         }
+        return Arrays.copyOf(present, size);
+    }
+
+    /**
+     * 批量组装的分组键：组装计划 + 非空字段下标
+     */
+    static final class ShapeKey {
+        final AssemblyPlan plan;
+        final int[] present;
+
+        private ShapeKey(AssemblyPlan plan, int[] present) {
+            this.plan = plan;
+            this.present = present;
+        }
+
+        /**
+         * 只有一个 EQ 字段时合并为 IN 的字段下标，其它形态返回 null
+         */
+        Integer inField() {
+            return present.length == 1 && plan.fields()[present[0]].type == AssemblyType.EQ ? present[0] : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ShapeKey)) {
+                return false;
+            }
+            ShapeKey that = (ShapeKey) o;
+            return plan == that.plan && Arrays.equals(present, that.present);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(plan) + Arrays.hashCode(present);
+        }
+    }
+
+    /**
+     * 记录查询形态（未开启 template.core.mybatis.shape-telemetry 时不记录）
+     */
+    private static void recordShape(AssemblyPlan plan, long mask, Class<?> entityClass, Object query) {
+        if (MybatisPlusXConfig.isShapeTelemetry()) {
+            QueryShapes.record(plan.dtoClass(), plan.columns(), plan.types(), mask, entityClass, query);
+        }
+    }
+
+    /**
+     * 生成的组装器不经过组装计划，开启形态统计时按计划重新计算非空字段位图
+     */
+    private static long shapeMask(AssemblyPlan plan, Object queryDto) {
+        AssemblyPlan.FieldPlan[] fields = plan.fields();
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (!AssemblyConditions.isEmptyValue(fields[i].read(queryDto))) {
+                mask |= bit(i);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 字段在形态位图中的位，超过 64 个字段的部分不参与统计
+     */
+    private static long bit(int index) {
+        return index < Long.SIZE ? 1L << index : 0;
     }
 }
@@ -0,0 +1,350 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+import com.baomidou.mybatisplus.core.toolkit.LambdaUtils;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.reflection.property.PropertyNamer;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 数据库原生批量装载工具
+ * <p>
+ * MySQL / MariaDB 使用 LOAD DATA LOCAL INFILE（JDBC URL 需开启 allowLoadLocalInfile=true，服务端需开启 local_infile），
+ * PostgreSQL 使用 COPY FROM STDIN，驱动 API 通过反射调用。实体按两者共用的文本格式（制表符分隔、反斜杠转义、\N 表示 NULL）
+ * 边读边编码，完整数据不会出现在内存或磁盘中；其它数据库、驱动不可用或实体含有字节数组、枚举、自定义 TypeHandler 字段时
+ * 回退为分批 insertBatch
+ * <p>
+ * 原生装载按列写入，值为 null 的字段写入 NULL 而不是列默认值，需要保留默认值的列可通过 columns 排除。
+ * MySQL 的 LOCAL 装载隐含 IGNORE，重复键、类型转换等错误只产生警告并跳过或截断该行，装载后检查影响行数与警告，
+ * 有跳过的行或警告时抛出异常；不在事务中时已装载的行不会回滚
+ */
+public final class BulkLoads {
+
+    private static final String[] MYSQL_STATEMENTS = {
+        "com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement", "org.mariadb.jdbc.MariaDbStatement"
+    };
+
+    private static final String PG_CONNECTION = "org.postgresql.PGConnection";
+
+    /**
+     * 失败信息中保留的警告条数
+     */
+    private static final int MAX_WARNINGS = 5;
+
+    private BulkLoads() {
+    }
+
+    /**
+     * 批量装载
+     *
+     * @param entities  实体流，装载结束后关闭
+     * @param batchSize 回退为 insertBatch 时每批的行数
+     * @param fallback  回退时插入一批实体的逻辑
+     * @param <T>       实体类型
+     * @return 写入行数，MySQL 为数据库返回的影响行数
+     */
+    public static <T> long load(Stream<T> entities, int batchSize, Consumer<List<T>> fallback) {
+        return load(entities, batchSize, null, fallback);
+    }
+
+    /**
+     * 只装载指定的列，未指定的列使用数据库默认值
+     *
+     * @param entities  实体流，装载结束后关闭
+     * @param batchSize 回退为 insertBatch 时每批的行数
+     * @param columns   写入的字段，为空时写入全部字段；非自增主键总是写入
+     * @param fallback  回退时插入一批实体的逻辑，按 insertBatch 的字段策略写入
+     * @param <T>       实体类型
+     * @return 写入行数，MySQL 为数据库返回的影响行数
+     */
+    public static <T> long load(Stream<T> entities, int batchSize, List<SFunction<T, ?>> columns, Consumer<List<T>> fallback) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize 必须大于 0");
+        }
+        try (Stream<T> stream = entities) {
+            Iterator<T> iterator = stream.iterator();
+            if (!iterator.hasNext()) {
+                return 0;
+            }
+            T first = iterator.next();
+            TableInfo tableInfo = TableInfoHelper.getTableInfo(first.getClass());
+            Iterator<T> rows = prepend(first, iterator);
+            if (!supports(tableInfo)) {
+                return insertBatch(rows, batchSize, fallback);
+            }
+            return copy(tableInfo, rows, properties(tableInfo, columns), batchSize, fallback);
+        }
+    }
+
+    /**
+     * 数据库类型、驱动参数与实体字段是否支持原生装载
+     */
+    private static boolean supports(TableInfo tableInfo) {
+        switch (MybatisPlusXConfig.getDbType()) {
+            case MYSQL:
+            case MARIADB:
+                if (!InsertBatches.url(tableInfo.getEntityType()).contains("allowloadlocalinfile=true")) {
+                    return false;
+                }
+                break;
+
+            case POSTGRE_SQL:
+                break;
+
+            default:
+                return false;
+        }
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            Class<?> type = field.getPropertyType();
+            if (field.getTypeHandler() != null || type == byte[].class || type.isEnum()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 写入字段的属性名，为空时返回 null 表示全部字段
+     */
+    private static <T> Set<String> properties(TableInfo tableInfo, List<SFunction<T, ?>> columns) {
+        if (CollUtil.isEmpty(columns)) {
+            return null;
+        }
+        Set<String> properties = new HashSet<>();
+        for (SFunction<T, ?> column : columns) {
+            String property = PropertyNamer.methodToProperty(LambdaUtils.extract(column).getImplMethodName());
+            if (tableInfo.getFieldList().stream().noneMatch(field -> field.getProperty().equals(property))
+                && !property.equals(tableInfo.getKeyProperty())) {
+                throw new IllegalArgumentException(String.format("%s 没有字段 %s", tableInfo.getEntityType().getName(), property));
+            }
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    private static <T> long copy(TableInfo tableInfo, Iterator<T> rows, Set<String> selected, int batchSize,
+                                 Consumer<List<T>> fallback) {
+        boolean mysql = MybatisPlusXConfig.getDbType() != DbType.POSTGRE_SQL;
+        List<String> columns = new ArrayList<>();
+        List<String> properties = new ArrayList<>();
+        // 自增主键由数据库生成
+        if (tableInfo.havePK() && tableInfo.getIdType() != IdType.AUTO) {
+            columns.add(tableInfo.getKeyColumn());
+            properties.add(tableInfo.getKeyProperty());
+        }
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            if (ObjUtil.isNull(selected) || selected.contains(field.getProperty())) {
+                columns.add(field.getColumn());
+                properties.add(field.getProperty());
+            }
+        }
+        RowInputStream<T> input = new RowInputStream<>(rows, encoder(tableInfo, properties, mysql));
+
+        DataSource dataSource = Upserts.configuration(tableInfo).getEnvironment().getDataSource();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (!mysql) {
+                Object copyManager = copyManager(connection);
+                if (copyManager == null) {
+                    return insertBatch(rows, batchSize, fallback);
+                }
+                String sql = "COPY " + tableInfo.getTableName() + " (" + String.join(", ", columns) + ") FROM STDIN";
+                Object copied = copyManager.getClass().getMethod("copyIn", String.class, InputStream.class)
+                    .invoke(copyManager, sql, input);
+                return ((Number) copied).longValue();
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                Class<?> type = mysqlStatementType(statement);
+                if (type == null) {
+                    return insertBatch(rows, batchSize, fallback);
+                }
+                // 文件名被忽略，驱动从该输入流读取数据
+                type.getMethod("setLocalInfileInputStream", InputStream.class).invoke(statement.unwrap(type), input);
+                String sql = "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + tableInfo.getTableName()
+                    + " CHARACTER SET utf8mb4 (" + String.join(", ", columns) + ")";
+                long loaded = statement.executeUpdate(sql);
+                checkWarnings(tableInfo, input.getCount(), loaded, statement.getWarnings());
+                return loaded;
+            }
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException("批量装载失败: " + e.getTargetException().getMessage(), e.getTargetException());
+        } catch (SQLException | ReflectiveOperationException e) {
+            throw new RuntimeException("批量装载失败: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * LOCAL 装载的错误只以警告形式返回，存在跳过的行或警告时视为失败
+     */
+    static void checkWarnings(TableInfo tableInfo, long rows, long loaded, SQLWarning warning) {
+        if (loaded == rows && ObjUtil.isNull(warning)) {
+            return;
+        }
+        List<String> messages = new ArrayList<>();
+        for (SQLWarning w = warning; ObjUtil.isNotNull(w) && messages.size() < MAX_WARNINGS; w = w.getNextWarning()) {
+            messages.add(w.getMessage());
+        }
+        throw new RuntimeException(String.format("批量装载 %s 失败: %d 行中跳过 %d 行，警告: %s",
+            tableInfo.getTableName(), rows, rows - loaded, messages));
+    }
+
+    private static <T> Function<T, String> encoder(TableInfo tableInfo, List<String> properties, boolean mysql) {
+        MetaObjectHandler handler = GlobalConfigUtils.getMetaObjectHandler(Upserts.configuration(tableInfo)).orElse(null);
+        IdentifierGenerator generator = Upserts.generator(tableInfo);
+        return entity -> {
+            Upserts.prepare(tableInfo, entity, handler, generator, false);
+            StringBuilder line = new StringBuilder(properties.size() * 16);
+            for (int i = 0; i < properties.size(); i++) {
+                if (i > 0) {
+                    line.append('\t');
+                }
+                text(line, tableInfo.getPropertyValue(entity, properties.get(i)), mysql);
+            }
+            return line.append('\n').toString();
+        };
+    }
+
+    /**
+     * 按 LOAD DATA / COPY 的默认文本格式写出一个值
+     */
+    private static void text(StringBuilder line, Object value, boolean mysql) {
+        if (value == null) {
+            line.append("\\N");
+            return;
+        }
+        if (value instanceof Boolean) {
+            line.append(mysql ? ((Boolean) value ? "1" : "0") : value.toString());
+            return;
+        }
+        if (value instanceof BigDecimal) {
+            line.append(((BigDecimal) value).toPlainString());
+            return;
+        }
+        if (value instanceof LocalDateTime) {
+            value = Timestamp.valueOf((LocalDateTime) value);
+        } else if (value.getClass() == Date.class) {
+            value = new Timestamp(((Date) value).getTime());
+        }
+
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                default:
+                    line.append(c);
+            }
+        }
+    }
+
+    private static Object copyManager(Connection connection) throws SQLException, ReflectiveOperationException {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        if (!ClassUtils.isPresent(PG_CONNECTION, classLoader)) {
+            return null;
+        }
+        Class<?> type = ClassUtils.resolveClassName(PG_CONNECTION, classLoader);
+        if (!connection.isWrapperFor(type)) {
+            return null;
+        }
+        Object pgConnection = connection.unwrap(type);
+        return type.getMethod("getCopyAPI").invoke(pgConnection);
+    }
+
+    private static Class<?> mysqlStatementType(Statement statement) throws SQLException {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        for (String name : MYSQL_STATEMENTS) {
+            if (ClassUtils.isPresent(name, classLoader)) {
+                Class<?> type = ClassUtils.resolveClassName(name, classLoader);
+                if (statement.isWrapperFor(type)) {
+                    return type;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static <T> long insertBatch(Iterator<T> rows, int batchSize, Consumer<List<T>> fallback) {
+        long count = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+            if (batch.size() == batchSize) {
+                fallback.accept(batch);
+                count += batch.size();
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            fallback.accept(batch);
+            count += batch.size();
+        }
+        return count;
+    }
+
+    private static <T> Iterator<T> prepend(T first, Iterator<T> rest) {
+        return new Iterator<T>() {
+
+            private T head = first;
+
+            @Override
+            public boolean hasNext() {
+                return head != null || rest.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (head == null) {
+                    return rest.next();
+                }
+                T next = head;
+                head = null;
+                return next;
+            }
+        };
+    }
+}
@@ -0,0 +1,322 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.extension.service.IService;
+import io.github.xtemplus.core.common.BaseErrEnum;
+import io.github.xtemplus.core.enums.error.OptErrEnum;
+import io.github.xtemplus.core.enums.error.ValidateErrEnum;
+import io.github.xtemplus.utils.Log;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 流式导入流水线：读取 → 解析、校验 → 分批 → 写入
+ * <p>
+ * 各阶段在独立线程上并发运行，之间通过有界队列传递数据，下游变慢时上游阻塞，内存占用只与队列容量和批大小有关。
+ * 解析或校验失败的行记录为 {@link ImportRowError}（错误码见 {@link RowRejectedException}，其它异常按
+ * {@link ValidateErrEnum#PARAM_FORMAT_ERROR} / {@link ValidateErrEnum#PARAM_INVALID} 处理）；
+ * 每批在独立事务中写入，整批失败时回滚并逐行重试，仍失败的行记为 {@link OptErrEnum#IMPORT_FAILED}。
+ * 解析线程多于 1 个时写入顺序与读取顺序不一致
+ *
+ * @param <R> 原始行类型，如 String[]、Map
+ * @param <T> 实体类型
+ */
+public class ImportPipeline<R, T> {
+
+    private final Class<?> entityClass;
+
+    private final Function<R, T> parser;
+
+    private final Consumer<List<T>> batchWriter;
+
+    private final Consumer<T> rowWriter;
+
+    private Consumer<T> validator;
+
+    private Consumer<ImportRowError> onError;
+
+    private PlatformTransactionManager transactionManager;
+
+    private int batchSize = IService.DEFAULT_BATCH_SIZE;
+
+    private int queueCapacity = IService.DEFAULT_BATCH_SIZE * 2;
+
+    private int parseThreads = 1;
+
+    private int maxErrors = 1000;
+
+    /**
+     * @param entityClass 实体类，没有事务管理器时用于定位写入事务的数据源
+     * @param parser      原始行转换为实体
+     * @param batchWriter 写入一批实体
+     * @param rowWriter   整批失败后逐行重试时写入单个实体
+     */
+    public ImportPipeline(Class<?> entityClass, Function<R, T> parser, Consumer<List<T>> batchWriter, Consumer<T> rowWriter) {
+        this.entityClass = entityClass;
+        this.parser = parser;
+        this.batchWriter = batchWriter;
+        this.rowWriter = rowWriter;
+    }
+
+    /**
+     * 校验实体，不通过时抛出 {@link RowRejectedException}，多个解析线程时并发调用
+     */
+    public ImportPipeline<R, T> validator(Consumer<T> validator) {
+        this.validator = validator;
+        return this;
+    }
+
+    /**
+     * 错误行回调，在解析或写入线程上调用，需线程安全；用于把错误行持续写出而不受 maxErrors 限制
+     */
+    public ImportPipeline<R, T> onError(Consumer<ImportRowError> onError) {
+        this.onError = onError;
+        return this;
+    }
+
+    /**
+     * 写入事务使用的事务管理器，未指定时见 {@link ParallelInserts}
+     */
+    public ImportPipeline<R, T> transactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+        return this;
+    }
+
+    public ImportPipeline<R, T> batchSize(int batchSize) {
+        this.batchSize = positive(batchSize, "batchSize");
+        return this;
+    }
+
+    /**
+     * 读取与解析阶段之后各自队列的容量
+     */
+    public ImportPipeline<R, T> queueCapacity(int queueCapacity) {
+        this.queueCapacity = positive(queueCapacity, "queueCapacity");
+        return this;
+    }
+
+    public ImportPipeline<R, T> parseThreads(int parseThreads) {
+        this.parseThreads = positive(parseThreads, "parseThreads");
+        return this;
+    }
+
+    /**
+     * 结果中保留的错误行数量上限
+     */
+    public ImportPipeline<R, T> maxErrors(int maxErrors) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("maxErrors 不能小于 0");
+        }
+        this.maxErrors = maxErrors;
+        return this;
+    }
+
+    /**
+     * 执行导入，阻塞到全部写入完成
+     * <p>
+     * 读取异常或写入逻辑之外的异常会中止导入并抛出 IllegalStateException，已提交的批次不会回滚
+     *
+     * @param rows 原始行，导入结束后关闭
+     * @return 计数与错误行
+     */
+    public ImportResult run(Stream<R> rows) {
+        ImportResult result = new ImportResult(maxErrors);
+        BlockingQueue<Row<R>> parseQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Row<T>> writeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger activeParsers = new AtomicInteger(parseThreads);
+        TransactionTemplate transaction = ParallelInserts.transaction(entityClass, transactionManager);
+
+        ExecutorService executor = ParallelInserts.newExecutor(parseThreads + 2, "import-pipeline-");
+        CompletionService<Void> stages = new ExecutorCompletionService<>(executor);
+        try (Stream<R> stream = rows) {
+            stages.submit(() -> read(stream.iterator(), parseQueue, result), null);
+            for (int i = 0; i < parseThreads; i++) {
+                stages.submit(() -> parse(parseQueue, writeQueue, activeParsers, result), null);
+            }
+            stages.submit(() -> write(writeQueue, transaction, result), null);
+            for (int i = 0; i < parseThreads + 2; i++) {
+                stages.take().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("导入被中断，" + result, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("导入失败，" + result + "：" + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+            result.finish();
+        }
+        Log.info("导入完成：{}", result);
+        return result;
+    }
+
+    private void read(Iterator<R> iterator, BlockingQueue<Row<R>> parseQueue, ImportResult result) {
+        try {
+            long rowNumber = 0;
+            while (iterator.hasNext()) {
+                R raw = iterator.next();
+                result.read().incrementAndGet();
+                parseQueue.put(new Row<>(++rowNumber, raw));
+            }
+            for (int i = 0; i < parseThreads; i++) {
+                parseQueue.put(Row.end());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void parse(BlockingQueue<Row<R>> parseQueue, BlockingQueue<Row<T>> writeQueue, AtomicInteger activeParsers,
+                       ImportResult result) {
+        try {
+            for (Row<R> row = parseQueue.take(); !row.isEnd(); row = parseQueue.take()) {
+                T entity = convert(row, result);
+                if (ObjUtil.isNotNull(entity)) {
+                    writeQueue.put(new Row<>(row.number, entity));
+                }
+            }
+            // 最后一个解析线程结束时通知写入阶段
+            if (activeParsers.decrementAndGet() == 0) {
+                writeQueue.put(Row.end());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 解析并校验一行，不通过时记录错误并返回 null
+     */
+    private T convert(Row<R> row, ImportResult result) {
+        T entity;
+        try {
+            entity = parser.apply(row.value);
+        } catch (RowRejectedException e) {
+            reject(row.number, e.getErr(), e.getMessage(), result);
+            return null;
+        } catch (RuntimeException e) {
+            reject(row.number, ValidateErrEnum.PARAM_FORMAT_ERROR, e.toString(), result);
+            return null;
+        }
+        if (ObjUtil.isNull(entity)) {
+            reject(row.number, ValidateErrEnum.PARAM_REQUIRED, "解析结果为空", result);
+            return null;
+        }
+
+        if (ObjUtil.isNotNull(validator)) {
+            try {
+                validator.accept(entity);
+            } catch (RowRejectedException e) {
+                reject(row.number, e.getErr(), e.getMessage(), result);
+                return null;
+            } catch (RuntimeException e) {
+                reject(row.number, ValidateErrEnum.PARAM_INVALID, e.toString(), result);
+                return null;
+            }
+        }
+        return entity;
+    }
+
+    private void write(BlockingQueue<Row<T>> writeQueue, TransactionTemplate transaction, ImportResult result) {
+        List<Row<T>> batch = new ArrayList<>(batchSize);
+        try {
+            for (Row<T> row = writeQueue.take(); !row.isEnd(); row = writeQueue.take()) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    flush(batch, transaction, result);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                flush(batch, transaction, result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<Row<T>> batch, TransactionTemplate transaction, ImportResult result) {
+        List<T> entities = new ArrayList<>(batch.size());
+        for (Row<T> row : batch) {
+            entities.add(row.value);
+        }
+        try {
+            transaction.executeWithoutResult(status -> batchWriter.accept(entities));
+            result.written().addAndGet(entities.size());
+            result.batches().incrementAndGet();
+            return;
+        } catch (RuntimeException e) {
+            Log.warn("导入第 {} - {} 行整批写入失败，逐行重试：{}", batch.get(0).number, batch.get(batch.size() - 1).number, e.toString());
+            result.retriedBatches().incrementAndGet();
+        }
+
+        for (Row<T> row : batch) {
+            try {
+                rowWriter.accept(row.value);
+                result.written().incrementAndGet();
+            } catch (RuntimeException e) {
+                result.writeFailed().incrementAndGet();
+                error(new ImportRowError(row.number, OptErrEnum.IMPORT_FAILED, e.toString()), result);
+            }
+        }
+    }
+
+    private void reject(long rowNumber, BaseErrEnum err, String reason, ImportResult result) {
+        result.rejected().incrementAndGet();
+        error(new ImportRowError(rowNumber, ObjUtil.defaultIfNull(err, ValidateErrEnum.PARAM_INVALID), reason), result);
+    }
+
+    private void error(ImportRowError error, ImportResult result) {
+        result.addError(error);
+        if (ObjUtil.isNotNull(onError)) {
+            onError.accept(error);
+        }
+    }
+
+    private static int positive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " 必须大于 0");
+        }
+        return value;
+    }
+
+    /**
+     * 队列中的一行，END 表示上游已结束
+     */
+    private static final class Row<V> {
+
+        private static final Row<?> END = new Row<>(-1, null);
+
+        private final long number;
+
+        private final V value;
+
+        private Row(long number, V value) {
+            this.number = number;
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Row<V> end() {
+            return (Row<V>) END;
+        }
+
+        private boolean isEnd() {
+            return this == END;
+        }
+    }
+}
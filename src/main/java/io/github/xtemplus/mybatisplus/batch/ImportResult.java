@@ -0,0 +1,148 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 导入流水线的计数与错误行，导入过程中可从其它线程读取
+ */
+public class ImportResult {
+
+    private final AtomicLong read = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicLong written = new AtomicLong();
+
+    private final AtomicLong writeFailed = new AtomicLong();
+
+    private final AtomicLong batches = new AtomicLong();
+
+    private final AtomicLong retriedBatches = new AtomicLong();
+
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private final int maxErrors;
+
+    private final long startTime = System.currentTimeMillis();
+
+    private volatile long endTime;
+
+    ImportResult(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    void addError(ImportRowError error) {
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+    }
+
+    AtomicLong read() {
+        return read;
+    }
+
+    AtomicLong rejected() {
+        return rejected;
+    }
+
+    AtomicLong written() {
+        return written;
+    }
+
+    AtomicLong writeFailed() {
+        return writeFailed;
+    }
+
+    AtomicLong batches() {
+        return batches;
+    }
+
+    AtomicLong retriedBatches() {
+        return retriedBatches;
+    }
+
+    void finish() {
+        endTime = System.currentTimeMillis();
+    }
+
+    /**
+     * 已读取的行数
+     */
+    public long getRead() {
+        return read.get();
+    }
+
+    /**
+     * 解析或校验未通过的行数
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * 已写入的行数
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    /**
+     * 逐行重试后仍写入失败的行数
+     */
+    public long getWriteFailed() {
+        return writeFailed.get();
+    }
+
+    /**
+     * 已写入的批次数
+     */
+    public long getBatches() {
+        return batches.get();
+    }
+
+    /**
+     * 整批写入失败、改为逐行重试的批次数
+     */
+    public long getRetriedBatches() {
+        return retriedBatches.get();
+    }
+
+    /**
+     * 错误行，最多保留 maxErrors 条，完整数量见 getRejected + getWriteFailed
+     */
+    public List<ImportRowError> getErrors() {
+        synchronized (errors) {
+            return Collections.unmodifiableList(new ArrayList<>(errors));
+        }
+    }
+
+    /**
+     * 耗时（毫秒），导入未结束时为已用时间
+     */
+    public long getElapsedMillis() {
+        return (endTime == 0 ? System.currentTimeMillis() : endTime) - startTime;
+    }
+
+    /**
+     * 写入吞吐量（行/秒）
+     */
+    public long getRowsPerSecond() {
+        return getWritten() * 1000 / Math.max(getElapsedMillis(), 1);
+    }
+
+    public boolean isSuccess() {
+        return getRejected() == 0 && getWriteFailed() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportResult{read=" + getRead() + ", rejected=" + getRejected() + ", written=" + getWritten()
+            + ", writeFailed=" + getWriteFailed() + ", batches=" + getBatches() + ", retriedBatches=" + getRetriedBatches()
+            + ", elapsedMillis=" + getElapsedMillis() + ", rowsPerSecond=" + getRowsPerSecond() + "}";
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import io.github.xtemplus.core.common.BaseErrEnum;
+
+/**
+ * 导入时被拒绝或写入失败的一行
+ */
+public class ImportRowError {
+
+    /**
+     * 行号，按读取顺序从 1 开始
+     */
+    private final long rowNumber;
+
+    private final Integer errCode;
+
+    private final String errMsg;
+
+    /**
+     * 具体原因
+     */
+    private final String reason;
+
+    ImportRowError(long rowNumber, BaseErrEnum err, String reason) {
+        this.rowNumber = rowNumber;
+        this.errCode = err.errCode();
+        this.errMsg = err.errMsg();
+        this.reason = reason;
+    }
+
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    public Integer getErrCode() {
+        return errCode;
+    }
+
+    public String getErrMsg() {
+        return errMsg;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportRowError{rowNumber=" + rowNumber + ", errCode=" + errCode + ", errMsg=" + errMsg
+            + ", reason=" + reason + "}";
+    }
+}
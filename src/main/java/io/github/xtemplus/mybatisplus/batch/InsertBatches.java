@@ -0,0 +1,222 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.utils.Log;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 多行 INSERT 分批工具
+ * <p>
+ * 按数据库的占位符上限与 template.core.mybatis.multi-row-insert-max-bytes 估算每条语句的行数；
+ * JDBC URL 开启了 rewriteBatchedStatements（MySQL）或 reWriteBatchedInserts（PostgreSQL）时
+ * 驱动已把 JDBC 批处理改写为多行 INSERT，此时继续使用 JDBC 批处理
+ */
+public final class InsertBatches {
+
+    /**
+     * 抽样估算行大小的实体数量
+     */
+    private static final int SAMPLE_SIZE = 16;
+
+    /**
+     * 非字符串参数与每行 SQL 文本的估算字节数
+     */
+    private static final int VALUE_BYTES = 16;
+
+    private static final Map<DataSource, String> URLS = new ConcurrentHashMap<>();
+
+    private InsertBatches() {
+    }
+
+    /**
+     * 是否使用多行 INSERT
+     *
+     * @param entityClass 实体类
+     * @return 开启了多行 INSERT、数据库支持且驱动未改写批量语句时返回 true
+     */
+    public static boolean multiRow(Class<?> entityClass) {
+        if (!MybatisPlusXConfig.isMultiRowInsert() || maxRows(MybatisPlusXConfig.getDbType()) <= 0) {
+            return false;
+        }
+        String url = url(entityClass);
+        return !url.contains("rewritebatchedstatements=true") && !url.contains("rewritebatchedinserts=true");
+    }
+
+    /**
+     * 按插入策略判断值是否写入，与 MyBatis-Plus 单条 insert 一致：NEVER 不写入，IGNORED / ALWAYS 总是写入，
+     * NOT_EMPTY 跳过 null 与空字符串，其余跳过 null
+     *
+     * @param field 字段，null 表示主键
+     * @param value 实体值
+     * @return 是否写入
+     */
+    public static boolean insertable(TableFieldInfo field, Object value) {
+        if (ObjUtil.isNull(field)) {
+            return ObjUtil.isNotNull(value);
+        }
+        switch (field.getInsertStrategy()) {
+            case NEVER:
+                return false;
+
+            case IGNORED:
+            case ALWAYS:
+                return true;
+
+            case NOT_EMPTY:
+                return ObjUtil.isNotNull(value) && !(value instanceof CharSequence && ((CharSequence) value).length() == 0);
+
+            default:
+                return ObjUtil.isNotNull(value);
+        }
+    }
+
+    /**
+     * 按写入列分组，组内实体的写入列相同，多行语句中不写入的列使用数据库默认值，保持首次出现的顺序
+     *
+     * @param tableInfo 实体元数据
+     * @param entities  实体们，主键生成与自动填充需已完成
+     * @return 分组
+     */
+    public static <T> Collection<List<T>> groupByColumns(TableInfo tableInfo, Collection<T> entities) {
+        List<TableFieldInfo> fields = tableInfo.getFieldList();
+        Map<BitSet, List<T>> groups = new LinkedHashMap<>();
+        for (T entity : entities) {
+            BitSet columns = new BitSet(fields.size() + 1);
+            if (tableInfo.havePK() && insertable(null, tableInfo.getPropertyValue(entity, tableInfo.getKeyProperty()))) {
+                columns.set(fields.size());
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                if (insertable(fields.get(i), tableInfo.getPropertyValue(entity, fields.get(i).getProperty()))) {
+                    columns.set(i);
+                }
+            }
+            groups.computeIfAbsent(columns, k -> new ArrayList<>()).add(entity);
+        }
+        return groups.values();
+    }
+
+    /**
+     * 估算每条多行 INSERT（或 upsert）的行数
+     *
+     * @param tableInfo 实体元数据
+     * @param entities  实体们（抽样前几条估算行大小）
+     * @param size      调用方指定的上限
+     * @return 行数，至少为 1
+     */
+    public static int chunkSize(TableInfo tableInfo, Collection<?> entities, int size) {
+        DbType dbType = MybatisPlusXConfig.getDbType();
+        int columns = tableInfo.getFieldList().size() + (tableInfo.havePK() ? 1 : 0);
+        int maxRows = maxRows(dbType);
+        int rows = maxRows > 0 ? Math.min(size, maxRows) : size;
+        rows = Math.min(rows, (maxParams(dbType) - 1) / Math.max(columns, 1));
+        // 按估算行大小的 2 倍留出余量
+        rows = (int) Math.min(rows, MybatisPlusXConfig.getMultiRowInsertMaxBytes() / (2L * rowBytes(tableInfo, entities)));
+        return Math.max(rows, 1);
+    }
+
+    /**
+     * 单条语句的最大行数，不支持多行 VALUES 时返回 0
+     */
+    private static int maxRows(DbType dbType) {
+        switch (dbType) {
+            case MYSQL:
+            case MARIADB:
+            case POSTGRE_SQL:
+            case H2:
+            case HSQL:
+            case SQLITE:
+            case DB2:
+            case KINGBASE_ES:
+            case OPENGAUSS:
+            case CLICK_HOUSE:
+                return Integer.MAX_VALUE;
+
+            case SQL_SERVER:
+                return 1000;
+
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * 单条语句的最大占位符数量
+     */
+    static int maxParams(DbType dbType) {
+        switch (dbType) {
+            case SQL_SERVER:
+                return 2100;
+
+            case SQLITE:
+                return 999;
+
+            case POSTGRE_SQL:
+            case KINGBASE_ES:
+            case OPENGAUSS:
+                return Short.MAX_VALUE;
+
+            default:
+                return 65535;
+        }
+    }
+
+    /**
+     * 抽样估算一行参数的字节数，字符串按 UTF-8 每字符 3 字节计
+     */
+    private static long rowBytes(TableInfo tableInfo, Collection<?> entities) {
+        long total = 0;
+        int sampled = 0;
+        Iterator<?> iterator = entities.iterator();
+        while (sampled < SAMPLE_SIZE && iterator.hasNext()) {
+            Object entity = iterator.next();
+            long bytes = VALUE_BYTES * 2L;
+            for (TableFieldInfo field : tableInfo.getFieldList()) {
+                Object value = tableInfo.getPropertyValue(entity, field.getProperty());
+                if (value instanceof CharSequence) {
+                    bytes += ((CharSequence) value).length() * 3L;
+                } else if (value instanceof byte[]) {
+                    bytes += ((byte[]) value).length * 2L;
+                } else {
+                    bytes += VALUE_BYTES;
+                }
+            }
+            total += bytes;
+            sampled++;
+        }
+        return Math.max(sampled == 0 ? VALUE_BYTES : total / sampled, 1);
+    }
+
+    /**
+     * 实体所在数据源的 JDBC URL（小写），按数据源缓存，读取失败时返回空串
+     */
+    static String url(Class<?> entityClass) {
+        DataSource dataSource = Upserts.sessionFactory(entityClass).getConfiguration().getEnvironment().getDataSource();
+        return URLS.computeIfAbsent(dataSource, InsertBatches::readUrl);
+    }
+
+    private static String readUrl(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return StrUtil.nullToEmpty(connection.getMetaData().getURL()).toLowerCase(Locale.ROOT);
+        } catch (SQLException e) {
+            Log.warn("读取 JDBC URL 失败，按默认驱动参数处理: {}", e.getMessage());
+            return "";
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 并行批量插入的结果，按分区序号排列
+ */
+public class ParallelInsertResult {
+
+    private final List<PartitionResult> partitions;
+
+    ParallelInsertResult(List<PartitionResult> partitions) {
+        this.partitions = Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * 全部分区是否都已提交
+     */
+    public boolean isSuccess() {
+        return partitions.stream().allMatch(PartitionResult::isSuccess);
+    }
+
+    public List<PartitionResult> getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * 失败（已回滚）的分区
+     */
+    public List<PartitionResult> getFailedPartitions() {
+        return partitions.stream().filter(partition -> !partition.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * 已提交的数据条数
+     */
+    public int getInsertedRows() {
+        return partitions.stream().filter(PartitionResult::isSuccess).mapToInt(PartitionResult::getSize).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelInsertResult{partitions=" + partitions.size() + ", insertedRows=" + getInsertedRows()
+            + ", failed=" + getFailedPartitions() + "}";
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ObjUtil;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.utils.Log;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 并行分区插入工具
+ * <p>
+ * 每个分区在工作线程上通过应用的事务管理器独立开启事务（各自占用一个连接），失败的分区回滚并记录为
+ * {@link io.github.xtemplus.core.enums.error.OptErrEnum#BATCH_IMPORT_FAILED}，不影响其它分区。
+ * JDK 21 及以上使用虚拟线程，否则使用固定大小的线程池；并发数由 template.core.mybatis.parallel-insert-threads
+ * 限制，不应超过连接池大小。事务管理器未指定时使用应用唯一（或 @Primary）的 PlatformTransactionManager，
+ * 多数据源时需传入实体所在数据源的事务管理器
+ */
+public final class ParallelInserts {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private ParallelInserts() {
+    }
+
+    /**
+     * 并行插入各分区
+     *
+     * @param entities      实体们
+     * @param partitionSize 每个分区的行数
+     * @param insert        单个分区的插入逻辑，在分区事务中执行
+     * @param <T>           实体类型
+     * @return 各分区的结果，entities 为空时没有分区
+     */
+    public static <T> ParallelInsertResult insert(Collection<T> entities, int partitionSize, Consumer<List<T>> insert) {
+        return insert(entities, partitionSize, null, insert);
+    }
+
+    /**
+     * 使用指定的事务管理器并行插入各分区
+     *
+     * @param entities           实体们
+     * @param partitionSize      每个分区的行数
+     * @param transactionManager 分区事务的事务管理器，null 时见 {@link #transaction(Class, PlatformTransactionManager)}
+     * @param insert             单个分区的插入逻辑，在分区事务中执行
+     * @param <T>                实体类型
+     * @return 各分区的结果，entities 为空时没有分区
+     */
+    public static <T> ParallelInsertResult insert(Collection<T> entities, int partitionSize,
+                                                  PlatformTransactionManager transactionManager, Consumer<List<T>> insert) {
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("partitionSize 必须大于 0");
+        }
+        if (ObjUtil.isNull(entities) || entities.isEmpty()) {
+            return new ParallelInsertResult(new ArrayList<>());
+        }
+
+        Class<?> entityClass = entities.iterator().next().getClass();
+        List<List<T>> partitions = CollUtil.split(entities, partitionSize);
+        TransactionTemplate transaction = transaction(entityClass, transactionManager);
+
+        int parallelism = Math.min(MybatisPlusXConfig.getParallelInsertThreads(), partitions.size());
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService executor = newExecutor(parallelism, "parallel-insert-");
+        List<Future<PartitionResult>> futures = new ArrayList<>(partitions.size());
+        try {
+            int fromIndex = 0;
+            for (int i = 0; i < partitions.size(); i++) {
+                int index = i;
+                int from = fromIndex;
+                List<T> partition = partitions.get(i);
+                fromIndex += partition.size();
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        transaction.executeWithoutResult(status -> insert.accept(partition));
+                        return PartitionResult.success(index, from, partition.size());
+                    } catch (RuntimeException e) {
+                        Log.warn("并行插入第 {} 个分区（{} 条）失败，已回滚：{}", index, partition.size(), e.toString());
+                        return PartitionResult.failed(index, from, partition.size(), e);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            List<PartitionResult> results = new ArrayList<>(futures.size());
+            for (Future<PartitionResult> future : futures) {
+                results.add(future.get());
+            }
+            return new ParallelInsertResult(results);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("并行插入被中断", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("并行插入失败", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 分区使用的新事务，在工作线程上使用时每次执行占用一个独立连接
+     * <p>
+     * 依次使用传入的事务管理器、应用的事务管理器，都没有时（如未使用 Spring 容器）按实体所在数据源新建
+     */
+    static TransactionTemplate transaction(Class<?> entityClass, PlatformTransactionManager transactionManager) {
+        PlatformTransactionManager manager = ObjUtil.defaultIfNull(transactionManager, MybatisPlusXConfig::getTransactionManager);
+        if (ObjUtil.isNull(manager)) {
+            DataSource dataSource = Upserts.sessionFactory(entityClass).getConfiguration().getEnvironment().getDataSource();
+            manager = new DataSourceTransactionManager(dataSource);
+        }
+        TransactionTemplate transaction = new TransactionTemplate(manager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transaction;
+    }
+
+    /**
+     * 虚拟线程可用时每个任务一个虚拟线程，并发由调用方限制；否则使用固定大小的守护线程池
+     */
+    static ExecutorService newExecutor(int threads, String namePrefix) {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, namePrefix + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
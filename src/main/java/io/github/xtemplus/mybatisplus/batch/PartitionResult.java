@@ -0,0 +1,91 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import io.github.xtemplus.core.common.BaseErrEnum;
+import io.github.xtemplus.core.enums.error.OptErrEnum;
+
+/**
+ * 并行批量插入单个分区的结果
+ */
+public class PartitionResult {
+
+    /**
+     * 分区序号，从 0 开始
+     */
+    private final int index;
+
+    /**
+     * 分区第一条数据在原集合中的下标
+     */
+    private final int fromIndex;
+
+    /**
+     * 分区数据条数
+     */
+    private final int size;
+
+    /**
+     * 错误码，成功时为 null
+     */
+    private final Integer errCode;
+
+    /**
+     * 错误信息，成功时为 null
+     */
+    private final String errMsg;
+
+    /**
+     * 失败原因，成功时为 null
+     */
+    private final Throwable cause;
+
+    private PartitionResult(int index, int fromIndex, int size, BaseErrEnum err, Throwable cause) {
+        this.index = index;
+        this.fromIndex = fromIndex;
+        this.size = size;
+        this.errCode = err == null ? null : err.errCode();
+        this.errMsg = err == null ? null : err.errMsg();
+        this.cause = cause;
+    }
+
+    static PartitionResult success(int index, int fromIndex, int size) {
+        return new PartitionResult(index, fromIndex, size, null, null);
+    }
+
+    static PartitionResult failed(int index, int fromIndex, int size, Throwable cause) {
+        return new PartitionResult(index, fromIndex, size, OptErrEnum.BATCH_IMPORT_FAILED, cause);
+    }
+
+    public boolean isSuccess() {
+        return cause == null;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Integer getErrCode() {
+        return errCode;
+    }
+
+    public String getErrMsg() {
+        return errMsg;
+    }
+
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionResult{index=" + index + ", fromIndex=" + fromIndex + ", size=" + size
+            + (isSuccess() ? ", success" : ", errCode=" + errCode + ", errMsg=" + errMsg + ", cause=" + cause) + "}";
+    }
+}
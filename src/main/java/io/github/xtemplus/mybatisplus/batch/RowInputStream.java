@@ -0,0 +1,76 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * 按需把实体逐行编码为字节的输入流，读取方读到哪里才编码到哪里，内存中只保留当前一行
+ *
+ * @param <T> 实体类型
+ */
+class RowInputStream<T> extends InputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Iterator<T> rows;
+
+    private final Function<T, String> encoder;
+
+    private byte[] line = EMPTY;
+
+    private int position;
+
+    private long count;
+
+    RowInputStream(Iterator<T> rows, Function<T, String> encoder) {
+        this.rows = rows;
+        this.encoder = encoder;
+    }
+
+    /**
+     * 已编码的行数
+     */
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return line[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int read = 0;
+        while (read < length && fill()) {
+            int n = Math.min(length - read, line.length - position);
+            System.arraycopy(line, position, buffer, offset + read, n);
+            position += n;
+            read += n;
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    /**
+     * 当前行读完时编码下一行，没有更多数据时返回 false
+     */
+    private boolean fill() {
+        while (position >= line.length) {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            line = encoder.apply(rows.next()).getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            count++;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import io.github.xtemplus.core.common.BaseErrEnum;
+
+/**
+ * 导入时拒绝单行数据，由解析或校验逻辑抛出，只影响当前行
+ */
+public class RowRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient BaseErrEnum err;
+
+    /**
+     * @param err    错误码，通常为 {@link io.github.xtemplus.core.enums.error.ValidateErrEnum}
+     * @param reason 拒绝原因，如 "第 3 列手机号格式错误"
+     */
+    public RowRejectedException(BaseErrEnum err, String reason) {
+        super(reason);
+        this.err = err;
+    }
+
+    public BaseErrEnum getErr() {
+        return err;
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.update.UpdateWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlMethod;
+import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+import com.baomidou.mybatisplus.core.toolkit.StringPool;
+import com.baomidou.mybatisplus.extension.toolkit.SqlHelper;
+import io.github.xtemplus.mybatisplus.annotation.UpdateBatchStrategy;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.mybatisplus.tracking.DirtyTracker;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.type.UnknownTypeHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按主键批量更新工具
+ */
+public final class UpdateBatches {
+
+    private static final Log LOG = LogFactory.getLog(UpdateBatches.class);
+
+    private UpdateBatches() {
+    }
+
+    /**
+     * 解析实际生效的策略（GLOBAL 取全局配置），实体带乐观锁字段或没有主键时 CASE_WHEN、DIRTY 按 PER_ROW 处理
+     */
+    public static UpdateBatchStrategy resolve(UpdateBatchStrategy strategy, TableInfo tableInfo) {
+        UpdateBatchStrategy resolved = ObjUtil.isNull(strategy) || strategy == UpdateBatchStrategy.GLOBAL
+            ? MybatisPlusXConfig.getUpdateBatchStrategy() : strategy;
+        if (resolved != UpdateBatchStrategy.PER_ROW && (tableInfo.isWithVersion() || !tableInfo.havePK())) {
+            return UpdateBatchStrategy.PER_ROW;
+        }
+        return resolved;
+    }
+
+    /**
+     * 估算每条 CASE WHEN 更新的行数，每行占用 1 + 2 * 列数 个占位符
+     *
+     * @param tableInfo 实体元数据
+     * @param size      调用方指定的上限
+     * @return 行数，至少为 1
+     */
+    public static int chunkSize(TableInfo tableInfo, int size) {
+        int params = 1 + 2 * tableInfo.getFieldList().size();
+        return Math.max(Math.min(size, (InsertBatches.maxParams(MybatisPlusXConfig.getDbType()) - 1) / params), 1);
+    }
+
+    /**
+     * 执行更新自动填充，语句在执行时按实体值渲染，需在 MyBatis-Plus 自动填充之前完成
+     *
+     * @param tableInfo 实体元数据
+     * @param entities  实体们
+     */
+    public static void prepare(TableInfo tableInfo, Collection<?> entities) {
+        Configuration configuration = Upserts.configuration(tableInfo);
+        MetaObjectHandler handler = GlobalConfigUtils.getMetaObjectHandler(configuration).orElse(null);
+        if (ObjUtil.isNull(handler) || !tableInfo.isWithUpdateFill()) {
+            return;
+        }
+        for (Object entity : entities) {
+            handler.updateFill(configuration.newMetaObject(entity));
+        }
+    }
+
+    /**
+     * 按脏字段批量更新，变化列相同的实体使用同一条 SQL，合并为一次 JDBC 批处理
+     * <p>
+     * 没有变化的实体不更新；有变化的实体执行更新自动填充后，与 updateById 一样写入自动填充字段与带 update 模板的字段
+     *
+     * @param tableInfo 实体元数据
+     * @param entities  实体们
+     * @param size      每次 JDBC 批处理的条数
+     * @return 是否成功；执行失败时抛出异常，快照保持不变
+     */
+    public static boolean updateDirty(TableInfo tableInfo, Collection<?> entities, int size) {
+        // 先比较再填充，避免自动填充的值使每个实体都被视为有变化
+        Map<Object, List<TableFieldInfo>> dirtyFields = new IdentityHashMap<>();
+        for (Object entity : entities) {
+            List<TableFieldInfo> dirty = DirtyTracker.dirtyFields(tableInfo, entity);
+            if (!dirty.isEmpty()) {
+                dirtyFields.put(entity, dirty);
+            }
+        }
+        prepare(tableInfo, dirtyFields.keySet());
+
+        Map<List<TableFieldInfo>, List<Object>> groups = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            List<TableFieldInfo> dirty = dirtyFields.get(entity);
+            if (ObjUtil.isNotNull(dirty)) {
+                groups.computeIfAbsent(setFields(tableInfo, entity, dirty), key -> new ArrayList<>()).add(entity);
+            }
+        }
+
+        String statement = tableInfo.getCurrentNamespace() + StringPool.DOT + SqlMethod.UPDATE.getMethod();
+        SqlSessionFactory sessionFactory = Upserts.sessionFactory(tableInfo.getEntityType());
+        boolean success = true;
+        for (Map.Entry<List<TableFieldInfo>, List<Object>> group : groups.entrySet()) {
+            success &= SqlHelper.executeBatch(sessionFactory, LOG, group.getValue(), size, (session, entity) -> {
+                UpdateWrapper<Object> wrapper = new UpdateWrapper<>();
+                for (TableFieldInfo field : group.getKey()) {
+                    if (StrUtil.isNotBlank(field.getUpdate())) {
+                        wrapper.setSql(field.getColumn() + " = " + String.format(field.getUpdate(), field.getColumn()));
+                    } else {
+                        wrapper.set(true, field.getColumn(), tableInfo.getPropertyValue(entity, field.getProperty()), mapping(field));
+                    }
+                }
+                wrapper.eq(tableInfo.getKeyColumn(), tableInfo.getPropertyValue(entity, tableInfo.getKeyProperty()));
+                Map<String, Object> param = new HashMap<>(4);
+                param.put(Constants.ENTITY, null);
+                param.put(Constants.WRAPPER, wrapper);
+                session.update(statement, param);
+            });
+        }
+
+        if (success) {
+            retrack(entities);
+        }
+        return success;
+    }
+
+    /**
+     * 写入的字段：脏字段，加上 updateById 同样会写入的自动填充字段与 update 模板字段，按 TableInfo 字段顺序
+     */
+    private static List<TableFieldInfo> setFields(TableInfo tableInfo, Object entity, List<TableFieldInfo> dirty) {
+        List<TableFieldInfo> fields = new ArrayList<>(dirty.size() + 2);
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            boolean always = (field.isWithUpdateFill() || StrUtil.isNotBlank(field.getUpdate()))
+                && DirtyTracker.isUpdatedById(field, tableInfo.getPropertyValue(entity, field.getProperty()));
+            if (always || dirty.contains(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 更新成功后以当前状态作为新的快照，处于事务中时等提交后再刷新，回滚时保留原快照
+     */
+    private static void retrack(Collection<?> entities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entities.forEach(DirtyTracker::track);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entities.forEach(DirtyTracker::track);
+            }
+        });
+    }
+
+    private static String mapping(TableFieldInfo field) {
+        StringBuilder mapping = new StringBuilder();
+        if (ObjUtil.isNotNull(field.getTypeHandler()) && field.getTypeHandler() != UnknownTypeHandler.class) {
+            mapping.append("typeHandler=").append(field.getTypeHandler().getName());
+        }
+        if (ObjUtil.isNotNull(field.getJdbcType())) {
+            mapping.append(mapping.length() > 0 ? "," : "").append("jdbcType=").append(field.getJdbcType().name());
+        }
+        return mapping.length() > 0 ? mapping.toString() : null;
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
+import com.baomidou.mybatisplus.core.incrementer.DefaultIdentifierGenerator;
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+import io.github.xtemplus.mybatisplus.support.LambdaColumns;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量 upsert 工具
+ * <p>
+ * upsert 语句在执行时按实体值渲染，BoundSql 先于 MyBatis-Plus 的主键生成与自动填充创建，
+ * 因此执行前需调用 {@link #prepare(TableInfo, Collection)} 手动完成这两步
+ */
+public final class Upserts {
+
+    private Upserts() {
+    }
+
+    /**
+     * 当前数据库是否支持批量 upsert
+     *
+     * @param dbType 数据库类型
+     * @return 是否支持
+     */
+    public static boolean supports(DbType dbType) {
+        switch (dbType) {
+            case MYSQL:
+            case MARIADB:
+            case POSTGRE_SQL:
+            case KINGBASE_ES:
+            case SQLITE:
+            case H2:
+            case ORACLE:
+            case ORACLE_12C:
+            case DM:
+            case SQL_SERVER:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 为主键为空的实体生成主键（ASSIGN_ID / ASSIGN_UUID），并执行插入、更新自动填充
+     *
+     * @param tableInfo 实体元数据
+     * @param entities  实体们
+     */
+    public static void prepare(TableInfo tableInfo, Collection<?> entities) {
+        prepare(tableInfo, entities, true);
+    }
+
+    /**
+     * 为主键为空的实体生成主键，并执行插入自动填充，updateFill 为 true 时同时执行更新自动填充
+     *
+     * @param tableInfo  实体元数据
+     * @param entities   实体们
+     * @param updateFill 是否执行更新自动填充
+     */
+    public static void prepare(TableInfo tableInfo, Collection<?> entities, boolean updateFill) {
+        MetaObjectHandler handler = GlobalConfigUtils.getMetaObjectHandler(configuration(tableInfo)).orElse(null);
+        IdentifierGenerator generator = generator(tableInfo);
+        for (Object entity : entities) {
+            prepare(tableInfo, entity, handler, generator, updateFill);
+        }
+    }
+
+    /**
+     * 按冲突列去重，同一冲突值保留最后一个实体
+     * <p>
+     * 除 MySQL 外的 upsert 语法（ON CONFLICT、MERGE）不允许一条语句中的多行命中同一冲突值，
+     * MySQL 的 ON DUPLICATE KEY UPDATE 按行依次处理，保持原样；冲突列含 null 的实体不会冲突，不参与去重
+     *
+     * @param tableInfo       实体元数据
+     * @param entities        实体们，主键需已生成
+     * @param conflictColumns 冲突列（数据库列名），为空时使用主键
+     * @param dbType          数据库类型
+     * @return 去重后的实体，没有重复时返回原集合
+     */
+    public static <T> Collection<T> distinct(TableInfo tableInfo, Collection<T> entities, List<String> conflictColumns,
+                                             DbType dbType) {
+        if (dbType == DbType.MYSQL || dbType == DbType.MARIADB) {
+            return entities;
+        }
+        List<String> properties = conflictProperties(tableInfo, conflictColumns);
+        if (ObjUtil.isNull(properties)) {
+            // 冲突列无法解析，交由 UpsertSqlSource 报错
+            return entities;
+        }
+
+        Configuration configuration = configuration(tableInfo);
+        Map<List<Object>, T> latest = new LinkedHashMap<>();
+        List<T> unkeyed = new ArrayList<>();
+        for (T entity : entities) {
+            MetaObject metaObject = configuration.newMetaObject(entity);
+            List<Object> key = new ArrayList<>(properties.size());
+            for (String property : properties) {
+                key.add(metaObject.getValue(property));
+            }
+            if (key.contains(null)) {
+                unkeyed.add(entity);
+            } else {
+                latest.put(key, entity);
+            }
+        }
+        if (latest.size() + unkeyed.size() == entities.size()) {
+            return entities;
+        }
+        List<T> distinct = new ArrayList<>(latest.values());
+        distinct.addAll(unkeyed);
+        return distinct;
+    }
+
+    private static List<String> conflictProperties(TableInfo tableInfo, List<String> conflictColumns) {
+        if (conflictColumns.isEmpty()) {
+            return tableInfo.havePK() ? Collections.singletonList(tableInfo.getKeyProperty()) : null;
+        }
+        List<String> properties = new ArrayList<>(conflictColumns.size());
+        for (String column : conflictColumns) {
+            String property = LambdaColumns.resolveProperty(tableInfo, null, column);
+            if (ObjUtil.isNull(property)) {
+                return null;
+            }
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    /**
+     * 实体所属的 MyBatis 配置，取自实体的 SqlSessionFactory
+     */
+    static Configuration configuration(TableInfo tableInfo) {
+        return sessionFactory(tableInfo.getEntityType()).getConfiguration();
+    }
+
+    /**
+     * 实体所属的 SqlSessionFactory
+     * <p>
+     * MyBatis-Plus 3.5.5 中按实体类查找的入口（TableInfo#getConfiguration、SqlHelper#sqlSessionFactory、
+     * GlobalConfigUtils#currentSessionFactory）均已标记为过时，推荐注入 SqlSessionFactory；
+     * 这里的静态工具方法拿不到注入的实例，统一经此处查找
+     */
+    @SuppressWarnings("deprecation")
+    static SqlSessionFactory sessionFactory(Class<?> entityClass) {
+        return GlobalConfigUtils.currentSessionFactory(entityClass);
+    }
+
+    static IdentifierGenerator generator(TableInfo tableInfo) {
+        return ObjUtil.defaultIfNull(
+            GlobalConfigUtils.getGlobalConfig(configuration(tableInfo)).getIdentifierGenerator(),
+            DefaultIdentifierGenerator::getInstance);
+    }
+
+    /**
+     * 为单个实体生成主键并执行自动填充，updateFill 为 false 时只执行插入填充
+     */
+    static void prepare(TableInfo tableInfo, Object entity, MetaObjectHandler handler, IdentifierGenerator generator,
+                        boolean updateFill) {
+        MetaObject metaObject = configuration(tableInfo).newMetaObject(entity);
+        if (tableInfo.havePK() && ObjUtil.isNull(metaObject.getValue(tableInfo.getKeyProperty()))) {
+            if (tableInfo.getIdType() == IdType.ASSIGN_ID) {
+                Number id = generator.nextId(entity);
+                metaObject.setValue(tableInfo.getKeyProperty(), tableInfo.getKeyType() == String.class
+                    ? id.toString() : Convert.convert(tableInfo.getKeyType(), id));
+            } else if (tableInfo.getIdType() == IdType.ASSIGN_UUID) {
+                metaObject.setValue(tableInfo.getKeyProperty(), generator.nextUUID(entity));
+            }
+        }
+        if (ObjUtil.isNotNull(handler) && tableInfo.isWithInsertFill()) {
+            handler.insertFill(metaObject);
+        }
+        if (ObjUtil.isNotNull(handler) && updateFill && tableInfo.isWithUpdateFill()) {
+            handler.updateFill(metaObject);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.xtemplus.mybatisplus.criteria;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SqlCriteria} 的 SqlSource
+ * <p>
+ * SELECT 前缀在注入时渲染一次，执行时只追加 WHERE 片段并按位置绑定参数，
+ * 参数映射按数量缓存复用，不经过动态 SQL 解析
+ */
+public class CriteriaSqlSource implements SqlSource {
+
+    /**
+     * 位置参数在 BoundSql 附加参数中的名称前缀
+     */
+    private static final String PARAM_PREFIX = "_c";
+
+    private final Configuration configuration;
+    private final String prefix;
+    private final String logicDeleteSql;
+
+    private volatile List<ParameterMapping> mappings = Collections.emptyList();
+
+    /**
+     * @param configuration  MyBatis 配置
+     * @param prefix         SELECT ... FROM table
+     * @param logicDeleteSql 逻辑删除条件（不含 AND），无逻辑删除时为空
+     */
+    public CriteriaSqlSource(Configuration configuration, String prefix, String logicDeleteSql) {
+        this.configuration = configuration;
+        this.prefix = prefix;
+        this.logicDeleteSql = StrUtil.emptyToNull(logicDeleteSql);
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        SqlCriteria criteria = unwrap(parameterObject);
+        boolean hasCriteria = ObjUtil.isNotNull(criteria) && !criteria.isEmpty();
+
+        StringBuilder sql = new StringBuilder(prefix.length() + 32 + (hasCriteria ? criteria.length() : 0));
+        sql.append(prefix);
+        if (hasCriteria || ObjUtil.isNotNull(logicDeleteSql)) {
+            sql.append(" WHERE ");
+        }
+        if (hasCriteria) {
+            sql.append('(');
+            criteria.appendTo(sql);
+            sql.append(')');
+        }
+        if (ObjUtil.isNotNull(logicDeleteSql)) {
+            sql.append(hasCriteria ? " AND " : "").append(logicDeleteSql);
+        }
+
+        List<Object> params = hasCriteria ? criteria.getParams() : Collections.emptyList();
+        BoundSql boundSql = new BoundSql(configuration, sql.toString(), mappings(params.size()), parameterObject);
+        for (int i = 0; i < params.size(); i++) {
+            boundSql.setAdditionalParameter(PARAM_PREFIX + i, params.get(i));
+        }
+        return boundSql;
+    }
+
+    /**
+     * 获取前 size 个参数映射，数量不足时扩容缓存
+     */
+    private List<ParameterMapping> mappings(int size) {
+        List<ParameterMapping> current = mappings;
+        if (current.size() < size) {
+            synchronized (this) {
+                current = mappings;
+                if (current.size() < size) {
+                    List<ParameterMapping> grown = new ArrayList<>(Math.max(size, current.size() * 2));
+                    grown.addAll(current);
+                    for (int i = current.size(); i < Math.max(size, current.size() * 2); i++) {
+                        grown.add(new ParameterMapping.Builder(configuration, PARAM_PREFIX + i, Object.class).build());
+                    }
+                    current = Collections.unmodifiableList(grown);
+                    mappings = current;
+                }
+            }
+        }
+        return current.subList(0, size);
+    }
+
+    /**
+     * 单参数时 MyBatis 直接传入 SqlCriteria，使用 @Param 时为参数 Map
+     */
+    private static SqlCriteria unwrap(Object parameterObject) {
+        if (parameterObject instanceof SqlCriteria) {
+            return (SqlCriteria) parameterObject;
+        }
+        if (parameterObject instanceof Map) {
+            for (Object value : ((Map<?, ?>) parameterObject).values()) {
+                if (value instanceof SqlCriteria) {
+                    return (SqlCriteria) value;
+                }
+            }
+        }
+        return null;
+    }
+}
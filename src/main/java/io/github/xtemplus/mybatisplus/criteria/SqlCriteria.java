@@ -0,0 +1,195 @@
+package io.github.xtemplus.mybatisplus.criteria;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlUtils;
+import io.github.xtemplus.mybatisplus.query.InConditions;
+import io.github.xtemplus.mybatisplus.query.InListBuckets;
+import io.github.xtemplus.mybatisplus.query.LikeConditions;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 轻量查询条件
+ * <p>
+ * 只支持以 AND 连接的简单条件（@Assembly DTO 生成的形态），条件直接渲染为带 ? 占位符的 WHERE 片段，
+ * 参数按位置保存，不创建 MergeSegments、参数名映射与 ISqlSegment；
+ * 通过 {@link io.github.xtemplus.mybatisplus.mapper.BaseMapperX#selectListByCriteria(SqlCriteria)} 执行。
+ * <p>
+ * 列名直接拼接到 SQL 中，只能传入可信的列名，不能来自用户输入
+ */
+public class SqlCriteria {
+
+    private final StringBuilder sql = new StringBuilder(64);
+    private final List<Object> params = new ArrayList<>(8);
+
+    public SqlCriteria eq(String column, Object value) {
+        if (ObjUtil.isNull(value)) {
+            return isNull(column);
+        }
+        return compare(column, " = ?", value);
+    }
+
+    public SqlCriteria ne(String column, Object value) {
+        return compare(column, " <> ?", value);
+    }
+
+    public SqlCriteria gt(String column, Object value) {
+        return compare(column, " > ?", value);
+    }
+
+    public SqlCriteria ge(String column, Object value) {
+        return compare(column, " >= ?", value);
+    }
+
+    public SqlCriteria lt(String column, Object value) {
+        return compare(column, " < ?", value);
+    }
+
+    public SqlCriteria le(String column, Object value) {
+        return compare(column, " <= ?", value);
+    }
+
+    public SqlCriteria isNull(String column) {
+        and().append(column).append(" IS NULL");
+        return this;
+    }
+
+    public SqlCriteria between(String column, Object start, Object end) {
+        and().append(column).append(" BETWEEN ? AND ?");
+        params.add(start);
+        params.add(end);
+        return this;
+    }
+
+    /**
+     * LIKE 条件
+     *
+     * @param mode   匹配方式：DEFAULT '%值%'，LEFT '%值'，RIGHT '值%'
+     * @param escape 是否转义值中的 % 和 _
+     */
+    public SqlCriteria like(String column, String value, SqlLike mode, boolean escape) {
+        and().append(column).append(" LIKE ?");
+        if (escape) {
+            sql.append(LikeConditions.escapeClause());
+            value = LikeConditions.escape(value);
+        }
+        params.add(SqlUtils.concatLike(value, mode));
+        return this;
+    }
+
+    /**
+     * IN 条件，超过 in-chunk-size 时拆分为 (col IN (...) OR col IN (...))，开启分桶时补齐列表长度
+     */
+    public SqlCriteria in(String column, Collection<?> values) {
+        int chunkSize = MybatisPlusXConfig.getInChunkSize();
+        if (values.size() <= chunkSize) {
+            and();
+            appendIn(column, InListBuckets.pad(values));
+            return this;
+        }
+
+        and().append('(');
+        List<? extends List<?>> chunks = InConditions.chunks(values, chunkSize);
+        for (int i = 0; i < chunks.size(); i++) {
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            appendIn(column, InListBuckets.pad(chunks.get(i)));
+        }
+        sql.append(')');
+        return this;
+    }
+
+    /**
+     * 拼接自定义条件片段，片段中以 ? 作为占位符
+     */
+    public SqlCriteria apply(String fragment, Object... values) {
+        and().append(fragment);
+        Collections.addAll(params, values);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return sql.length() == 0;
+    }
+
+    /**
+     * WHERE 片段（不含 WHERE 关键字）
+     */
+    public String getSqlSegment() {
+        return sql.toString();
+    }
+
+    /**
+     * 按占位符顺序排列的参数
+     */
+    public List<Object> getParams() {
+        return params;
+    }
+
+    /**
+     * 转换为等价的 QueryWrapper，片段中的 ? 依次替换为 {0}、{1} ... 后通过 apply 拼接，
+     * 用于 selectListByCriteria 未注入时的回退
+     */
+    public <T> QueryWrapper<T> toWrapper() {
+        QueryWrapper<T> wrapper = new QueryWrapper<>();
+        if (isEmpty()) {
+            return wrapper;
+        }
+        StringBuilder applySql = new StringBuilder(sql.length() + params.size() * 2);
+        int index = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char ch = sql.charAt(i);
+            if (ch == '?') {
+                applySql.append('{').append(index++).append('}');
+            } else {
+                applySql.append(ch);
+            }
+        }
+        return wrapper.apply(applySql.toString(), params.toArray());
+    }
+
+    /**
+     * 将 WHERE 片段追加到目标 SQL，避免中间字符串
+     */
+    void appendTo(StringBuilder target) {
+        target.append(sql);
+    }
+
+    int length() {
+        return sql.length();
+    }
+
+    private SqlCriteria compare(String column, String operator, Object value) {
+        and().append(column).append(operator);
+        params.add(value);
+        return this;
+    }
+
+    private void appendIn(String column, Collection<?> values) {
+        sql.append(column).append(" IN (");
+        for (int i = 0; i < values.size(); i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        sql.append(')');
+        params.addAll(values);
+    }
+
+    private StringBuilder and() {
+        if (sql.length() > 0) {
+            sql.append(" AND ");
+        }
+        return sql;
+    }
+
+    @Override
+    public String toString() {
+        return sql + " " + params;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.UnknownTypeHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按主键批量更新的 SqlSource
+ * <p>
+ * 渲染为 UPDATE t SET col = CASE id WHEN ? THEN ? ... ELSE col END, ... WHERE id IN (...)，
+ * 与 updateById 一致，值为 null 的字段不更新，逻辑删除的记录不更新
+ */
+public class CaseWhenSqlSource implements SqlSource {
+
+    private static final String PARAM_PREFIX = "_w";
+
+    private final Configuration configuration;
+    private final TableInfo tableInfo;
+
+    public CaseWhenSqlSource(Configuration configuration, TableInfo tableInfo) {
+        this.configuration = configuration;
+        this.tableInfo = tableInfo;
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        List<?> rows = (List<?>) ((Map<?, ?>) parameterObject).get(Constants.LIST);
+        List<Object> ids = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object id = tableInfo.getPropertyValue(row, tableInfo.getKeyProperty());
+            if (ObjUtil.isNull(id)) {
+                throw new IllegalArgumentException(String.format("按主键批量更新 %s 时主键不能为 null", tableInfo.getTableName()));
+            }
+            ids.add(id);
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableInfo.getTableName()).append(" SET ");
+        List<ParameterMapping> mappings = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        boolean first = true;
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            if (field.getUpdateStrategy() == FieldStrategy.NEVER) {
+                continue;
+            }
+            int start = sql.length();
+            sql.append(first ? "" : ", ").append(field.getColumn()).append(" = CASE ").append(tableInfo.getKeyColumn());
+            boolean present = false;
+            for (int i = 0; i < rows.size(); i++) {
+                Object value = tableInfo.getPropertyValue(rows.get(i), field.getProperty());
+                if (ObjUtil.isNull(value)) {
+                    continue;
+                }
+                present = true;
+                sql.append(" WHEN ? THEN ?");
+                add(mappings, values, tableInfo.getKeyType(), null, ids.get(i));
+                add(mappings, values, field.getPropertyType(), field.getTypeHandler(), value);
+            }
+            if (!present) {
+                sql.setLength(start);
+                continue;
+            }
+            sql.append(" ELSE ").append(field.getColumn()).append(" END");
+            first = false;
+        }
+        if (first) {
+            throw new IllegalArgumentException(String.format("按主键批量更新 %s 时没有需要更新的字段", tableInfo.getTableName()));
+        }
+
+        sql.append(" WHERE ").append(tableInfo.getKeyColumn()).append(" IN (");
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ",?");
+            add(mappings, values, tableInfo.getKeyType(), null, ids.get(i));
+        }
+        sql.append(')').append(tableInfo.getLogicDeleteSql(true, true));
+
+        BoundSql boundSql = new BoundSql(configuration, sql.toString(), mappings, parameterObject);
+        for (int i = 0; i < values.size(); i++) {
+            boundSql.setAdditionalParameter(PARAM_PREFIX + i, values.get(i));
+        }
+        return boundSql;
+    }
+
+    private void add(List<ParameterMapping> mappings, List<Object> values, Class<?> javaType,
+                     Class<? extends TypeHandler<?>> typeHandler, Object value) {
+        ParameterMapping.Builder builder = new ParameterMapping.Builder(configuration, PARAM_PREFIX + values.size(), javaType);
+        if (ObjUtil.isNotNull(typeHandler) && typeHandler != UnknownTypeHandler.class) {
+            builder.typeHandler(configuration.getTypeHandlerRegistry().getInstance(javaType, typeHandler));
+        }
+        mappings.add(builder.build());
+        values.add(value);
+    }
+}
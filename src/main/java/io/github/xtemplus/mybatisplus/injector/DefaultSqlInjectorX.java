@@ -0,0 +1,35 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import io.github.xtemplus.mybatisplus.mapper.BaseMapperX;
+
+import java.util.List;
+
+/**
+ * 拓展 MyBatis Plus 默认 SQL 注入器，为 {@link BaseMapperX} 注入拓展方法
+ */
+public class DefaultSqlInjectorX extends DefaultSqlInjector {
+
+    @Override
+    public List<AbstractMethod> getMethodList(Class<?> mapperClass, TableInfo tableInfo) {
+        List<AbstractMethod> methods = super.getMethodList(mapperClass, tableInfo);
+        if (!BaseMapperX.class.isAssignableFrom(mapperClass)) {
+            return methods;
+        }
+        methods.add(new SelectCriteriaList());
+        methods.add(new SelectCriteriaCount());
+        methods.add(new SelectFirst());
+        methods.add(new SelectLimit());
+        methods.add(new SelectExists());
+        methods.add(new SelectCursor());
+        methods.add(new InsertList());
+        methods.add(new UpsertList());
+        if (tableInfo.havePK()) {
+            methods.add(new SelectIdPage());
+            methods.add(new UpdateBatchByCase());
+        }
+        return methods;
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+
+/**
+ * 多行 INSERT，SQL 由 {@link InsertListSqlSource} 按实体值渲染，自增主键按 JDBC 生成键回填
+ */
+public class InsertList extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    public InsertList() {
+        super("insertList");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        InsertListSqlSource sqlSource = new InsertListSqlSource(configuration, tableInfo);
+        if (tableInfo.havePK() && tableInfo.getIdType() == IdType.AUTO) {
+            return addInsertMappedStatement(mapperClass, modelClass, methodName, sqlSource, Jdbc3KeyGenerator.INSTANCE,
+                tableInfo.getKeyProperty(), tableInfo.getKeyColumn());
+        }
+        return addInsertMappedStatement(mapperClass, modelClass, methodName, sqlSource, NoKeyGenerator.INSTANCE, null, null);
+    }
+}
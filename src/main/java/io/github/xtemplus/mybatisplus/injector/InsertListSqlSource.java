@@ -0,0 +1,25 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 多行 INSERT 的 SqlSource：INSERT INTO t (写入列) VALUES (...),(...)
+ * <p>
+ * 写入列见 {@link MultiRowSqlSource}，所有实体都不写入的列使用数据库默认值；
+ * 只在部分实体中为 null 的列会写入 NULL，调用方应按写入列分组，见 {@link io.github.xtemplus.mybatisplus.batch.InsertBatches#groupByColumns}
+ */
+public class InsertListSqlSource extends MultiRowSqlSource {
+
+    public InsertListSqlSource(Configuration configuration, TableInfo tableInfo) {
+        super(configuration, tableInfo);
+    }
+
+    @Override
+    protected String render(List<Column> columns, int rows, Map<?, ?> params) {
+        return "INSERT INTO " + tableInfo.getTableName() + " (" + names(columns) + ") VALUES " + valueRows(columns, rows);
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.FieldFill;
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import io.github.xtemplus.mybatisplus.batch.InsertBatches;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.UnknownTypeHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 多行写入语句的 SqlSource，执行时按实体值确定写入列并逐行绑定参数
+ * <p>
+ * 写入列为至少一个实体中按插入策略需要写入的列（见 {@link InsertBatches#insertable}），
+ * 实体值在渲染时读取，主键生成与自动填充需在执行前完成
+ */
+abstract class MultiRowSqlSource implements SqlSource {
+
+    private static final String PARAM_PREFIX = "_u";
+
+    protected final Configuration configuration;
+    protected final TableInfo tableInfo;
+
+    protected MultiRowSqlSource(Configuration configuration, TableInfo tableInfo) {
+        this.configuration = configuration;
+        this.tableInfo = tableInfo;
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        Map<?, ?> params = (Map<?, ?>) parameterObject;
+        List<?> rows = (List<?>) params.get(Constants.LIST);
+        List<Column> columns = columns(rows);
+
+        List<ParameterMapping> mappings = new ArrayList<>(rows.size() * columns.size());
+        List<Object> values = new ArrayList<>(rows.size() * columns.size());
+        for (Object row : rows) {
+            for (Column column : columns) {
+                mappings.add(column.mapping(PARAM_PREFIX + values.size()));
+                values.add(tableInfo.getPropertyValue(row, column.property));
+            }
+        }
+
+        BoundSql boundSql = new BoundSql(configuration, render(columns, rows.size(), params), mappings, parameterObject);
+        for (int i = 0; i < values.size(); i++) {
+            boundSql.setAdditionalParameter(PARAM_PREFIX + i, values.get(i));
+        }
+        return boundSql;
+    }
+
+    /**
+     * 渲染语句，参数按行、按写入列的顺序绑定
+     *
+     * @param columns 写入列
+     * @param rows    行数
+     * @param params  Mapper 方法参数
+     * @return SQL
+     */
+    protected abstract String render(List<Column> columns, int rows, Map<?, ?> params);
+
+    protected static String names(List<Column> columns) {
+        return columns.stream().map(column -> column.name).collect(Collectors.joining(","));
+    }
+
+    /**
+     * VALUES 后的多行占位符 (?,?),(?,?)
+     */
+    protected static String valueRows(List<Column> columns, int rows) {
+        String placeholders = "(" + String.join(",", Collections.nCopies(columns.size(), "?")) + ")";
+        return String.join(",", Collections.nCopies(rows, placeholders));
+    }
+
+    /**
+     * 写入列：主键与字段中至少一个实体需要写入的列
+     */
+    private List<Column> columns(List<?> rows) {
+        List<Column> columns = new ArrayList<>();
+        if (tableInfo.havePK() && anyInsertable(rows, null)) {
+            columns.add(new Column(tableInfo.getKeyColumn(), tableInfo.getKeyProperty(), tableInfo.getKeyType(),
+                null, null, false));
+        }
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            if (!anyInsertable(rows, field)) {
+                continue;
+            }
+            boolean updatable = field.getUpdateStrategy() != FieldStrategy.NEVER && field.getFieldFill() != FieldFill.INSERT;
+            columns.add(new Column(field.getColumn(), field.getProperty(), field.getPropertyType(),
+                field.getJdbcType(), field.getTypeHandler(), updatable));
+        }
+        return columns;
+    }
+
+    private boolean anyInsertable(List<?> rows, TableFieldInfo field) {
+        String property = ObjUtil.isNull(field) ? tableInfo.getKeyProperty() : field.getProperty();
+        for (Object row : rows) {
+            if (InsertBatches.insertable(field, tableInfo.getPropertyValue(row, property))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected final class Column {
+        protected final String name;
+        private final String property;
+        private final Class<?> javaType;
+        private final JdbcType jdbcType;
+        private final Class<? extends TypeHandler<?>> typeHandler;
+        /**
+         * 命中已有记录时是否更新：主键、INSERT 填充列与更新策略为 NEVER 的列不更新
+         */
+        protected final boolean updatable;
+
+        private Column(String name, String property, Class<?> javaType, JdbcType jdbcType,
+                       Class<? extends TypeHandler<?>> typeHandler, boolean updatable) {
+            this.name = name;
+            this.property = property;
+            this.javaType = javaType;
+            this.jdbcType = jdbcType;
+            this.typeHandler = typeHandler;
+            this.updatable = updatable;
+        }
+
+        private ParameterMapping mapping(String name) {
+            ParameterMapping.Builder builder = new ParameterMapping.Builder(configuration, name, javaType);
+            if (ObjUtil.isNotNull(jdbcType)) {
+                builder.jdbcType(jdbcType);
+            }
+            if (ObjUtil.isNotNull(typeHandler) && typeHandler != UnknownTypeHandler.class) {
+                builder.typeHandler(configuration.getTypeHandlerRegistry().getInstance(javaType, typeHandler));
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import io.github.xtemplus.mybatisplus.query.RowLimits;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.Map;
+
+/**
+ * 为动态 SQL 追加行数限制的 SqlSource
+ * <p>
+ * 执行时先由原 SqlSource 渲染，再按当前数据库类型通过 {@link RowLimits} 限制行数，参数映射与附加参数保持不变；
+ * Wrapper 设置了 last 时按 {@link RowLimits#apply(String, String, int)} 处理，不会拼在行锁或已有的 LIMIT 之后
+ */
+public class RowLimitSqlSource implements SqlSource {
+
+    private final Configuration configuration;
+    private final SqlSource delegate;
+    private final int limit;
+    private final String limitParam;
+
+    /**
+     * @param configuration MyBatis 配置
+     * @param delegate      原 SqlSource
+     * @param limit         最多返回行数
+     */
+    public RowLimitSqlSource(Configuration configuration, SqlSource delegate, int limit) {
+        this.configuration = configuration;
+        this.delegate = delegate;
+        this.limit = limit;
+        this.limitParam = null;
+    }
+
+    /**
+     * @param configuration MyBatis 配置
+     * @param delegate      原 SqlSource
+     * @param limitParam    最多返回行数的参数名，执行时读取
+     */
+    public RowLimitSqlSource(Configuration configuration, SqlSource delegate, String limitParam) {
+        this.configuration = configuration;
+        this.delegate = delegate;
+        this.limit = 0;
+        this.limitParam = limitParam;
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        BoundSql origin = delegate.getBoundSql(parameterObject);
+        String sql = RowLimits.apply(origin.getSql().trim(), last(parameterObject), limit(parameterObject));
+        BoundSql boundSql = new BoundSql(configuration, sql, origin.getParameterMappings(), parameterObject);
+        for (Map.Entry<String, Object> entry : origin.getAdditionalParameters().entrySet()) {
+            boundSql.setAdditionalParameter(entry.getKey(), entry.getValue());
+        }
+        return boundSql;
+    }
+
+    /**
+     * 行数直接渲染到 SQL 中，按参数读取时校验为正整数
+     */
+    private int limit(Object parameterObject) {
+        if (ObjUtil.isNull(limitParam)) {
+            return limit;
+        }
+        Object value = parameterObject instanceof Map ? ((Map<?, ?>) parameterObject).get(limitParam) : null;
+        if (!(value instanceof Integer) || (Integer) value <= 0) {
+            throw new IllegalArgumentException(String.format("参数 %s 必须为正整数，当前：%s", limitParam, value));
+        }
+        return (Integer) value;
+    }
+
+    /**
+     * Wrapper 的 last 片段：sqlSegment 由条件片段与 last 拼接而成
+     */
+    private static String last(Object parameterObject) {
+        if (!(parameterObject instanceof Map) || !((Map<?, ?>) parameterObject).containsKey(Constants.WRAPPER)) {
+            return null;
+        }
+        Object wrapper = ((Map<?, ?>) parameterObject).get(Constants.WRAPPER);
+        if (!(wrapper instanceof AbstractWrapper)) {
+            return null;
+        }
+        String segment = ((AbstractWrapper<?, ?, ?>) wrapper).getSqlSegment();
+        String expression = ((AbstractWrapper<?, ?, ?>) wrapper).getExpression().getSqlSegment();
+        return segment.length() > expression.length() ? segment.substring(expression.length()) : null;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import io.github.xtemplus.mybatisplus.criteria.CriteriaSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+
+/**
+ * 按 {@link io.github.xtemplus.mybatisplus.criteria.SqlCriteria} 查询列表
+ */
+public class SelectCriteriaList extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    public SelectCriteriaList() {
+        super("selectCriteriaList");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String prefix = "SELECT " + sqlSelectColumns(tableInfo, false) + " FROM " + tableInfo.getTableName();
+        CriteriaSqlSource sqlSource = new CriteriaSqlSource(configuration, prefix, tableInfo.getLogicDeleteSql(false, true));
+        return addSelectMappedStatementForTable(mapperClass, methodName, sqlSource, tableInfo);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.enums.SqlMethod;
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * 按 Wrapper 查询游标，结果逐行映射，与 selectList 的 SQL 相同
+ */
+public class SelectCursor extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    public SelectCursor() {
+        super("selectCursor");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql = String.format(SqlMethod.SELECT_LIST.getSql(), sqlFirst(), sqlSelectColumns(tableInfo, true),
+            tableInfo.getTableName(), sqlWhereEntityWrapper(true, tableInfo), sqlOrderBy(tableInfo), sqlComment());
+        SqlSource sqlSource = createSqlSource(configuration, sql, modelClass);
+        return addSelectMappedStatementForTable(mapperClass, methodName, sqlSource, tableInfo);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * 按 Wrapper 判断记录是否存在，执行 SELECT 1 并只取 1 行，不统计总数
+ */
+public class SelectExists extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    public SelectExists() {
+        super("selectExists");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql = "<script>SELECT 1 FROM " + tableInfo.getTableName() + " "
+            + sqlWhereEntityWrapper(true, tableInfo) + "\n</script>";
+        SqlSource sqlSource = new RowLimitSqlSource(configuration,
+            createSqlSource(configuration, sql, modelClass), 1);
+        return addSelectMappedStatementForOther(mapperClass, methodName, sqlSource, Integer.class);
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.enums.SqlMethod;
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * 按 Wrapper 查询第 1 条记录，行数限制下推到数据库
+ */
+public class SelectFirst extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    public SelectFirst() {
+        super("selectFirst");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql = String.format(SqlMethod.SELECT_LIST.getSql(), sqlFirst(), sqlSelectColumns(tableInfo, true),
+            tableInfo.getTableName(), sqlWhereEntityWrapper(true, tableInfo), sqlOrderBy(tableInfo), sqlComment());
+        SqlSource sqlSource = new RowLimitSqlSource(configuration,
+            createSqlSource(configuration, sql, modelClass), 1);
+        return addSelectMappedStatementForTable(mapperClass, methodName, sqlSource, tableInfo);
+    }
+}
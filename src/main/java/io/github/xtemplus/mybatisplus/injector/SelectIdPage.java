@@ -0,0 +1,29 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.enums.SqlMethod;
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * 按 Wrapper 分页查询主键，条件与排序同 selectPage，只查询主键列以便使用覆盖索引
+ * <p>
+ * 忽略 Wrapper 的 select 列，实体没有主键时不注入
+ */
+public class SelectIdPage extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    public SelectIdPage() {
+        super("selectIdPage");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql = String.format(SqlMethod.SELECT_LIST.getSql(), sqlFirst(), tableInfo.getKeyColumn(),
+            tableInfo.getTableName(), sqlWhereEntityWrapper(true, tableInfo), sqlOrderBy(tableInfo), sqlComment());
+        SqlSource sqlSource = createSqlSource(configuration, sql, modelClass);
+        return addSelectMappedStatementForOther(mapperClass, methodName, sqlSource, tableInfo.getKeyType());
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.enums.SqlMethod;
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * 按 Wrapper 查询前 n 条记录，行数限制下推到数据库，不依赖分页插件
+ */
+public class SelectLimit extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 行数参数名
+     */
+    public static final String LIMIT = "limit";
+
+    public SelectLimit() {
+        super("selectLimit");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql = String.format(SqlMethod.SELECT_LIST.getSql(), sqlFirst(), sqlSelectColumns(tableInfo, true),
+            tableInfo.getTableName(), sqlWhereEntityWrapper(true, tableInfo), sqlOrderBy(tableInfo), sqlComment());
+        SqlSource sqlSource = new RowLimitSqlSource(configuration,
+            createSqlSource(configuration, sql, modelClass), LIMIT);
+        return addSelectMappedStatementForTable(mapperClass, methodName, sqlSource, tableInfo);
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+
+/**
+ * 按主键批量更新，一批实体一条 UPDATE，SQL 见 {@link CaseWhenSqlSource}，实体没有主键时不注入
+ */
+public class UpdateBatchByCase extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    public UpdateBatchByCase() {
+        super("updateBatchByCase");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        CaseWhenSqlSource sqlSource = new CaseWhenSqlSource(configuration, tableInfo);
+        return addUpdateMappedStatement(mapperClass, modelClass, methodName, sqlSource);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+
+/**
+ * 批量 upsert，SQL 由 {@link UpsertSqlSource} 按数据库类型与实体值渲染
+ */
+public class UpsertList extends AbstractMethod {
+
+    private static final long serialVersionUID = 1L;
+
+    public UpsertList() {
+        super("upsertList");
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        UpsertSqlSource sqlSource = new UpsertSqlSource(configuration, tableInfo);
+        return addInsertMappedStatement(mapperClass, modelClass, methodName, sqlSource, NoKeyGenerator.INSTANCE, null, null);
+    }
+}
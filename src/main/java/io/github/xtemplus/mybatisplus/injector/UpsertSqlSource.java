@@ -0,0 +1,126 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 批量 upsert 的 SqlSource
+ * <p>
+ * 执行时按当前数据库类型渲染：
+ * <ul>
+ *     <li>MySQL / MariaDB：INSERT ... ON DUPLICATE KEY UPDATE，按表上的全部唯一键判断冲突</li>
+ *     <li>PostgreSQL / 人大金仓 / SQLite：INSERT ... ON CONFLICT (冲突列) DO UPDATE</li>
+ *     <li>Oracle / 达梦 / SQL Server / H2：MERGE INTO ... USING ... ON (冲突列)</li>
+ * </ul>
+ * 写入列见 {@link MultiRowSqlSource}，其余列插入时使用数据库默认值、更新时保持不变；
+ * 只在部分实体中为 null 的列会以 NULL 覆盖已有值，调用方应按写入列分组，见 {@link io.github.xtemplus.mybatisplus.batch.InsertBatches#groupByColumns}；
+ * 冲突列、主键、INSERT 填充列（如创建时间）与更新策略为 NEVER 的列不参与更新
+ */
+public class UpsertSqlSource extends MultiRowSqlSource {
+
+    /**
+     * 冲突列参数名
+     */
+    public static final String CONFLICT_COLUMNS = "conflictColumns";
+
+    public UpsertSqlSource(Configuration configuration, TableInfo tableInfo) {
+        super(configuration, tableInfo);
+    }
+
+    @Override
+    protected String render(List<Column> columns, int rows, Map<?, ?> params) {
+        @SuppressWarnings("unchecked")
+        List<String> conflictColumns = (List<String>) params.get(CONFLICT_COLUMNS);
+        List<String> conflicts = conflicts(columns, conflictColumns);
+        List<Column> updates = columns.stream()
+            .filter(column -> column.updatable && !containsIgnoreCase(conflicts, column.name))
+            .collect(Collectors.toList());
+        return render(columns, conflicts, updates, rows);
+    }
+
+    private String render(List<Column> columns, List<String> conflicts, List<Column> updates, int rows) {
+        String table = tableInfo.getTableName();
+        String names = names(columns);
+        String valueRows = valueRows(columns, rows);
+        DbType dbType = MybatisPlusXConfig.getDbType();
+        switch (dbType) {
+            case MYSQL:
+            case MARIADB:
+                return "INSERT INTO " + table + " (" + names + ") VALUES " + valueRows + " ON DUPLICATE KEY UPDATE "
+                    + (updates.isEmpty() ? conflicts.get(0) + " = " + conflicts.get(0)
+                    : updates.stream().map(c -> c.name + " = VALUES(" + c.name + ")").collect(Collectors.joining(",")));
+
+            case POSTGRE_SQL:
+            case KINGBASE_ES:
+            case SQLITE:
+                return "INSERT INTO " + table + " (" + names + ") VALUES " + valueRows
+                    + " ON CONFLICT (" + String.join(",", conflicts) + ") DO "
+                    + (updates.isEmpty() ? "NOTHING"
+                    : "UPDATE SET " + updates.stream().map(c -> c.name + " = EXCLUDED." + c.name).collect(Collectors.joining(",")));
+
+            case H2:
+                // MERGE ... KEY 命中时更新全部写入列，改用 MERGE ... USING 排除不参与更新的列
+                return merge(table + " t", "(VALUES " + valueRows + ") s (" + names + ")", columns, conflicts, updates);
+
+            case ORACLE:
+            case ORACLE_12C:
+            case DM:
+                String select = "SELECT " + columns.stream().map(c -> "? " + c.name).collect(Collectors.joining(",")) + " FROM DUAL";
+                return merge(table + " t", "(" + String.join(" UNION ALL ", Collections.nCopies(rows, select)) + ") s",
+                    columns, conflicts, updates);
+
+            case SQL_SERVER:
+                return merge(table + " AS t", "(VALUES " + valueRows + ") AS s (" + names + ")", columns, conflicts, updates) + ";";
+
+            default:
+                throw new UnsupportedOperationException(String.format("数据库 %s 不支持批量 upsert", dbType.getDb()));
+        }
+    }
+
+    private static String merge(String target, String source, List<Column> columns, List<String> conflicts, List<Column> updates) {
+        StringBuilder sql = new StringBuilder("MERGE INTO ").append(target).append(" USING ").append(source).append(" ON (")
+            .append(conflicts.stream().map(c -> "t." + c + " = s." + c).collect(Collectors.joining(" AND "))).append(')');
+        if (!updates.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ")
+                .append(updates.stream().map(c -> "t." + c.name + " = s." + c.name).collect(Collectors.joining(",")));
+        }
+        return sql.append(" WHEN NOT MATCHED THEN INSERT (")
+            .append(columns.stream().map(c -> c.name).collect(Collectors.joining(",")))
+            .append(") VALUES (")
+            .append(columns.stream().map(c -> "s." + c.name).collect(Collectors.joining(",")))
+            .append(')').toString();
+    }
+
+    /**
+     * 校验冲突列，未指定时使用主键
+     */
+    private List<String> conflicts(List<Column> columns, List<String> conflictColumns) {
+        if (ObjUtil.isNull(conflictColumns) || conflictColumns.isEmpty()) {
+            if (!tableInfo.havePK()) {
+                throw new IllegalArgumentException(String.format("表 %s 没有主键，需指定冲突列", tableInfo.getTableName()));
+            }
+            conflictColumns = Collections.singletonList(tableInfo.getKeyColumn());
+        }
+        List<String> conflicts = new ArrayList<>(conflictColumns.size());
+        for (String conflictColumn : conflictColumns) {
+            Column column = columns.stream().filter(c -> c.name.equalsIgnoreCase(conflictColumn)).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                    String.format("冲突列 %s 不是表 %s 的列或在所有实体中均为 null", conflictColumn, tableInfo.getTableName())));
+            conflicts.add(column.name);
+        }
+        return conflicts;
+    }
+
+    private static boolean containsIgnoreCase(List<String> names, String name) {
+        return names.stream().anyMatch(name::equalsIgnoreCase);
+    }
+}
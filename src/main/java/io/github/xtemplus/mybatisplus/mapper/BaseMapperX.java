@@ -1,21 +1,74 @@
 package io.github.xtemplus.mybatisplus.mapper;
 
 
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.baomidou.mybatisplus.extension.service.IService;
 import com.baomidou.mybatisplus.extension.toolkit.Db;
-
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
+import io.github.xtemplus.mybatisplus.annotation.UpdateBatchStrategy;
+import io.github.xtemplus.mybatisplus.assembly.BatchQuery;
+import io.github.xtemplus.mybatisplus.assembly.WrapperAssembler;
+import io.github.xtemplus.mybatisplus.batch.BulkLoads;
+import io.github.xtemplus.mybatisplus.batch.InsertBatches;
+import io.github.xtemplus.mybatisplus.batch.ParallelInsertResult;
+import io.github.xtemplus.mybatisplus.batch.ParallelInserts;
+import io.github.xtemplus.mybatisplus.batch.UpdateBatches;
+import io.github.xtemplus.mybatisplus.batch.Upserts;
+import io.github.xtemplus.mybatisplus.criteria.SqlCriteria;
+import io.github.xtemplus.mybatisplus.injector.SelectLimit;
+import io.github.xtemplus.mybatisplus.injector.UpsertSqlSource;
+import io.github.xtemplus.mybatisplus.query.InConditions;
+import io.github.xtemplus.mybatisplus.query.KeysetConditions;
+import io.github.xtemplus.mybatisplus.query.LambdaQueryWrapperX;
+import io.github.xtemplus.mybatisplus.stream.FetchSizeInterceptor;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.page.KeysetPage;
+import io.github.xtemplus.page.KeysetTokens;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 在 MyBatis Plus 的 BaseMapper 的基础上拓展，提供更多的能力
  * <p>
  * 1. {@link BaseMapper} 为 MyBatis Plus 的基础接口，提供基础的 CRUD 能力
+ * 2. xxxByCriteria 方法按 {@link SqlCriteria} 查询，语句由 {@link io.github.xtemplus.mybatisplus.injector.DefaultSqlInjectorX} 注入，
+ *    未注入时转换为 QueryWrapper 查询
+ * 3. selectFirst、selectLimit、selectExists 同样由注入器注入，行数限制按数据库类型下推到 SQL；
+ *    未注入时 selectFirstOne、selectKeysetPage、exists 退回到查询列表取第 1 条、分页查询与 selectCount
+ * 4. selectStream 基于游标或 ResultHandler 逐行读取，fetch size 由 {@link FetchSizeInterceptor} 设置
+ * 5. selectKeysetPage 按排序键定位分页，见 {@link KeysetConditions}
+ * 6. selectPageDeferred 先分页查询主键再回表，用于深度分页
+ * 7. insertBatch 优先使用多行 INSERT，见 {@link InsertBatches}；insertBatchParallel 按分区并发插入，见 {@link ParallelInserts}；
+ *    bulkLoad 使用数据库原生装载，见 {@link BulkLoads}
+ * 8. upsertBatch 按数据库类型渲染 upsert 语句，见 {@link UpsertSqlSource}
+ * 9. updateBatch 可按 {@link UpdateBatchStrategy} 选择逐条更新、CASE WHEN 单条语句更新或只更新变化的列
  */
 public interface BaseMapperX<T> extends BaseMapper<T> {
 
@@ -51,19 +104,59 @@ public interface BaseMapperX<T> extends BaseMapper<T> {
      * @return 实体
      */
     default T selectFirstOne(SFunction<T, ?> field, Object value) {
-        List<T> list = selectList(new LambdaQueryWrapper<T>().eq(field, value));
-        return (ObjUtil.isNull(list) || list.isEmpty()) ? null : list.get(0);
+        return InjectedMethods.selectFirst(this, new LambdaQueryWrapper<T>().eq(field, value));
     }
 
     default T selectFirstOne(SFunction<T, ?> field1, Object value1, SFunction<T, ?> field2, Object value2) {
-        List<T> list = selectList(new LambdaQueryWrapper<T>().eq(field1, value1).eq(field2, value2));
-        return (ObjUtil.isNull(list) || list.isEmpty()) ? null : list.get(0);
+        return InjectedMethods.selectFirst(this, new LambdaQueryWrapper<T>().eq(field1, value1).eq(field2, value2));
     }
 
     default T selectFirstOne(SFunction<T, ?> field1, Object value1, SFunction<T, ?> field2, Object value2,
                              SFunction<T, ?> field3, Object value3) {
-        List<T> list = selectList(new LambdaQueryWrapper<T>().eq(field1, value1).eq(field2, value2).eq(field3, value3));
-        return (ObjUtil.isNull(list) || list.isEmpty()) ? null : list.get(0);
+        return InjectedMethods.selectFirst(this, new LambdaQueryWrapper<T>().eq(field1, value1).eq(field2, value2).eq(field3, value3));
+    }
+
+    /**
+     * 获取满足条件的第 1 条记录，按 template.core.mybatis.db-type 在 SQL 中限制只返回 1 行
+     *
+     * @param queryWrapper 查询条件，可为 null
+     * @return 实体，不存在时为 null
+     */
+    T selectFirst(@Param(Constants.WRAPPER) Wrapper<T> queryWrapper);
+
+    /**
+     * 获取满足条件的前 n 条记录，按 template.core.mybatis.db-type 在 SQL 中限制行数，不依赖分页插件
+     *
+     * @param queryWrapper 查询条件，可为 null
+     * @param limit        最多返回行数，必须大于 0
+     * @return 实体列表
+     */
+    List<T> selectLimit(@Param(Constants.WRAPPER) Wrapper<T> queryWrapper, @Param(SelectLimit.LIMIT) int limit);
+
+    /**
+     * 执行 SELECT 1 ... 并只取 1 行，存在时返回 1，不存在时返回 null
+     *
+     * @param queryWrapper 查询条件，可为 null
+     * @return 1 或 null
+     */
+    Integer selectExists(@Param(Constants.WRAPPER) Wrapper<T> queryWrapper);
+
+    /**
+     * 判断是否存在满足条件的记录，命中第 1 行即返回，比 selectCount 代价低
+     *
+     * @param queryWrapper 查询条件
+     * @return 是否存在
+     */
+    default boolean exists(Wrapper<T> queryWrapper) {
+        return InjectedMethods.exists(this, queryWrapper);
+    }
+
+    default boolean exists(String field, Object value) {
+        return exists(new QueryWrapper<T>().eq(field, value));
+    }
+
+    default boolean exists(SFunction<T, ?> field, Object value) {
+        return exists(new LambdaQueryWrapper<T>().eq(field, value));
     }
 
 
@@ -92,54 +185,515 @@ public interface BaseMapperX<T> extends BaseMapper<T> {
     }
 
     default List<T> selectList(String field, Collection<?> values) {
+        return selectList(field, values, InStrategy.GLOBAL);
+    }
+
+    /**
+     * 按 IN 条件查询，大列表按指定策略处理
+     *
+     * @param field    字段名
+     * @param values   字段值们
+     * @param strategy 大 IN 列表处理策略
+     * @return 实体们
+     */
+    default List<T> selectList(String field, Collection<?> values, InStrategy strategy) {
         if (ObjUtil.isNull(values) || values.isEmpty()) {
             return new ArrayList<>();
         }
-        return selectList(new QueryWrapper<T>().in(field, values));
+        int chunkSize = MybatisPlusXConfig.getInChunkSize();
+        if (InConditions.resolve(strategy) == InStrategy.CHUNKED_QUERIES && values.size() > chunkSize) {
+            List<T> result = new ArrayList<>();
+            for (List<?> chunk : InConditions.chunks(values, chunkSize)) {
+                QueryWrapper<T> wrapper = new QueryWrapper<>();
+                InConditions.in(wrapper, field, chunk, InStrategy.PLAIN);
+                result.addAll(selectList(wrapper));
+            }
+            return result;
+        }
+        QueryWrapper<T> wrapper = new QueryWrapper<>();
+        InConditions.in(wrapper, field, values, strategy);
+        return selectList(wrapper);
     }
 
     default List<T> selectList(SFunction<T, ?> field, Collection<?> values) {
+        return selectList(field, values, InStrategy.GLOBAL);
+    }
+
+    /**
+     * 按 IN 条件查询，大列表按指定策略处理
+     *
+     * @param field    字段
+     * @param values   字段值们
+     * @param strategy 大 IN 列表处理策略
+     * @return 实体们
+     */
+    default List<T> selectList(SFunction<T, ?> field, Collection<?> values, InStrategy strategy) {
         if (ObjUtil.isNull(values) || values.isEmpty()) {
             return new ArrayList<>();
         }
-        return selectList(new LambdaQueryWrapper<T>().in(field, values));
+        int chunkSize = MybatisPlusXConfig.getInChunkSize();
+        if (InConditions.resolve(strategy) == InStrategy.CHUNKED_QUERIES && values.size() > chunkSize) {
+            List<T> result = new ArrayList<>();
+            for (List<?> chunk : InConditions.chunks(values, chunkSize)) {
+                LambdaQueryWrapperX<T> wrapper = new LambdaQueryWrapperX<>();
+                InConditions.in(wrapper, field, chunk, InStrategy.PLAIN);
+                result.addAll(selectList(wrapper));
+            }
+            return result;
+        }
+        LambdaQueryWrapperX<T> wrapper = new LambdaQueryWrapperX<>();
+        InConditions.in(wrapper, field, values, strategy);
+        return selectList(wrapper);
     }
 
     default List<T> selectList(SFunction<T, ?> field1, Object value1, SFunction<T, ?> field2, Object value2) {
         return selectList(new LambdaQueryWrapper<T>().eq(field1, value1).eq(field2, value2));
     }
 
+    /**
+     * 批量按查询 DTO 查询，同形态的 DTO 合并为一条 SQL，结果按 DTO 拆分
+     * <p>
+     * 见 {@link WrapperAssembler#assembleBatch(List)}；合并查询的结果无法在内存中准确拆分时（见 {@link BatchQuery}），
+     * 该批 DTO 改为逐个查询
+     *
+     * @param queryDtos 查询 DTO 列表
+     * @return 与 queryDtos 一一对应的结果列表
+     */
+    default List<List<T>> selectListBatch(List<?> queryDtos) {
+        List<List<T>> results = new ArrayList<>(queryDtos.size());
+        for (int i = 0; i < queryDtos.size(); i++) {
+            results.add(new ArrayList<>());
+        }
+        for (BatchQuery<T> batch : WrapperAssembler.<T>assembleBatch(queryDtos)) {
+            if (!batch.distribute(selectList(batch.getWrapper()), results)) {
+                for (int index : batch.getIndexes()) {
+                    results.get(index).addAll(selectList(batch.getWrapper(index)));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 按 Wrapper 分页查询主键，由注入器注入，实体没有主键时不可用
+     *
+     * @param page         分页参数
+     * @param queryWrapper 查询条件，可为 null
+     * @return 主键分页结果
+     */
+    IPage<Serializable> selectIdPage(IPage<Serializable> page, @Param(Constants.WRAPPER) Wrapper<T> queryWrapper);
+
+    /**
+     * 延迟关联分页：先按条件分页查询主键（可走覆盖索引），再按主键回表并保持原顺序
+     * <p>
+     * 深度分页时数据库只需跳过主键而不是整行；Wrapper 指定了 select 列或 GROUP BY 时结果含义不同，按普通分页查询；
+     * selectIdPage 未注入时同样按普通分页查询
+     *
+     * @param page         分页参数，实体需有主键
+     * @param queryWrapper 查询条件，可为 null
+     * @return 分页结果
+     */
+    default IPage<T> selectPageDeferred(IPage<T> page, Wrapper<T> queryWrapper) {
+        if (queryWrapper instanceof AbstractWrapper && (StrUtil.isNotBlank(queryWrapper.getSqlSelect())
+            || !((AbstractWrapper<?, ?, ?>) queryWrapper).getExpression().getGroupBy().isEmpty())) {
+            return selectPage(page, queryWrapper);
+        }
+
+        // 排序、count 优化、单页上限与自定义 count 语句沿用原分页参数
+        Page<Serializable> idPage = new Page<>(page.getCurrent(), page.getSize(), page.searchCount());
+        idPage.setOrders(page.orders());
+        idPage.setOptimizeCountSql(page.optimizeCountSql());
+        idPage.setOptimizeJoinOfCountSql(page.optimizeJoinOfCountSql());
+        idPage.setMaxLimit(page.maxLimit());
+        idPage.setCountId(page.countId());
+        List<Serializable> ids = InjectedMethods.selectIdPage(this, idPage, queryWrapper);
+        if (ObjUtil.isNull(ids)) {
+            return selectPage(page, queryWrapper);
+        }
+        page.setTotal(idPage.getTotal());
+        if (ids.isEmpty()) {
+            page.setRecords(new ArrayList<>());
+            return page;
+        }
+
+        List<T> rows = selectBatchIds(ids);
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(rows.isEmpty() ? null : rows.get(0).getClass());
+        Map<Object, T> rowsById = new HashMap<>(rows.size() * 4 / 3 + 1);
+        for (T row : rows) {
+            rowsById.put(tableInfo.getPropertyValue(row, tableInfo.getKeyProperty()), row);
+        }
+        List<T> records = new ArrayList<>(ids.size());
+        for (Serializable id : ids) {
+            // 两次查询之间被删除的记录跳过
+            T row = rowsById.get(id);
+            if (ObjUtil.isNotNull(row)) {
+                records.add(row);
+            }
+        }
+        page.setRecords(records);
+        return page;
+    }
+
+    /**
+     * 游标（keyset）分页，按令牌定位下一页，深度翻页与首页代价相同
+     *
+     * @param queryWrapper QueryWrapper 或 LambdaQueryWrapper（如 WrapperAssembler 组装结果），可为 null，会被修改
+     * @param sortKeys     排序键，组合需唯一，通常以主键结尾
+     * @param asc          是否升序
+     * @param token        上一页返回的 nextToken，首页为 null
+     * @param pageSize     每页记录数
+     * @return 分页结果
+     */
+    default KeysetPage<T> selectKeysetPage(Wrapper<T> queryWrapper, List<SFunction<T, ?>> sortKeys, boolean asc,
+                                           String token, int pageSize) {
+        List<Object> lastKeys = StrUtil.isBlank(token) ? null
+            : KeysetTokens.decode(KeysetConditions.signature(sortKeys, asc), token);
+        return selectKeysetPage(queryWrapper, sortKeys, asc, lastKeys, pageSize);
+    }
+
+    /**
+     * 游标（keyset）分页，按上一页最后一行的排序键值定位
+     *
+     * @param queryWrapper QueryWrapper 或 LambdaQueryWrapper，可为 null，会被修改
+     * @param sortKeys     排序键，组合需唯一，通常以主键结尾
+     * @param asc          是否升序
+     * @param lastKeys     上一页最后一行的排序键值，首页为 null
+     * @param pageSize     每页记录数
+     * @return 分页结果
+     */
+    default KeysetPage<T> selectKeysetPage(Wrapper<T> queryWrapper, List<SFunction<T, ?>> sortKeys, boolean asc,
+                                           List<?> lastKeys, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize 必须大于 0");
+        }
+        Wrapper<T> wrapper = KeysetConditions.seek(queryWrapper, sortKeys, lastKeys, asc);
+        // 多查 1 行判断是否有下一页，不统计总数
+        List<T> rows = InjectedMethods.selectLimit(this, wrapper, pageSize + 1);
+
+        KeysetPage<T> page = new KeysetPage<>();
+        page.setPageSize(pageSize);
+        page.setHasNext(rows.size() > pageSize);
+        page.setRecords(page.isHasNext() ? new ArrayList<>(rows.subList(0, pageSize)) : rows);
+        if (page.isHasNext()) {
+            List<Object> values = KeysetConditions.values(rows.get(pageSize - 1), sortKeys);
+            page.setNextToken(KeysetTokens.encode(KeysetConditions.signature(sortKeys, asc), values));
+        }
+        return page;
+    }
+
+    /**
+     * 按 Wrapper 查询游标，由注入器注入
+     * <p>
+     * 游标在 SqlSession 关闭时失效，Spring 环境下需在事务中调用并在事务结束前读取完毕
+     *
+     * @param queryWrapper 查询条件，可为 null
+     * @return 游标
+     */
+    Cursor<T> selectCursor(@Param(Constants.WRAPPER) Wrapper<T> queryWrapper);
+
+    /**
+     * 按 Wrapper 逐行查询，每映射一行回调一次 resultHandler，复用 selectList 的 SQL
+     *
+     * @param queryWrapper  查询条件，可为 null
+     * @param resultHandler 结果回调
+     */
+    void selectList(@Param(Constants.WRAPPER) Wrapper<T> queryWrapper, ResultHandler<T> resultHandler);
+
+    default Stream<T> selectStream(Wrapper<T> queryWrapper) {
+        return selectStream(queryWrapper, MybatisPlusXConfig.getStreamFetchSize());
+    }
+
+    /**
+     * 流式查询，内存占用与结果行数无关，适合导出等大结果集场景
+     * <p>
+     * 基于 {@link #selectCursor(Wrapper)}，需在事务中调用，使用 try-with-resources 关闭 Stream 以释放游标；
+     * MySQL 自动使用流式读取，读取完毕或关闭前同一连接不能执行其它语句；PostgreSQL 只在事务内按 fetchSize 分批读取。
+     * mapper 未由 DefaultSqlInjectorX 注入时抛出 IllegalStateException，可改用 {@link #selectStream(Wrapper, int, Consumer)}
+     *
+     * @param queryWrapper 查询条件，可为 null
+     * @param fetchSize    每批从数据库读取的行数
+     * @return 需要关闭的 Stream
+     */
+    default Stream<T> selectStream(Wrapper<T> queryWrapper, int fetchSize) {
+        Cursor<T> cursor = FetchSizeInterceptor.with(fetchSize, () -> InjectedMethods.selectCursor(this, queryWrapper));
+        return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> IoUtil.close(cursor));
+    }
+
+    default void selectStream(Wrapper<T> queryWrapper, Consumer<T> consumer) {
+        selectStream(queryWrapper, MybatisPlusXConfig.getStreamFetchSize(), consumer);
+    }
+
+    /**
+     * 流式查询，逐行回调，调用返回时结果已全部处理
+     * <p>
+     * 基于 {@link #selectList(Wrapper, ResultHandler)}，不依赖事务，回调中抛出的异常会中断查询
+     *
+     * @param queryWrapper 查询条件，可为 null
+     * @param fetchSize    每批从数据库读取的行数
+     * @param consumer     逐行回调
+     */
+    default void selectStream(Wrapper<T> queryWrapper, int fetchSize, Consumer<T> consumer) {
+        FetchSizeInterceptor.with(fetchSize, () -> {
+            selectList(queryWrapper, context -> consumer.accept(context.getResultObject()));
+            return null;
+        });
+    }
+
+    /**
+     * 按轻量条件查询列表，条件直接渲染为 SQL，不经过 Wrapper
+     * <p>
+     * 未注入时转换为 QueryWrapper 后调用 selectList，见 {@link SqlCriteria#toWrapper()}
+     *
+     * @param criteria 查询条件，可为 null
+     * @return 实体们
+     */
+    default List<T> selectListByCriteria(SqlCriteria criteria) {
+        return InjectedMethods.selectListByCriteria(this, criteria);
+    }
+
+    /**
+     * 按轻量条件查询总数，未注入时转换为 QueryWrapper 后调用 selectCount
+     *
+     * @param criteria 查询条件，可为 null
+     * @return 总数
+     */
+    default Long selectCountByCriteria(SqlCriteria criteria) {
+        return InjectedMethods.selectCountByCriteria(this, criteria);
+    }
+
+    /**
+     * 按轻量条件查询列表，由注入器注入，业务代码使用 {@link #selectListByCriteria(SqlCriteria)}
+     *
+     * @param criteria 查询条件，可为 null
+     * @return 实体们
+     */
+    List<T> selectCriteriaList(SqlCriteria criteria);
+
+    /**
+     * 按轻量条件查询总数，由注入器注入，业务代码使用 {@link #selectCountByCriteria(SqlCriteria)}
+     *
+     * @param criteria 查询条件，可为 null
+     * @return 总数
+     */
+    Long selectCriteriaCount(SqlCriteria criteria);
+
+    /**
+     * 多行 INSERT ... VALUES (...),(...)，由注入器注入
+     * <p>
+     * 只写入至少一个实体中按插入策略需要写入的列，实体的写入列应相同，见 {@link InsertBatches#groupByColumns}；
+     * 主键生成与自动填充需已处理
+     *
+     * @param entityList 实体们
+     * @return 影响行数
+     */
+    Integer insertList(@Param(Constants.LIST) List<T> entityList);
+
     /**
      * 批量插入，适合大量数据插入
      *
      * @param entities 实体们
      */
     default Boolean insertBatch(Collection<T> entities) {
-        // 只支持MySQL，直接用MyBatis-Plus批量方法
-        return Db.saveBatch(entities);
+        return insertBatch(entities, IService.DEFAULT_BATCH_SIZE);
     }
 
     /**
      * 批量插入，适合大量数据插入
+     * <p>
+     * 开启 template.core.mybatis.multi-row-insert、数据库支持且驱动未改写批量语句时使用 {@link #insertList(List)}：
+     * 先生成主键并执行插入自动填充，再按写入列分组，值为 null 的列与单条 insert 一样使用数据库默认值，
+     * 每条语句的行数按 {@link InsertBatches#chunkSize} 估算；否则（包括 insertList 未注入时）使用 Db.saveBatch。
+     * 多条语句之间不保证原子性，需要时在事务中调用
      *
      * @param entities 实体们
-     * @param size     插入数量 Db.saveBatch 默认为 1000
+     * @param size     每条语句（或每次 JDBC 批处理）的最大行数，默认为 1000
      */
     default Boolean insertBatch(Collection<T> entities, int size) {
-        // 只支持MySQL，直接用MyBatis-Plus批量方法
-        return Db.saveBatch(entities, size);
+        if (ObjUtil.isNull(entities) || entities.isEmpty()) {
+            return false;
+        }
+        Class<?> entityClass = entities.iterator().next().getClass();
+        if (!InsertBatches.multiRow(entityClass)) {
+            return Db.saveBatch(entities, size);
+        }
+
+        // 语句在 MyBatis-Plus 自动填充前渲染，先填充再按写入列分组
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        Upserts.prepare(tableInfo, entities, false);
+        for (List<T> group : InsertBatches.groupByColumns(tableInfo, entities)) {
+            for (List<T> chunk : CollUtil.split(group, InsertBatches.chunkSize(tableInfo, group, size))) {
+                InjectedMethods.insertList(this, chunk);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 并行分区批量插入，适合大批量导入
+     * <p>
+     * 按 partitionSize 切分后并发插入，每个分区在独立的连接与事务中调用 {@link #insertBatch(Collection, int)}，
+     * 失败的分区回滚，不影响其它分区，结果中记录失败分区的下标范围。并发数见
+     * template.core.mybatis.parallel-insert-threads，不会加入调用方的事务，见 {@link ParallelInserts}
+     *
+     * @param entities      实体们
+     * @param partitionSize 每个分区（事务）的行数
+     * @return 各分区的结果
+     */
+    default ParallelInsertResult insertBatchParallel(Collection<T> entities, int partitionSize) {
+        return insertBatchParallel(entities, partitionSize, null);
+    }
+
+    /**
+     * 使用指定的事务管理器并行分区批量插入，多数据源时传入实体所在数据源的事务管理器
+     *
+     * @param entities           实体们
+     * @param partitionSize      每个分区（事务）的行数
+     * @param transactionManager 分区事务的事务管理器，null 时使用应用的事务管理器
+     * @return 各分区的结果
+     */
+    default ParallelInsertResult insertBatchParallel(Collection<T> entities, int partitionSize,
+                                                     PlatformTransactionManager transactionManager) {
+        return ParallelInserts.insert(entities, partitionSize, transactionManager,
+            partition -> insertBatch(partition, Math.min(partitionSize, IService.DEFAULT_BATCH_SIZE)));
+    }
+
+    default long bulkLoad(Stream<T> entities) {
+        return bulkLoad(entities, IService.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 使用数据库原生装载（MySQL LOAD DATA LOCAL INFILE / PostgreSQL COPY）批量写入，适合百万级数据
+     * <p>
+     * 实体边读边编码后交给驱动，不会整体加载到内存；主键生成与插入自动填充在编码时执行，值为 null 的字段写入 NULL，
+     * 需要使用列默认值时见 {@link #bulkLoad(Stream, int, List)}。
+     * 不支持时回退为每 batchSize 条一次 {@link #insertBatch(Collection, int)}，见 {@link BulkLoads}。
+     * MySQL 的 LOCAL 装载遇到重复键、类型转换错误时只产生警告，此时抛出异常
+     *
+     * @param entities  实体流，装载结束后关闭
+     * @param batchSize 回退时每批的行数
+     * @return 写入行数
+     */
+    default long bulkLoad(Stream<T> entities, int batchSize) {
+        return bulkLoad(entities, batchSize, null);
+    }
+
+    /**
+     * 使用数据库原生装载批量写入指定的列，其它列使用数据库默认值
+     *
+     * @param entities  实体流，装载结束后关闭
+     * @param batchSize 回退时每批的行数
+     * @param columns   写入的字段，为空时写入全部字段
+     * @return 写入行数
+     */
+    default long bulkLoad(Stream<T> entities, int batchSize, List<SFunction<T, ?>> columns) {
+        return BulkLoads.load(entities, batchSize, columns, batch -> insertBatch(batch, batchSize));
+    }
+
+    /**
+     * 批量 upsert，由注入器注入，SQL 见 {@link UpsertSqlSource}
+     *
+     * @param entityList      实体们，主键与自动填充需已处理
+     * @param conflictColumns 冲突列，为空时使用主键
+     * @return 影响行数
+     */
+    Integer upsertList(@Param(Constants.LIST) List<T> entityList,
+                       @Param(UpsertSqlSource.CONFLICT_COLUMNS) List<String> conflictColumns);
+
+    default Boolean upsertBatch(Collection<T> entities, String... conflictColumns) {
+        return upsertBatch(entities, IService.DEFAULT_BATCH_SIZE, conflictColumns);
+    }
+
+    /**
+     * 批量 upsert：冲突列已存在的记录更新，不存在的插入，一次写入无需先查询比对
+     * <p>
+     * 语法按 template.core.mybatis.db-type 渲染，MySQL 按表上的全部唯一键判断冲突，其它数据库冲突列需有唯一约束；
+     * 值为 null 的字段不会覆盖已有值。分批方式与 {@link #insertBatch(Collection, int)} 相同。
+     * 按非主键冲突列 upsert 时，命中已有记录的实体上生成的主键不是数据库中的主键。
+     * 除 MySQL 外，冲突值相同的实体只写入最后一个，见 {@link Upserts#distinct}。
+     * 依赖注入的 upsertList，mapper 未由 DefaultSqlInjectorX 注入时抛出 IllegalStateException
+     *
+     * @param entities        实体们
+     * @param size            每条语句的最大行数
+     * @param conflictColumns 冲突列（数据库列名），为空时使用主键
+     */
+    default Boolean upsertBatch(Collection<T> entities, int size, String... conflictColumns) {
+        if (ObjUtil.isNull(entities) || entities.isEmpty()) {
+            return false;
+        }
+        if (!Upserts.supports(MybatisPlusXConfig.getDbType())) {
+            throw new UnsupportedOperationException(
+                String.format("数据库 %s 不支持批量 upsert", MybatisPlusXConfig.getDbType().getDb())
+            );
+        }
+
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entities.iterator().next().getClass());
+        Upserts.prepare(tableInfo, entities);
+        List<String> conflicts = Arrays.asList(conflictColumns);
+        Collection<T> distinct = Upserts.distinct(tableInfo, entities, conflicts, MybatisPlusXConfig.getDbType());
+        // 按写入列分组，null 字段不进入所在语句，不会覆盖已有值
+        for (List<T> group : InsertBatches.groupByColumns(tableInfo, distinct)) {
+            for (List<T> chunk : CollUtil.split(group, InsertBatches.chunkSize(tableInfo, group, size))) {
+                InjectedMethods.upsertList(this, chunk, conflicts);
+            }
+        }
+        return true;
     }
 
     default int updateBatch(T update) {
         return update(update, new QueryWrapper<>());
     }
 
+    /**
+     * 按主键批量更新，一批实体一条 UPDATE，由注入器注入，实体没有主键时不可用
+     *
+     * @param entityList 实体们，更新自动填充需已处理
+     * @return 影响行数
+     */
+    Integer updateBatchByCase(@Param(Constants.LIST) List<T> entityList);
+
     default Boolean updateBatch(Collection<T> entities) {
-        return Db.updateBatchById(entities);
+        return updateBatch(entities, UpdateBatchStrategy.GLOBAL);
     }
 
     default Boolean updateBatch(Collection<T> entities, int size) {
-        return Db.updateBatchById(entities, size);
+        return updateBatch(entities, size, UpdateBatchStrategy.GLOBAL);
+    }
+
+    default Boolean updateBatch(Collection<T> entities, UpdateBatchStrategy strategy) {
+        if (ObjUtil.isNull(entities) || entities.isEmpty()) {
+            return false;
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entities.iterator().next().getClass());
+        int size = UpdateBatches.resolve(strategy, tableInfo) == UpdateBatchStrategy.CASE_WHEN
+            ? MybatisPlusXConfig.getCaseWhenBatchSize() : IService.DEFAULT_BATCH_SIZE;
+        return updateBatch(entities, size, strategy);
+    }
+
+    /**
+     * 按主键批量更新，值为 null 的字段不更新
+     *
+     * @param entities 实体们
+     * @param size     PER_ROW、DIRTY 为每次 JDBC 批处理的条数，CASE_WHEN 为每条 UPDATE 的最大行数
+     * @param strategy 批量更新策略
+     */
+    default Boolean updateBatch(Collection<T> entities, int size, UpdateBatchStrategy strategy) {
+        if (ObjUtil.isNull(entities) || entities.isEmpty()) {
+            return false;
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entities.iterator().next().getClass());
+        UpdateBatchStrategy resolved = UpdateBatches.resolve(strategy, tableInfo);
+        if (resolved == UpdateBatchStrategy.DIRTY) {
+            return UpdateBatches.updateDirty(tableInfo, entities, size);
+        }
+        if (resolved != UpdateBatchStrategy.CASE_WHEN) {
+            return Db.updateBatchById(entities, size);
+        }
+
+        UpdateBatches.prepare(tableInfo, entities);
+        for (List<T> chunk : CollUtil.split(entities, UpdateBatches.chunkSize(tableInfo, size))) {
+            InjectedMethods.updateBatchByCase(this, chunk);
+        }
+        return true;
     }
 
     default int delete(String field, String value) {
@@ -0,0 +1,189 @@
+package io.github.xtemplus.mybatisplus.mapper;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.baomidou.mybatisplus.extension.toolkit.Db;
+import io.github.xtemplus.mybatisplus.criteria.SqlCriteria;
+import io.github.xtemplus.utils.Log;
+import org.apache.ibatis.binding.BindingException;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 调用 {@link io.github.xtemplus.mybatisplus.injector.DefaultSqlInjectorX} 注入的方法
+ * <p>
+ * 应用使用自己的 ISqlInjector（未继承 DefaultSqlInjectorX）时注入方法没有对应的 MappedStatement，
+ * MyBatis 抛出 BindingException，此时退回到 BaseMapper 原有的查询方式或 Db 的批处理；
+ * 没有等价实现的方法抛出 IllegalStateException 说明需要注入
+ */
+final class InjectedMethods {
+
+    private InjectedMethods() {
+    }
+
+    /**
+     * selectFirst，未注入时查询列表后取第 1 条
+     */
+    static <T> T selectFirst(BaseMapperX<T> mapper, Wrapper<T> queryWrapper) {
+        try {
+            return mapper.selectFirst(queryWrapper);
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            Log.debug("selectFirst 未注入，退回为查询列表后取第 1 条：{}", e.getMessage());
+            List<T> list = mapper.selectList(queryWrapper);
+            return (ObjUtil.isNull(list) || list.isEmpty()) ? null : list.get(0);
+        }
+    }
+
+    /**
+     * selectLimit，未注入时按不统计总数的分页查询，需要分页插件限制行数
+     */
+    static <T> List<T> selectLimit(BaseMapperX<T> mapper, Wrapper<T> queryWrapper, int limit) {
+        try {
+            return mapper.selectLimit(queryWrapper, limit);
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            Log.debug("selectLimit 未注入，退回为分页查询：{}", e.getMessage());
+            return mapper.selectPage(new Page<>(1, limit, false), queryWrapper).getRecords();
+        }
+    }
+
+    /**
+     * selectExists，未注入时按 selectCount 判断
+     */
+    static <T> boolean exists(BaseMapperX<T> mapper, Wrapper<T> queryWrapper) {
+        try {
+            return ObjUtil.isNotNull(mapper.selectExists(queryWrapper));
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            Log.debug("selectExists 未注入，退回为 selectCount：{}", e.getMessage());
+            Long count = mapper.selectCount(queryWrapper);
+            return ObjUtil.isNotNull(count) && count > 0;
+        }
+    }
+
+    /**
+     * selectCursor，退回为 selectList 会把结果全部加载到内存，未注入时抛出异常
+     */
+    static <T> Cursor<T> selectCursor(BaseMapperX<T> mapper, Wrapper<T> queryWrapper) {
+        try {
+            return mapper.selectCursor(queryWrapper);
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            throw notInjected("selectCursor", e);
+        }
+    }
+
+    /**
+     * selectIdPage，未注入（包括实体没有主键）时返回 null，由调用方按普通分页查询
+     */
+    static <T> List<Serializable> selectIdPage(BaseMapperX<T> mapper, IPage<Serializable> page, Wrapper<T> queryWrapper) {
+        try {
+            return mapper.selectIdPage(page, queryWrapper).getRecords();
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            Log.debug("selectIdPage 未注入，退回为普通分页：{}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * selectCriteriaList，未注入时转换为 QueryWrapper 后调用 selectList
+     */
+    static <T> List<T> selectListByCriteria(BaseMapperX<T> mapper, SqlCriteria criteria) {
+        try {
+            return mapper.selectCriteriaList(criteria);
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            Log.debug("selectCriteriaList 未注入，退回为 selectList：{}", e.getMessage());
+            return mapper.selectList(ObjUtil.isNull(criteria) ? null : criteria.toWrapper());
+        }
+    }
+
+    /**
+     * selectCriteriaCount，未注入时转换为 QueryWrapper 后调用 selectCount
+     */
+    static <T> Long selectCountByCriteria(BaseMapperX<T> mapper, SqlCriteria criteria) {
+        try {
+            return mapper.selectCriteriaCount(criteria);
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            Log.debug("selectCriteriaCount 未注入，退回为 selectCount：{}", e.getMessage());
+            return mapper.selectCount(ObjUtil.isNull(criteria) ? null : criteria.toWrapper());
+        }
+    }
+
+    /**
+     * insertList，未注入时按 Db.saveBatch 以 JDBC 批处理插入
+     */
+    static <T> void insertList(BaseMapperX<T> mapper, List<T> entityList) {
+        try {
+            mapper.insertList(entityList);
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            Log.debug("insertList 未注入，退回为 Db.saveBatch：{}", e.getMessage());
+            Db.saveBatch(entityList, entityList.size());
+        }
+    }
+
+    /**
+     * updateBatchByCase，未注入时按 Db.updateBatchById 逐行更新
+     */
+    static <T> void updateBatchByCase(BaseMapperX<T> mapper, List<T> entityList) {
+        try {
+            mapper.updateBatchByCase(entityList);
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            Log.debug("updateBatchByCase 未注入，退回为 Db.updateBatchById：{}", e.getMessage());
+            Db.updateBatchById(entityList, entityList.size());
+        }
+    }
+
+    /**
+     * upsertList，逐行查询后插入或更新无法保持插入专用列、冲突列的语义，未注入时抛出异常
+     */
+    static <T> void upsertList(BaseMapperX<T> mapper, List<T> entityList, List<String> conflictColumns) {
+        try {
+            mapper.upsertList(entityList, conflictColumns);
+        } catch (BindingException e) {
+            if (!isUnbound(e)) {
+                throw e;
+            }
+            throw notInjected("upsertList", e);
+        }
+    }
+
+    private static IllegalStateException notInjected(String method, BindingException e) {
+        return new IllegalStateException(String.format("%s 未注入，mapper 需由 DefaultSqlInjectorX 或其子类注入", method), e);
+    }
+
+    /**
+     * MyBatis 找不到 MappedStatement 时的异常
+     */
+    private static boolean isUnbound(BindingException e) {
+        return StrUtil.startWith(e.getMessage(), "Invalid bound statement");
+    }
+}
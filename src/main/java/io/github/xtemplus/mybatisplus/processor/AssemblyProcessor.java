@@ -0,0 +1,356 @@
+package io.github.xtemplus.mybatisplus.processor;
+
+import com.baomidou.mybatisplus.core.toolkit.StringUtils;
+import io.github.xtemplus.mybatisplus.annotation.Assembly;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
+import io.github.xtemplus.mybatisplus.assembly.AssemblerRegistry;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link Assembly} 注解处理器
+ * <p>
+ * 编译期为每个带 @Assembly 字段的 DTO 生成 XxxAssembler（实现 {@link io.github.xtemplus.mybatisplus.assembly.GeneratedAssembler}），
+ * 使用普通 getter 调用与方法引用组装 QueryWrapper / LambdaQueryWrapperX，运行时由 WrapperAssembler 优先使用，
+ * 请求路径与启动阶段均不再依赖反射。
+ * <p>
+ * 字段过滤、列名与条件规则与运行时组装计划保持一致；DTO 为泛型类、私有内部类，或存在找不到 getter 的字段时不生成，
+ * 运行时自动退回反射组装。
+ * <p>
+ * 处理器不通过 META-INF/services 自动注册，避免编译本库及所有依赖方时都加载它，需要时显式启用，例如 Maven：
+ * <pre>{@code
+ * <annotationProcessorPaths>
+ *     <path>本库坐标</path>
+ *     <path>Lombok 坐标（如有）</path>
+ * </annotationProcessorPaths>
+ * <annotationProcessors>
+ *     <annotationProcessor>io.github.xtemplus.mybatisplus.processor.AssemblyProcessor</annotationProcessor>
+ *     <annotationProcessor>lombok.launch.AnnotationProcessorHider$AnnotationProcessor</annotationProcessor>
+ * </annotationProcessors>
+ * }</pre>
+ * javac 直接使用时为 {@code -processorpath <本库 jar> -processor io.github.xtemplus.mybatisplus.processor.AssemblyProcessor}。
+ * 显式指定处理器后 javac 不再自动发现其它处理器，使用 Lombok 时需一并列出
+ */
+public class AssemblyProcessor extends AbstractProcessor {
+
+    private static final String TABLE_FIELD = "com.baomidou.mybatisplus.annotation.TableField";
+    private static final Set<String> LOMBOK_GETTERS = new HashSet<>(
+        Arrays.asList("lombok.Data", "lombok.Getter", "lombok.Value"));
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(Assembly.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> dtoTypes = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Assembly.class)) {
+            if (element.getEnclosingElement() instanceof TypeElement) {
+                dtoTypes.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement dtoType : dtoTypes) {
+            generate(dtoType);
+        }
+        return false;
+    }
+
+    private void generate(TypeElement dtoType) {
+        if (!dtoType.getTypeParameters().isEmpty() || !isReachable(dtoType)) {
+            note(dtoType, "泛型或不可访问的 DTO，跳过生成，运行时使用反射组装");
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(dtoType).getQualifiedName().toString();
+        List<FieldModel> fields = new ArrayList<>();
+        for (VariableElement field : collectFields(dtoType)) {
+            String getter = findGetter(dtoType, field, packageName);
+            if (getter == null) {
+                note(dtoType, "字段 " + field.getSimpleName() + " 没有可访问的 getter，跳过生成，运行时使用反射组装");
+                return;
+            }
+            fields.add(new FieldModel(field, getter));
+        }
+
+        String binaryName = processingEnv.getElementUtils().getBinaryName(dtoType).toString();
+        String assemblerName = AssemblerRegistry.assemblerClassName(binaryName);
+        String simpleName = assemblerName.substring(assemblerName.lastIndexOf('.') + 1);
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(assemblerName, dtoType);
+            try (Writer writer = file.openWriter()) {
+                writer.write(render(packageName, simpleName, dtoType.getQualifiedName().toString(), fields));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "生成组装器 " + assemblerName + " 失败：" + e.getMessage(), dtoType);
+        }
+    }
+
+    /**
+     * 与运行时一致：当前类及父类的全部字段，跳过 static、transient、final 与 @TableField(exist = false)
+     */
+    private List<VariableElement> collectFields(TypeElement dtoType) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeElement type = dtoType;
+        while (type != null && !Object.class.getName().contentEquals(type.getQualifiedName())) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC)
+                    || modifiers.contains(Modifier.TRANSIENT)
+                    || modifiers.contains(Modifier.FINAL)
+                    || isNotExist(field)) {
+                    continue;
+                }
+                fields.add(field);
+            }
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+        }
+        return fields;
+    }
+
+    private boolean isNotExist(VariableElement field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (!TABLE_FIELD.contentEquals(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("exist")) {
+                    return Boolean.FALSE.equals(entry.getValue().getValue());
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 查找 getter：getXxx / isXxx（boolean）/ xxx，找不到时若类或字段带 Lombok getter 注解则按约定命名
+     */
+    private String findGetter(TypeElement dtoType, VariableElement field, String packageName) {
+        String name = field.getSimpleName().toString();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        boolean primitiveBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        List<String> candidates = new ArrayList<>();
+        candidates.add("get" + suffix);
+        if (primitiveBoolean) {
+            candidates.add("is" + suffix);
+        }
+        candidates.add(name);
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(dtoType));
+        for (String candidate : candidates) {
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(candidate)
+                    && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())
+                    && isAccessible(method, packageName)) {
+                    return candidate;
+                }
+            }
+        }
+
+        TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+        if (hasLombokGetter(field) || hasLombokGetter(declaringType)) {
+            return lombokGetter(name, suffix, primitiveBoolean);
+        }
+        return null;
+    }
+
+    /**
+     * Lombok 的 getter 命名：boolean 字段为 isXxx，字段名本身以 is 加大写字母开头时（如 isActive）直接使用字段名；
+     * 其它类型（包括 Boolean）为 getXxx
+     */
+    static String lombokGetter(String name, String suffix, boolean primitiveBoolean) {
+        if (!primitiveBoolean) {
+            return "get" + suffix;
+        }
+        if (name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+            return name;
+        }
+        return "is" + suffix;
+    }
+
+    private boolean hasLombokGetter(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (LOMBOK_GETTERS.contains(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(Element element, String packageName) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        PackageElement owner = processingEnv.getElementUtils().getPackageOf(element);
+        return owner.getQualifiedName().contentEquals(packageName);
+    }
+
+    private boolean isReachable(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            TypeElement t = (TypeElement) e;
+            if (t.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String render(String packageName, String simpleName, String dtoName, List<FieldModel> fields) {
+        StringBuilder sb = new StringBuilder(1024);
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;\n")
+            .append("import com.baomidou.mybatisplus.core.toolkit.support.SFunction;\n")
+            .append("import io.github.xtemplus.mybatisplus.annotation.AssemblyType;\n")
+            .append("import io.github.xtemplus.mybatisplus.assembly.AssemblyConditions;\n")
+            .append("import io.github.xtemplus.mybatisplus.assembly.ConditionApplier;\n")
+            .append("import io.github.xtemplus.mybatisplus.assembly.GeneratedAssembler;\n")
+            .append("import io.github.xtemplus.mybatisplus.query.LambdaQueryWrapperX;\n\n")
+            .append("/**\n * {@link ").append(dtoName).append("} 的查询条件组装器\n")
+            .append(" * <p>\n * 由 ").append(AssemblyProcessor.class.getName()).append(" 生成，请勿修改\n */\n")
+            .append("public final class ").append(simpleName)
+            .append(" implements GeneratedAssembler<").append(dtoName).append("> {\n\n");
+
+        Set<String> constants = new HashSet<>();
+        for (int i = 0; i < fields.size(); i++) {
+            FieldModel field = fields.get(i);
+            // 父类字段被子类同名字段遮蔽时，常量名追加序号
+            String constant = StringUtils.camelToUnderline(field.property).toUpperCase();
+            field.constant = constants.add(constant) ? constant : constant + "_" + i;
+            sb.append("    private static final ConditionApplier ").append(field.constant)
+                .append(" = AssemblyConditions.of(AssemblyType.").append(field.type.name())
+                .append(", ").append(literal(field.property));
+            if (field.inStrategy != InStrategy.GLOBAL || field.escape) {
+                sb.append(", ").append(InStrategy.class.getName()).append('.').append(field.inStrategy.name())
+                    .append(", ").append(field.escape);
+            }
+            sb.append(");\n");
+        }
+
+        sb.append("\n    @Override\n    public void assemble(").append(dtoName)
+            .append(" queryDto, QueryWrapper<").append(dtoName).append("> wrapper) {\n");
+        renderBody(sb, fields, false, dtoName);
+        sb.append("    }\n\n    @Override\n    public void assembleLambda(").append(dtoName)
+            .append(" queryDto, LambdaQueryWrapperX<").append(dtoName).append("> wrapper) {\n");
+        if (fields.stream().allMatch(field -> field.beanGetter)) {
+            renderBody(sb, fields, true, dtoName);
+            sb.append("    }\n}\n");
+        } else {
+            // 方法引用无法还原属性名，Lambda 条件交给反射组装
+            sb.append("        throw new UnsupportedOperationException(")
+                .append(literal(dtoName + " 的 getter 命名不支持 Lambda 列引用")).append(");\n")
+                .append("    }\n\n    @Override\n    public boolean supportsLambda() {\n")
+                .append("        return false;\n    }\n}\n");
+        }
+        return sb.toString();
+    }
+
+    private void renderBody(StringBuilder sb, List<FieldModel> fields, boolean lambda, String dtoName) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        sb.append("        Object value;\n");
+        for (FieldModel field : fields) {
+            sb.append("\n        value = queryDto.").append(field.getter).append("();\n")
+                .append("        if (!AssemblyConditions.isEmptyValue(value)) {\n")
+                .append("            ").append(field.constant).append(".apply(wrapper, ");
+            if (lambda) {
+                sb.append("(SFunction<").append(dtoName).append(", ?>) ").append(dtoName).append("::").append(field.getter);
+            } else {
+                sb.append(literal(field.column));
+            }
+            sb.append(", value);\n        }\n");
+        }
+    }
+
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "@Assembly: " + message, element);
+    }
+
+    /**
+     * 单个字段的生成模型
+     */
+    private static class FieldModel {
+        final String property;
+        final String getter;
+        final String column;
+        final AssemblyType type;
+        final InStrategy inStrategy;
+        final boolean escape;
+        /**
+         * getter 是否为 getXxx / isXxx（boolean），即 MyBatis-Plus 能否从方法引用还原出属性名
+         */
+        final boolean beanGetter;
+        String constant;
+
+        FieldModel(VariableElement field, String getter) {
+            Assembly assembly = field.getAnnotation(Assembly.class);
+            this.property = field.getSimpleName().toString();
+            this.getter = getter;
+            this.column = assembly == null || assembly.column().isEmpty()
+                ? StringUtils.camelToUnderline(property)
+                : assembly.column();
+            this.type = assembly == null ? AssemblyType.EQ : assembly.type();
+            this.inStrategy = assembly == null ? InStrategy.GLOBAL : assembly.inStrategy();
+            this.escape = assembly != null && assembly.escape();
+            String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            this.beanGetter = getter.equals("get" + suffix)
+                || (field.asType().getKind() == TypeKind.BOOLEAN && getter.equals("is" + suffix));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.LambdaUtils;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.utils.Log;
+
+/**
+ * 全文检索条件拼接工具
+ * <p>
+ * 按数据库类型渲染全文检索条件，命中全文索引而不是 '%值%' 全表扫描：
+ * <ul>
+ *     <li>MySQL / MariaDB：MATCH(col) AGAINST(? IN BOOLEAN MODE)，需要 FULLTEXT 索引</li>
+ *     <li>PostgreSQL：to_tsvector(col) @@ plainto_tsquery(?)，配置 full-text-config 后与表达式索引一致</li>
+ *     <li>H2：通过 FT_SEARCH_DATA 按主键过滤，需要先执行 FT_INIT 与 FT_CREATE_INDEX，用于测试</li>
+ * </ul>
+ * H2 需要实体类确定表与主键：取 wrapper 的实体类，没有时取 Lambda 列引用的实体类；
+ * 其它数据库或无法确定列名、表信息时退化为 LIKE '%值%'
+ */
+public final class FullTextConditions {
+
+    private FullTextConditions() {
+    }
+
+    /**
+     * 拼接全文检索条件
+     *
+     * @param wrapper QueryWrapper 或 LambdaQueryWrapper
+     * @param column  列（字符串列名或 SFunction）
+     * @param value   检索文本
+     */
+    public static void match(AbstractWrapper<?, ?, ?> wrapper, Object column, String value) {
+        String columnName = InConditions.columnName(wrapper, column);
+        String sql = ObjUtil.isNull(columnName) ? null : template(columnName, entityClass(wrapper, column));
+        if (ObjUtil.isNull(sql)) {
+            raw(wrapper).like(column, value);
+            return;
+        }
+        raw(wrapper).apply(sql, value);
+    }
+
+    /**
+     * 渲染当前数据库的全文检索条件模板，检索文本占位符为 {0}
+     *
+     * @param columnName  列名
+     * @param entityClass 实体类，仅 H2 需要，可为 null
+     * @return 条件模板，当前数据库不支持时返回 null
+     */
+    public static String template(String columnName, Class<?> entityClass) {
+        switch (MybatisPlusXConfig.getDbType()) {
+            case MYSQL:
+            case MARIADB:
+                return "MATCH(" + columnName + ") AGAINST({0} IN BOOLEAN MODE)";
+
+            case POSTGRE_SQL:
+                String config = MybatisPlusXConfig.getFullTextConfig();
+                if (StrUtil.isBlank(config)) {
+                    return "to_tsvector(" + columnName + ") @@ plainto_tsquery({0})";
+                }
+                return "to_tsvector('" + config + "', " + columnName + ") @@ plainto_tsquery('" + config + "', {0})";
+
+            case H2:
+                return renderH2(entityClass);
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * H2 的全文索引按表建立，检索结果为表名与主键，因此改为按主键过滤
+     */
+    private static String renderH2(Class<?> entityClass) {
+        TableInfo tableInfo = ObjUtil.isNull(entityClass) ? null : TableInfoHelper.getTableInfo(entityClass);
+        if (ObjUtil.isNull(tableInfo) || StrUtil.isBlank(tableInfo.getKeyColumn())) {
+            Log.debug("无法确定 H2 全文检索的表或主键，退化为 LIKE：{}", entityClass);
+            return null;
+        }
+        return tableInfo.getKeyColumn() + " IN (SELECT FT.KEYS[1] FROM FT_SEARCH_DATA({0}, 0, 0) FT WHERE FT.\"TABLE\" = '"
+            + tableInfo.getTableName().toUpperCase() + "')";
+    }
+
+    /**
+     * 条件所属的实体类：wrapper 未指定实体类时从 Lambda 列引用解析
+     */
+    private static Class<?> entityClass(AbstractWrapper<?, ?, ?> wrapper, Object column) {
+        if (ObjUtil.isNotNull(wrapper.getEntityClass())) {
+            return wrapper.getEntityClass();
+        }
+        if (column instanceof SFunction) {
+            return LambdaUtils.extract((SFunction<?, ?>) column).getInstantiatedClass();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AbstractWrapper<Object, Object, ?> raw(AbstractWrapper<?, ?, ?> wrapper) {
+        return (AbstractWrapper<Object, Object, ?>) wrapper;
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.toolkit.LambdaUtils;
+import com.baomidou.mybatisplus.core.toolkit.support.ColumnCache;
+import com.baomidou.mybatisplus.core.toolkit.support.LambdaMeta;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.reflection.property.PropertyNamer;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IN 条件拼接工具
+ * <p>
+ * 按 {@link InStrategy} 处理大 IN 列表，避免单条 SQL 绑定参数过多导致 SQL 文本膨胀、
+ * 分页插件解析变慢以及触发数据库占位符数量上限；开启分桶时按 {@link InListBuckets} 补齐列表长度
+ */
+public final class InConditions {
+
+    /**
+     * ANY 数组参数使用 MyBatis ArrayTypeHandler 转换为 java.sql.Array
+     */
+    private static final String ANY_ARRAY_SQL = " = ANY({0,typeHandler=org.apache.ibatis.type.ArrayTypeHandler})";
+
+    private InConditions() {
+    }
+
+    /**
+     * 解析实际生效的策略（GLOBAL 取全局配置）
+     */
+    public static InStrategy resolve(InStrategy strategy) {
+        return ObjUtil.isNull(strategy) || strategy == InStrategy.GLOBAL ? MybatisPlusXConfig.getInStrategy() : strategy;
+    }
+
+    /**
+     * 拼接 IN 条件
+     *
+     * @param wrapper  QueryWrapper 或 LambdaQueryWrapper
+     * @param column   列（字符串列名或 SFunction）
+     * @param values   非空集合
+     * @param strategy 大列表处理策略
+     */
+    public static void in(AbstractWrapper<?, ?, ?> wrapper, Object column, Collection<?> values, InStrategy strategy) {
+        InStrategy resolved = resolve(strategy);
+        int chunkSize = MybatisPlusXConfig.getInChunkSize();
+        if (resolved == InStrategy.PLAIN || values.size() <= chunkSize) {
+            raw(wrapper).in(column, InListBuckets.pad(values));
+            return;
+        }
+
+        if (resolved == InStrategy.ANY_ARRAY && supportsAnyArray()) {
+            String columnName = columnName(wrapper, column);
+            Object array = toTypedArray(values);
+            if (ObjUtil.isNotNull(columnName) && ObjUtil.isNotNull(array)) {
+                raw(wrapper).apply(columnName + ANY_ARRAY_SQL, array);
+                return;
+            }
+        }
+
+        // OR_CHUNKS / CHUNKED_QUERIES / 不支持 ANY 时：(col IN (...) OR col IN (...))
+        List<? extends List<?>> chunks = chunks(values, chunkSize);
+        raw(wrapper).and(nested -> {
+            for (int i = 0; i < chunks.size(); i++) {
+                if (i > 0) {
+                    nested.or();
+                }
+                nested.in(column, InListBuckets.pad(chunks.get(i)));
+            }
+        });
+    }
+
+    /**
+     * 按固定大小拆分集合
+     */
+    public static <E> List<List<E>> chunks(Collection<E> values, int size) {
+        List<List<E>> chunks = new ArrayList<>((values.size() + size - 1) / size);
+        List<E> current = new ArrayList<>(Math.min(size, values.size()));
+        for (E value : values) {
+            current.add(value);
+            if (current.size() == size) {
+                chunks.add(current);
+                current = new ArrayList<>(Math.min(size, values.size()));
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private static boolean supportsAnyArray() {
+        DbType dbType = MybatisPlusXConfig.getDbType();
+        return dbType == DbType.POSTGRE_SQL || dbType == DbType.H2;
+    }
+
+    /**
+     * 获取字符串列名，Lambda 列按实体的列缓存解析，无法获取时返回 null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static String columnName(AbstractWrapper<?, ?, ?> wrapper, Object column) {
+        if (column instanceof String) {
+            return (String) column;
+        }
+        if (!(column instanceof SFunction)) {
+            return null;
+        }
+        if (wrapper instanceof LambdaQueryWrapperX) {
+            return ((LambdaQueryWrapperX) wrapper).columnName((SFunction) column);
+        }
+        // 其它 Lambda Wrapper 的 columnToString 不可访问，使用与其相同的列缓存
+        LambdaMeta meta = LambdaUtils.extract((SFunction) column);
+        Map<String, ColumnCache> columns = LambdaUtils.getColumnMap(meta.getInstantiatedClass());
+        if (ObjUtil.isNull(columns)) {
+            return null;
+        }
+        ColumnCache cache = columns.get(LambdaUtils.formatKey(PropertyNamer.methodToProperty(meta.getImplMethodName())));
+        return ObjUtil.isNull(cache) ? null : cache.getColumn();
+    }
+
+    /**
+     * 转换为元素类型一致的数组，便于驱动推断数组类型；元素类型不一致时返回 null
+     */
+    private static Object toTypedArray(Collection<?> values) {
+        Class<?> componentType = null;
+        for (Object value : values) {
+            if (ObjUtil.isNull(value)) {
+                return null;
+            }
+            if (ObjUtil.isNull(componentType)) {
+                componentType = value.getClass();
+            } else if (componentType != value.getClass()) {
+                return null;
+            }
+        }
+        Object array = Array.newInstance(componentType, values.size());
+        int i = 0;
+        for (Object value : values) {
+            Array.set(array, i++, value);
+        }
+        return array;
+    }
+
+    /**
+     * 去掉 wrapper 的泛型约束，列类型由调用方保证与 wrapper 匹配
+     */
+    @SuppressWarnings("unchecked")
+    private static AbstractWrapper<Object, Object, ?> raw(AbstractWrapper<?, ?, ?> wrapper) {
+        return (AbstractWrapper<Object, Object, ?>) wrapper;
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * IN 列表长度分桶
+ * <p>
+ * 每种 IN 列表长度都会产生一条不同的 SQL，导致驱动与数据库的预编译语句缓存频繁失效。
+ * 开启 template.core.mybatis.in-bucketing 后，IN 列表会以最后一个元素补齐到最近的桶大小
+ * （默认 1, 2, 4, 8 ... 不超过 in-chunk-size，或 in-bucket-sizes 指定），IN 语义不受重复值影响。
+ * <p>
+ * 同时统计实际出现的原始长度与补齐后长度，二者数量之差即为避免的 SQL 形态数
+ */
+public final class InListBuckets {
+
+    /**
+     * 统计的长度数量上限，防止异常输入导致集合无限增长
+     */
+    private static final int MAX_TRACKED_SIZES = 10000;
+
+    private static final Set<Integer> RAW_SIZES = ConcurrentHashMap.newKeySet();
+    private static final Set<Integer> BUCKET_SIZES = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong PADDED_LISTS = new AtomicLong();
+
+    private InListBuckets() {
+    }
+
+    /**
+     * 按桶大小补齐 IN 列表，未开启分桶或超过最大桶时原样返回
+     */
+    public static Collection<?> pad(Collection<?> values) {
+        if (!MybatisPlusXConfig.isInBucketing() || values.isEmpty()) {
+            return values;
+        }
+        int size = values.size();
+        int bucket = bucketOf(size);
+        record(size, bucket);
+        if (bucket <= size) {
+            return values;
+        }
+
+        List<Object> padded = new ArrayList<>(bucket);
+        padded.addAll(values);
+        Object last = padded.get(size - 1);
+        while (padded.size() < bucket) {
+            padded.add(last);
+        }
+        PADDED_LISTS.incrementAndGet();
+        return padded;
+    }
+
+    /**
+     * 计算长度所在的桶，超过最大桶时返回自身
+     */
+    static int bucketOf(int size) {
+        int[] buckets = MybatisPlusXConfig.getInBucketSizes();
+        if (buckets.length > 0) {
+            for (int bucket : buckets) {
+                if (bucket >= size) {
+                    return bucket;
+                }
+            }
+            return size;
+        }
+
+        // 默认按 2 的幂分桶，最大不超过分块大小
+        int chunkSize = MybatisPlusXConfig.getInChunkSize();
+        if (size >= chunkSize) {
+            return size;
+        }
+        int bucket = Integer.highestOneBit(size);
+        if (bucket < size) {
+            bucket <<= 1;
+        }
+        return Math.min(bucket, chunkSize);
+    }
+
+    private static void record(int size, int bucket) {
+        if (RAW_SIZES.size() < MAX_TRACKED_SIZES) {
+            RAW_SIZES.add(size);
+        }
+        if (BUCKET_SIZES.size() < MAX_TRACKED_SIZES) {
+            BUCKET_SIZES.add(Math.max(size, bucket));
+        }
+    }
+
+    /**
+     * 出现过的原始 IN 列表长度数
+     */
+    public static int getDistinctRawSizes() {
+        return RAW_SIZES.size();
+    }
+
+    /**
+     * 补齐后实际发送到数据库的 IN 列表长度数
+     */
+    public static int getDistinctBucketSizes() {
+        return BUCKET_SIZES.size();
+    }
+
+    /**
+     * 避免的 SQL 形态数
+     */
+    public static int getAvoidedShapes() {
+        return Math.max(0, RAW_SIZES.size() - BUCKET_SIZES.size());
+    }
+
+    /**
+     * 被补齐的 IN 列表次数
+     */
+    public static long getPaddedLists() {
+        return PADDED_LISTS.get();
+    }
+
+    /**
+     * 清空统计
+     */
+    public static void resetStats() {
+        RAW_SIZES.clear();
+        BUCKET_SIZES.clear();
+        PADDED_LISTS.set(0);
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.conditions.AbstractLambdaWrapper;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 游标（keyset）分页条件拼接工具
+ * <p>
+ * 按排序键拼接 (a &gt; ?) OR (a = ? AND b &gt; ?) ... 形式的定位条件与 ORDER BY，
+ * 不使用行值比较，各数据库均可使用 (a, b) 上的联合索引。
+ * 排序键的组合需要唯一（通常以主键作为最后一个排序键），且值不能为 null
+ */
+public final class KeysetConditions {
+
+    private KeysetConditions() {
+    }
+
+    /**
+     * 获取排序键对应的列名
+     *
+     * @param sortKeys 排序键
+     * @return 列名们
+     */
+    public static <T> List<String> columns(List<SFunction<T, ?>> sortKeys) {
+        if (ObjUtil.isNull(sortKeys) || sortKeys.isEmpty()) {
+            throw new IllegalArgumentException("游标分页至少需要一个排序键");
+        }
+        LambdaQueryWrapperX<T> resolver = new LambdaQueryWrapperX<>();
+        List<String> columns = new ArrayList<>(sortKeys.size());
+        for (SFunction<T, ?> sortKey : sortKeys) {
+            columns.add(resolver.columnName(sortKey));
+        }
+        return columns;
+    }
+
+    /**
+     * 计算分页令牌签名，排序列或方向变化后旧令牌失效
+     *
+     * @param sortKeys 排序键
+     * @param asc      是否升序
+     * @return 签名
+     */
+    public static <T> String signature(List<SFunction<T, ?>> sortKeys, boolean asc) {
+        return String.join(",", columns(sortKeys)) + (asc ? " ASC" : " DESC");
+    }
+
+    /**
+     * 拼接定位条件与排序，会修改传入的 Wrapper
+     *
+     * @param queryWrapper QueryWrapper 或 LambdaQueryWrapper，可为 null，不能包含 ORDER BY
+     * @param sortKeys     排序键
+     * @param lastKeys     上一页最后一行的排序键值，首页为 null
+     * @param asc          是否升序
+     * @return 拼接后的 Wrapper
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> AbstractWrapper<T, ?, ?> seek(Wrapper<T> queryWrapper, List<SFunction<T, ?>> sortKeys,
+                                                    List<?> lastKeys, boolean asc) {
+        AbstractWrapper wrapper = wrapper(queryWrapper);
+        List<String> columns = columns(sortKeys);
+        if (ObjUtil.isNotNull(lastKeys)) {
+            wrapper.apply(condition(columns, lastKeys, asc), expand(lastKeys).toArray());
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            wrapper.orderBy(true, asc, wrapper instanceof AbstractLambdaWrapper ? sortKeys.get(i) : columns.get(i));
+        }
+        return wrapper;
+    }
+
+    /**
+     * 读取一行的排序键值，作为下一页的定位值
+     *
+     * @param row      实体
+     * @param sortKeys 排序键
+     * @return 排序键值
+     */
+    public static <T> List<Object> values(T row, List<SFunction<T, ?>> sortKeys) {
+        List<Object> values = new ArrayList<>(sortKeys.size());
+        for (SFunction<T, ?> sortKey : sortKeys) {
+            values.add(sortKey.apply(row));
+        }
+        return values;
+    }
+
+    private static AbstractWrapper<?, ?, ?> wrapper(Wrapper<?> queryWrapper) {
+        if (ObjUtil.isNull(queryWrapper)) {
+            return new QueryWrapper<>();
+        }
+        if (!(queryWrapper instanceof QueryWrapper) && !(queryWrapper instanceof AbstractLambdaWrapper)) {
+            throw new IllegalArgumentException(
+                String.format("游标分页仅支持 QueryWrapper 与 LambdaQueryWrapper，当前类型：%s", queryWrapper.getClass().getName())
+            );
+        }
+        AbstractWrapper<?, ?, ?> wrapper = (AbstractWrapper<?, ?, ?>) queryWrapper;
+        if (!wrapper.getExpression().getOrderBy().isEmpty()) {
+            throw new IllegalArgumentException("游标分页的排序由排序键决定，查询条件中不能包含 ORDER BY");
+        }
+        return wrapper;
+    }
+
+    /**
+     * (c0 > {0}) OR (c0 = {1} AND c1 > {2}) OR ...，第 i 组包含前 i 个等值与第 i 个比较
+     */
+    private static String condition(List<String> columns, List<?> lastKeys, boolean asc) {
+        if (lastKeys.size() != columns.size()) {
+            throw new IllegalArgumentException(
+                String.format("排序键值数量(%d)与排序键数量(%d)不一致", lastKeys.size(), columns.size())
+            );
+        }
+        String operator = asc ? " > " : " < ";
+        StringBuilder sql = new StringBuilder("(");
+        int index = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            if (ObjUtil.isNull(lastKeys.get(i))) {
+                throw new IllegalArgumentException(String.format("排序键 %s 的值不能为 null", columns.get(i)));
+            }
+            sql.append(i == 0 ? "(" : " OR (");
+            for (int j = 0; j < i; j++) {
+                sql.append(columns.get(j)).append(" = {").append(index++).append("} AND ");
+            }
+            sql.append(columns.get(i)).append(operator).append('{').append(index++).append("})");
+        }
+        return sql.append(')').toString();
+    }
+
+    /**
+     * 按 condition 的占位符顺序展开参数
+     */
+    private static List<Object> expand(List<?> lastKeys) {
+        List<Object> params = new ArrayList<>();
+        for (int i = 0; i < lastKeys.size(); i++) {
+            params.addAll(lastKeys.subList(0, i + 1));
+        }
+        return params;
+    }
+}
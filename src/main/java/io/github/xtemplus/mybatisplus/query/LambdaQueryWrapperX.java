@@ -4,20 +4,31 @@ import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.ObjUtil;
 import cn.hutool.core.util.ObjectUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
 import org.springframework.util.StringUtils;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
  * 拓展 MyBatis Plus QueryWrapper 类，主要增加如下功能：
  * <p>
  * 1. 拼接条件的方法，增加 xxxIfPresent 方法，用于判断值不存在的时候，不要拼接到条件中。
+ * 2. inIfPresent 按全局 {@link InStrategy} 处理大 IN 列表。
+ * 3. likeLeftIfPresent / likeRightIfPresent 前后缀匹配，可转义用户输入中的通配符。
+ * 4. fullTextIfPresent 按数据库类型使用全文索引检索。
  *
  * @param <T> 数据类型
  */
 public class LambdaQueryWrapperX<T> extends LambdaQueryWrapper<T> {
 
+    /**
+     * 查询列前的行数限制（TOP n / FIRST n），由 {@link RowLimits#limit} 设置
+     */
+    private String selectHead;
+
     public LambdaQueryWrapperX<T> likeIfPresent(SFunction<T, ?> column, String val) {
         if (StringUtils.hasText(val)) {
             return (LambdaQueryWrapperX<T>) super.like(column, val);
@@ -25,16 +36,67 @@ public class LambdaQueryWrapperX<T> extends LambdaQueryWrapper<T> {
         return this;
     }
 
+    /**
+     * LIKE 条件，escape 为 true 时转义值中的 % 和 _
+     */
+    public LambdaQueryWrapperX<T> likeIfPresent(SFunction<T, ?> column, String val, boolean escape) {
+        if (StringUtils.hasText(val)) {
+            LikeConditions.like(this, column, val, SqlLike.DEFAULT, escape);
+        }
+        return this;
+    }
+
+    /**
+     * 后缀匹配 LIKE '%值'
+     */
+    public LambdaQueryWrapperX<T> likeLeftIfPresent(SFunction<T, ?> column, String val) {
+        return likeLeftIfPresent(column, val, false);
+    }
+
+    public LambdaQueryWrapperX<T> likeLeftIfPresent(SFunction<T, ?> column, String val, boolean escape) {
+        if (StringUtils.hasText(val)) {
+            LikeConditions.like(this, column, val, SqlLike.LEFT, escape);
+        }
+        return this;
+    }
+
+    /**
+     * 前缀匹配 LIKE '值%'，可以使用 B-tree 索引
+     */
+    public LambdaQueryWrapperX<T> likeRightIfPresent(SFunction<T, ?> column, String val) {
+        return likeRightIfPresent(column, val, false);
+    }
+
+    /**
+     * 前缀匹配，escape 为 true 时转义用户输入中的 % 和 _，保证始终按前缀走索引
+     */
+    public LambdaQueryWrapperX<T> likeRightIfPresent(SFunction<T, ?> column, String val, boolean escape) {
+        if (StringUtils.hasText(val)) {
+            LikeConditions.like(this, column, val, SqlLike.RIGHT, escape);
+        }
+        return this;
+    }
+
+    /**
+     * 全文检索，按数据库类型使用全文索引，见 {@link FullTextConditions}
+     */
+    public LambdaQueryWrapperX<T> fullTextIfPresent(SFunction<T, ?> column, String val) {
+        if (StringUtils.hasText(val)) {
+            FullTextConditions.match(this, column, val);
+        }
+        return this;
+    }
+
     public LambdaQueryWrapperX<T> inIfPresent(SFunction<T, ?> column, Collection<?> values) {
         if (ObjectUtil.isAllNotEmpty(values) && !ArrayUtil.isEmpty(values)) {
-            return (LambdaQueryWrapperX<T>) super.in(column, values);
+            InConditions.in(this, column, values, InStrategy.GLOBAL);
         }
         return this;
     }
 
     public LambdaQueryWrapperX<T> inIfPresent(SFunction<T, ?> column, Object... values) {
         if (ObjectUtil.isAllNotEmpty(values) && !ArrayUtil.isEmpty(values)) {
-            return (LambdaQueryWrapperX<T>) super.in(column, values);
+            InConditions.in(this, column, Arrays.asList(values), InStrategy.GLOBAL);
         }
         return this;
     }
@@ -100,6 +162,16 @@ public class LambdaQueryWrapperX<T> extends LambdaQueryWrapper<T> {
         return betweenIfPresent(column, val1, val2);
     }
 
+    /**
+     * 获取 Lambda 列对应的数据库列名
+     *
+     * @param column 列
+     * @return 列名
+     */
+    public String columnName(SFunction<T, ?> column) {
+        return columnToString(column);
+    }
+
     // ========== 重写父类方法，方便链式调用 ==========
 
     @Override
@@ -132,4 +204,34 @@ public class LambdaQueryWrapperX<T> extends LambdaQueryWrapper<T> {
         return this;
     }
 
+    /**
+     * 设置最多返回 n 条，语法按 template.core.mybatis.db-type 渲染，见 {@link RowLimits#limit}
+     *
+     * @param n 最多返回行数
+     * @return this
+     */
+    public LambdaQueryWrapperX<T> limitN(int n) {
+        RowLimits.limit(this, n);
+        return this;
+    }
+
+    @Override
+    public String getSqlSelect() {
+        String select = super.getSqlSelect();
+        if (ObjUtil.isNull(selectHead)) {
+            return select;
+        }
+        return RowLimits.withHead(selectHead, StringUtils.hasText(select) ? select : RowLimits.allColumns(getEntityClass()));
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        selectHead = null;
+    }
+
+    void selectHead(String head) {
+        this.selectHead = head;
+    }
+
 }
@@ -0,0 +1,99 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlUtils;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+
+/**
+ * LIKE 条件拼接工具
+ * <p>
+ * 前缀匹配（LIKE '值%'）可以使用 B-tree 索引，但用户输入中的 % 和 _ 会被当作通配符，
+ * 开启转义后以反斜杠转义，保证前缀查询始终可走索引；
+ * MySQL、PostgreSQL、H2 默认以反斜杠作为转义符，其它数据库追加 ESCAPE '\' 子句
+ */
+public final class LikeConditions {
+
+    private static final String ESCAPE_CLAUSE = " ESCAPE '\\'";
+
+    private LikeConditions() {
+    }
+
+    /**
+     * 转义 LIKE 通配符
+     */
+    public static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 拼接 LIKE 条件
+     *
+     * @param wrapper QueryWrapper 或 LambdaQueryWrapper
+     * @param column  列（字符串列名或 SFunction）
+     * @param value   匹配值
+     * @param mode    匹配方式：DEFAULT '%值%'，LEFT '%值'，RIGHT '值%'
+     * @param escape  是否转义值中的 % 和 _
+     */
+    public static void like(AbstractWrapper<?, ?, ?> wrapper, Object column, String value, SqlLike mode, boolean escape) {
+        if (!escape) {
+            likeRaw(wrapper, column, value, mode);
+            return;
+        }
+
+        String escaped = escape(value);
+        if (defaultBackslashEscape()) {
+            likeRaw(wrapper, column, escaped, mode);
+            return;
+        }
+        // 没有 ESCAPE 子句时 \% 会按字面匹配，条件错误，无法渲染时直接失败
+        String columnName = InConditions.columnName(wrapper, column);
+        if (ObjUtil.isNull(columnName)) {
+            throw new IllegalArgumentException(String.format(
+                "无法解析列 %s 的列名，数据库 %s 的转义 LIKE 需要 ESCAPE 子句", column, MybatisPlusXConfig.getDbType().getDb()));
+        }
+        raw(wrapper).apply(columnName + " LIKE {0}" + ESCAPE_CLAUSE, SqlUtils.concatLike(escaped, mode));
+    }
+
+    /**
+     * 当前数据库需要追加的 ESCAPE 子句，默认以反斜杠转义的数据库返回空字符串
+     */
+    public static String escapeClause() {
+        return defaultBackslashEscape() ? "" : ESCAPE_CLAUSE;
+    }
+
+    private static void likeRaw(AbstractWrapper<?, ?, ?> wrapper, Object column, String value, SqlLike mode) {
+        switch (mode) {
+            case LEFT:
+                raw(wrapper).likeLeft(column, value);
+                break;
+            case RIGHT:
+                raw(wrapper).likeRight(column, value);
+                break;
+            default:
+                raw(wrapper).like(column, value);
+                break;
+        }
+    }
+
+    private static boolean defaultBackslashEscape() {
+        DbType dbType = MybatisPlusXConfig.getDbType();
+        return dbType == DbType.MYSQL || dbType == DbType.MARIADB
+            || dbType == DbType.POSTGRE_SQL || dbType == DbType.H2;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AbstractWrapper<Object, Object, ?> raw(AbstractWrapper<?, ?, ?> wrapper) {
+        return (AbstractWrapper<Object, Object, ?>) wrapper;
+    }
+}
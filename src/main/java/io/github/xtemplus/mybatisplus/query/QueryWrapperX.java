@@ -2,16 +2,22 @@ package io.github.xtemplus.mybatisplus.query;
 
 import cn.hutool.core.util.ObjUtil;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
 import com.baomidou.mybatisplus.core.toolkit.ArrayUtils;
 import com.baomidou.mybatisplus.core.toolkit.CollectionUtils;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
 import org.springframework.util.StringUtils;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
  * 拓展 MyBatis Plus QueryWrapper 类，主要增加如下功能：
  * <p>
  * 1. 拼接条件的方法，增加 xxxIfPresent 方法，用于判断值不存在的时候，不要拼接到条件中。
+ * 2. inIfPresent 按全局 {@link InStrategy} 处理大 IN 列表。
+ * 3. likeLeftIfPresent / likeRightIfPresent 前后缀匹配，可转义用户输入中的通配符。
+ * 4. fullTextIfPresent 按数据库类型使用全文索引检索。
  *
  * @param <T> 数据类型
  */
@@ -24,16 +30,67 @@ public class QueryWrapperX<T> extends QueryWrapper<T> {
         return this;
     }
 
+    /**
+     * LIKE 条件，escape 为 true 时转义值中的 % 和 _
+     */
+    public QueryWrapperX<T> likeIfPresent(String column, String val, boolean escape) {
+        if (StringUtils.hasText(val)) {
+            LikeConditions.like(this, column, val, SqlLike.DEFAULT, escape);
+        }
+        return this;
+    }
+
+    /**
+     * 后缀匹配 LIKE '%值'
+     */
+    public QueryWrapperX<T> likeLeftIfPresent(String column, String val) {
+        return likeLeftIfPresent(column, val, false);
+    }
+
+    public QueryWrapperX<T> likeLeftIfPresent(String column, String val, boolean escape) {
+        if (StringUtils.hasText(val)) {
+            LikeConditions.like(this, column, val, SqlLike.LEFT, escape);
+        }
+        return this;
+    }
+
+    /**
+     * 前缀匹配 LIKE '值%'，可以使用 B-tree 索引
+     */
+    public QueryWrapperX<T> likeRightIfPresent(String column, String val) {
+        return likeRightIfPresent(column, val, false);
+    }
+
+    /**
+     * 前缀匹配，escape 为 true 时转义用户输入中的 % 和 _，保证始终按前缀走索引
+     */
+    public QueryWrapperX<T> likeRightIfPresent(String column, String val, boolean escape) {
+        if (StringUtils.hasText(val)) {
+            LikeConditions.like(this, column, val, SqlLike.RIGHT, escape);
+        }
+        return this;
+    }
+
+    /**
+     * 全文检索，按数据库类型使用全文索引，见 {@link FullTextConditions}
+     */
+    public QueryWrapperX<T> fullTextIfPresent(String column, String val) {
+        if (StringUtils.hasText(val)) {
+            FullTextConditions.match(this, column, val);
+        }
+        return this;
+    }
+
     public QueryWrapperX<T> inIfPresent(String column, Collection<?> values) {
         if (!CollectionUtils.isEmpty(values)) {
-            return (QueryWrapperX<T>) super.in(column, values);
+            InConditions.in(this, column, values, InStrategy.GLOBAL);
         }
         return this;
     }
 
     public QueryWrapperX<T> inIfPresent(String column, Object... values) {
         if (!ArrayUtils.isEmpty(values)) {
-            return (QueryWrapperX<T>) super.in(column, values);
+            InConditions.in(this, column, Arrays.asList(values), InStrategy.GLOBAL);
         }
         return this;
     }
@@ -139,14 +196,13 @@ public class QueryWrapperX<T> extends QueryWrapper<T> {
     }
 
     /**
-     * 设置只返回最后一条
-     * <p>
-     * TODO 芋艿：不是完美解，需要在思考下。如果使用多数据源，并且数据源是多种类型时，可能会存在问题：实现之返回一条的语法不同
+     * 设置最多返回 n 条，语法按 template.core.mybatis.db-type 渲染，见 {@link RowLimits#limit}
      *
+     * @param n 最多返回行数
      * @return this
      */
     public QueryWrapperX<T> limitN(int n) {
-        super.last("LIMIT " + n);
+        RowLimits.limit(this, n);
         return this;
     }
 
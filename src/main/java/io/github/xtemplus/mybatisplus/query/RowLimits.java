@@ -0,0 +1,213 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 行数限制拼接工具
+ * <p>
+ * 按 template.core.mybatis.db-type 渲染限制返回行数的语法：
+ * <ul>
+ *     <li>MySQL / PostgreSQL / H2 / SQLite 等：LIMIT n</li>
+ *     <li>Oracle 12c / DB2 / Firebird：FETCH FIRST n ROWS ONLY</li>
+ *     <li>Oracle / 达梦 / Gauss：子查询外层 ROWNUM &lt;= n，先排序后过滤</li>
+ *     <li>SQL Server / Sybase：SELECT TOP n</li>
+ *     <li>Informix 系：SELECT FIRST n</li>
+ * </ul>
+ */
+public final class RowLimits {
+
+    private static final Pattern SELECT_HEAD = Pattern.compile("^(\\s*SELECT(\\s+DISTINCT)?)\\s", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DISTINCT_HEAD = Pattern.compile("^(\\s*DISTINCT)\\s", Pattern.CASE_INSENSITIVE);
+    /**
+     * 行锁子句必须位于行数限制之后
+     */
+    private static final Pattern LOCK_CLAUSE = Pattern.compile(
+        "^\\s*(FOR\\s+(UPDATE|SHARE|NO\\s+KEY\\s+UPDATE|KEY\\s+SHARE)|LOCK\\s+IN\\s+SHARE\\s+MODE)\\b", Pattern.CASE_INSENSITIVE);
+
+    private RowLimits() {
+    }
+
+    /**
+     * 限制完整 SQL 的返回行数
+     *
+     * @param sql 完整的 SELECT 语句
+     * @param n   最多返回行数
+     * @return 限制后的 SQL
+     */
+    public static String apply(String sql, int n) {
+        switch (syntax(MybatisPlusXConfig.getDbType())) {
+            case FETCH_FIRST:
+                return sql + " FETCH FIRST " + n + " ROWS ONLY";
+
+            case ROWNUM:
+                return "SELECT * FROM (" + sql + ") WHERE ROWNUM <= " + n;
+
+            case TOP:
+                return prefix(sql, "TOP " + n);
+
+            case FIRST:
+                return prefix(sql, "FIRST " + n);
+
+            case LIMIT:
+            default:
+                return sql + " LIMIT " + n;
+        }
+    }
+
+    /**
+     * 限制完整 SQL 的返回行数，SQL 末尾带有 Wrapper 的 last 片段
+     * <p>
+     * last 为 FOR UPDATE 等行锁子句时限制插入到行锁之前；
+     * 为其它片段（如已有的 LIMIT）时先包一层子查询再限制，避免拼出两个 LIMIT
+     *
+     * @param sql  完整的 SELECT 语句
+     * @param last SQL 中 Wrapper 的 last 片段，可为 null
+     * @param n    最多返回行数
+     * @return 限制后的 SQL
+     */
+    public static String apply(String sql, String last, int n) {
+        int index = StrUtil.isBlank(last) ? -1 : sql.lastIndexOf(last.trim());
+        if (index < 0) {
+            return apply(sql, n);
+        }
+        if (LOCK_CLAUSE.matcher(last).find()) {
+            return apply(sql.substring(0, index).trim(), n) + " " + sql.substring(index);
+        }
+        return apply("SELECT * FROM (" + sql + ") t", n);
+    }
+
+    /**
+     * 限制 Wrapper 的返回行数
+     * <p>
+     * LIMIT、FETCH FIRST 通过 last 拼接，会覆盖已设置的 last；
+     * ROWNUM 通过 first、last 包一层子查询，先排序后过滤，会覆盖已设置的 first、last；
+     * SQL Server 使用 OFFSET ... FETCH，未排序时补充 ORDER BY (SELECT NULL)；
+     * Sybase、SQL Server 2005 与 Informix 系在查询列前拼接 TOP n / FIRST n，
+     * 仅支持 QueryWrapper 与 {@link LambdaQueryWrapperX}，未指定查询列时按实体类查询全部列，没有实体类时使用 *
+     *
+     * @param wrapper QueryWrapper 或 LambdaQueryWrapper
+     * @param n       最多返回行数
+     */
+    public static void limit(AbstractWrapper<?, ?, ?> wrapper, int n) {
+        DbType dbType = MybatisPlusXConfig.getDbType();
+        switch (syntax(dbType)) {
+            case FETCH_FIRST:
+                wrapper.last("FETCH FIRST " + n + " ROWS ONLY");
+                return;
+
+            case ROWNUM:
+                wrapper.first("SELECT * FROM (");
+                wrapper.last(") WHERE ROWNUM <= " + n);
+                return;
+
+            case TOP:
+                if (dbType == DbType.SQL_SERVER) {
+                    String orderBy = wrapper.getExpression().getOrderBy().isEmpty() ? "ORDER BY (SELECT NULL) " : "";
+                    wrapper.last(orderBy + "OFFSET 0 ROWS FETCH NEXT " + n + " ROWS ONLY");
+                    return;
+                }
+                selectHead(wrapper, "TOP " + n);
+                return;
+
+            case FIRST:
+                selectHead(wrapper, "FIRST " + n);
+                return;
+
+            case LIMIT:
+            default:
+                wrapper.last("LIMIT " + n);
+        }
+    }
+
+    /**
+     * 在查询列前拼接 TOP n / FIRST n
+     */
+    @SuppressWarnings("rawtypes")
+    private static void selectHead(AbstractWrapper<?, ?, ?> wrapper, String head) {
+        if (wrapper instanceof LambdaQueryWrapperX) {
+            ((LambdaQueryWrapperX) wrapper).selectHead(head);
+            return;
+        }
+        if (wrapper instanceof QueryWrapper) {
+            QueryWrapper<?> queryWrapper = (QueryWrapper<?>) wrapper;
+            String select = queryWrapper.getSqlSelect();
+            queryWrapper.select(withHead(head, StrUtil.isBlank(select) ? allColumns(wrapper.getEntityClass()) : select));
+            return;
+        }
+        throw new UnsupportedOperationException(String.format("数据库 %s 需要在查询列前限制行数，仅支持 QueryWrapper 与 LambdaQueryWrapperX，当前：%s",
+            MybatisPlusXConfig.getDbType().getDb(), wrapper.getClass().getName()));
+    }
+
+    /**
+     * 在查询列前拼接 TOP n / FIRST n，DISTINCT 保持在最前
+     */
+    static String withHead(String head, String select) {
+        Matcher matcher = DISTINCT_HEAD.matcher(select);
+        if (matcher.find()) {
+            return matcher.group(1) + " " + head + select.substring(matcher.end(1));
+        }
+        return head + " " + select;
+    }
+
+    /**
+     * 实体的全部查询列，没有实体类或表信息时返回 *
+     */
+    static String allColumns(Class<?> entityClass) {
+        TableInfo tableInfo = ObjUtil.isNull(entityClass) ? null : TableInfoHelper.getTableInfo(entityClass);
+        return ObjUtil.isNull(tableInfo) ? "*" : tableInfo.getAllSqlSelect();
+    }
+
+    /**
+     * 在 SELECT [DISTINCT] 之后插入 TOP n / FIRST n，语句不以 SELECT 开头时（如带 sqlFirst）包一层子查询
+     */
+    private static String prefix(String sql, String limit) {
+        Matcher matcher = SELECT_HEAD.matcher(sql);
+        if (matcher.find()) {
+            return matcher.group(1) + " " + limit + sql.substring(matcher.end(1));
+        }
+        return "SELECT " + limit + " * FROM (" + sql + ") t";
+    }
+
+    private static Syntax syntax(DbType dbType) {
+        switch (dbType) {
+            case ORACLE_12C:
+            case DB2:
+            case FIREBIRD:
+                return Syntax.FETCH_FIRST;
+
+            case ORACLE:
+            case DM:
+            case GAUSS:
+                return Syntax.ROWNUM;
+
+            case SQL_SERVER:
+            case SQL_SERVER2005:
+            case SYBASE:
+                return Syntax.TOP;
+
+            case INFORMIX:
+            case GBASE_8S:
+            case GBASEDBT:
+            case GBASE_INFORMIX:
+            case SINODB:
+                return Syntax.FIRST;
+
+            default:
+                return Syntax.LIMIT;
+        }
+    }
+
+    private enum Syntax {
+        LIMIT, FETCH_FIRST, ROWNUM, TOP, FIRST
+    }
+}
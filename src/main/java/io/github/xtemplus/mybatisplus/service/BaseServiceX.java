@@ -1,11 +1,27 @@
 package io.github.xtemplus.mybatisplus.service;
 
+import cn.hutool.core.util.ObjUtil;
 import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.IService;
+import io.github.xtemplus.mybatisplus.batch.ImportPipeline;
+import io.github.xtemplus.mybatisplus.batch.ImportResult;
+import io.github.xtemplus.mybatisplus.batch.RowRejectedException;
+import io.github.xtemplus.mybatisplus.mapper.BaseMapperX;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.page.KeysetPage;
 import io.github.xtemplus.page.PageVo;
 import io.github.xtemplus.page.TableSupport;
+import io.github.xtemplus.utils.ServletUtil;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * 扩展的基础Service接口
@@ -16,13 +32,79 @@ public interface BaseServiceX<T> extends IService<T> {
 
     /**
      * 通用分页查询
+     * <p>
+     * pageNum * pageSize 超过 template.core.mybatis.deferred-join-threshold 且实体有主键时，
+     * 使用 {@link BaseMapperX#selectPageDeferred} 先查主键再回表
      *
      * @param queryWrapper 查询条件
      * @return 分页结果
      */
+    @SuppressWarnings("unchecked")
     default IPage<T> selectPage(Wrapper<T> queryWrapper) {
         PageVo pageVo = TableSupport.buildPageRequest();
         Page<T> page = new Page<>(pageVo.getPageNum(), pageVo.getPageSize());
+        int threshold = MybatisPlusXConfig.getDeferredJoinThreshold();
+        if (threshold > 0 && (long) pageVo.getPageNum() * pageVo.getPageSize() > threshold
+            && getBaseMapper() instanceof BaseMapperX) {
+            TableInfo tableInfo = TableInfoHelper.getTableInfo(getEntityClass());
+            if (ObjUtil.isNotNull(tableInfo) && tableInfo.havePK()) {
+                return ((BaseMapperX<T>) getBaseMapper()).selectPageDeferred(page, queryWrapper);
+            }
+        }
         return this.page(page, queryWrapper);
     }
+
+    /**
+     * 通用游标分页查询，令牌与每页记录数从请求参数 pageToken、pageSize 读取
+     *
+     * @param queryWrapper 查询条件，会被修改
+     * @param sortKeys     排序键，组合需唯一，通常以主键结尾
+     * @param asc          是否升序
+     * @return 分页结果
+     */
+    @SuppressWarnings("unchecked")
+    default KeysetPage<T> selectKeysetPage(Wrapper<T> queryWrapper, List<SFunction<T, ?>> sortKeys, boolean asc) {
+        if (!(getBaseMapper() instanceof BaseMapperX)) {
+            throw new IllegalStateException(
+                String.format("%s 的 Mapper 需继承 BaseMapperX 才能使用游标分页", getClass().getName())
+            );
+        }
+        PageVo pageVo = TableSupport.buildPageRequest();
+        String token = ServletUtil.getParameter(TableSupport.PAGE_TOKEN, null);
+        return ((BaseMapperX<T>) getBaseMapper()).selectKeysetPage(queryWrapper, sortKeys, asc, token, pageVo.getPageSize());
+    }
+
+    /**
+     * 流式导入，见 {@link ImportPipeline}
+     *
+     * @param rows      原始行，导入结束后关闭
+     * @param parser    原始行转换为实体，不通过时抛出 {@link RowRejectedException}
+     * @param validator 校验实体，不通过时抛出 {@link RowRejectedException}，可为 null
+     * @param <R>       原始行类型
+     * @return 计数与错误行
+     */
+    default <R> ImportResult importRows(Stream<R> rows, Function<R, T> parser, Consumer<T> validator) {
+        return importPipeline(parser).validator(validator).run(rows);
+    }
+
+    /**
+     * 创建导入流水线，可调整批大小、队列容量、解析线程数等后调用 run
+     * <p>
+     * 每批使用 {@link BaseMapperX#insertBatch(java.util.Collection)} 写入（Mapper 未继承 BaseMapperX 时使用 saveBatch），
+     * 整批失败后逐行 save 重试
+     *
+     * @param parser 原始行转换为实体
+     * @param <R>    原始行类型
+     * @return 导入流水线
+     */
+    @SuppressWarnings("unchecked")
+    default <R> ImportPipeline<R, T> importPipeline(Function<R, T> parser) {
+        return new ImportPipeline<>(getEntityClass(), parser, batch -> {
+            if (getBaseMapper() instanceof BaseMapperX) {
+                ((BaseMapperX<T>) getBaseMapper()).insertBatch(batch);
+            } else {
+                saveBatch(batch);
+            }
+        }, this::save);
+    }
 }
@@ -0,0 +1,63 @@
+package io.github.xtemplus.mybatisplus.stream;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * 按当前线程设置 JDBC fetch size
+ * <p>
+ * 注入方法的 MappedStatement 无法配置 fetch size，流式查询通过 {@link #with(int, Supplier)} 在调用期间指定，
+ * Statement 创建后覆盖其 fetch size，未指定时直接放行。
+ * MySQL 驱动只有 fetch size 为 Integer.MIN_VALUE 时才逐行读取，否则会把结果集全部加载到内存，此处自动转换
+ */
+@Intercepts({
+    @Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class})
+})
+public class FetchSizeInterceptor implements Interceptor {
+
+    private static final ThreadLocal<Integer> FETCH_SIZE = new ThreadLocal<>();
+
+    /**
+     * 在指定 fetch size 下执行查询
+     *
+     * @param fetchSize fetch size，必须大于 0
+     * @param query     查询
+     * @return 查询结果
+     */
+    public static <R> R with(int fetchSize, Supplier<R> query) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize 必须大于 0");
+        }
+        Integer previous = FETCH_SIZE.get();
+        FETCH_SIZE.set(fetchSize);
+        try {
+            return query.get();
+        } finally {
+            if (ObjUtil.isNull(previous)) {
+                FETCH_SIZE.remove();
+            } else {
+                FETCH_SIZE.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        Integer fetchSize = FETCH_SIZE.get();
+        if (ObjUtil.isNotNull(fetchSize) && result instanceof Statement) {
+            ((Statement) result).setFetchSize(MybatisPlusXConfig.getDbType() == DbType.MYSQL ? Integer.MIN_VALUE : fetchSize);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.xtemplus.mybatisplus.support;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * 根据 MyBatis-Plus TableInfo 元数据生成实体属性的 {@link SFunction} 列引用
+ * <p>
+ * 生成的 SFunction 是可序列化的 getter 方法引用（等价于手写的 Entity::getXxx），
+ * 可以被 LambdaQueryWrapper 正常解析列名；生成开销较高，调用方应缓存结果
+ */
+public final class LambdaColumns {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(SFunction.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private LambdaColumns() {
+    }
+
+    /**
+     * 获取实体的 TableInfo
+     *
+     * @throws IllegalArgumentException 实体未被 MyBatis-Plus 解析（对应 Mapper 尚未加载）
+     */
+    public static TableInfo tableInfo(Class<?> entityClass) {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        if (ObjUtil.isNull(tableInfo)) {
+            throw new IllegalArgumentException(
+                String.format("实体 %s 没有对应的 TableInfo，请确认其 Mapper 已加载", entityClass.getName())
+            );
+        }
+        return tableInfo;
+    }
+
+    /**
+     * 按属性名或列名查找实体属性
+     *
+     * @param tableInfo 实体元数据
+     * @param property  属性名
+     * @param column    列名，可为 null
+     * @return 实体属性名，找不到返回 null
+     */
+    public static String resolveProperty(TableInfo tableInfo, String property, String column) {
+        if (tableInfo.havePK() && (tableInfo.getKeyProperty().equals(property)
+            || (ObjUtil.isNotNull(column) && tableInfo.getKeyColumn().equalsIgnoreCase(column)))) {
+            return tableInfo.getKeyProperty();
+        }
+        for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+            if (fieldInfo.getProperty().equals(property)) {
+                return fieldInfo.getProperty();
+            }
+        }
+        if (ObjUtil.isNotNull(column)) {
+            for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+                if (fieldInfo.getColumn().equalsIgnoreCase(column)) {
+                    return fieldInfo.getProperty();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 生成实体属性的 SFunction
+     *
+     * @param entityClass 实体类
+     * @param property    实体属性名
+     * @return SFunction
+     * @throws IllegalArgumentException 属性没有可访问的 public getter 或生成失败
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SFunction<T, ?> of(Class<T> entityClass, String property) {
+        Method getter = findGetter(entityClass, property);
+        if (ObjUtil.isNull(getter) || !PropertyAccessors.isAccessible(getter) || !PropertyAccessors.isVisible(entityClass)) {
+            throw new IllegalArgumentException(
+                String.format("实体 %s 的属性 %s 没有可访问的 public getter，无法生成 Lambda 列引用", entityClass.getName(), property)
+            );
+        }
+        try {
+            CallSite site = LambdaMetafactory.altMetafactory(LOOKUP, "apply", FACTORY_TYPE, APPLY_TYPE,
+                LOOKUP.unreflect(getter),
+                // 实例化类型使用实体类，MyBatis-Plus 据此定位列缓存
+                MethodType.methodType(getter.getReturnType(), entityClass).wrap(),
+                LambdaMetafactory.FLAG_SERIALIZABLE);
+            return (SFunction<T, ?>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(
+                String.format("实体 %s 的属性 %s 生成 Lambda 列引用失败：%s", entityClass.getName(), property, e), e
+            );
+        }
+    }
+
+    private static Method findGetter(Class<?> entityClass, String property) {
+        Field field = TableInfoHelper.getAllFields(entityClass).stream()
+            .filter(f -> f.getName().equals(property))
+            .findFirst()
+            .orElse(null);
+        if (ObjUtil.isNull(field)) {
+            return null;
+        }
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String name : new String[]{"get" + suffix, "is" + suffix}) {
+            try {
+                Method method = entityClass.getMethod(name);
+                if (method.getReturnType() == field.getType()) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // 尝试下一个命名
+            }
+        }
+        return null;
+    }
+}
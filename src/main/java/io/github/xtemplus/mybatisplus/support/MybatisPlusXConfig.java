@@ -0,0 +1,347 @@
+package io.github.xtemplus.mybatisplus.support;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.extension.toolkit.JdbcUtils;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
+import io.github.xtemplus.mybatisplus.annotation.UpdateBatchStrategy;
+import io.github.xtemplus.utils.Log;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * MyBatis-Plus 扩展的全局配置
+ * <p>
+ * 由 BaseAutoConfiguration 根据 template.core.mybatis.* 在启动时写入，
+ * 静态持有以便 WrapperAssembler、QueryWrapperX 等非 Spring 管理的工具类读取
+ */
+public final class MybatisPlusXConfig {
+
+    /**
+     * 数据库类型，用于方言相关的 SQL 渲染，null 时按数据源 URL 自动识别
+     */
+    private static volatile DbType dbType;
+
+    /**
+     * 按数据源 URL 识别出的数据库类型
+     */
+    private static volatile DbType detectedDbType;
+
+    /**
+     * 识别数据库类型使用的数据源
+     */
+    private static volatile Supplier<DataSource> dataSource = () -> null;
+
+    /**
+     * 大 IN 列表的默认处理策略
+     */
+    private static volatile InStrategy inStrategy = InStrategy.PLAIN;
+
+    /**
+     * IN 列表分块大小，元素数量超过该值时启用 inStrategy
+     */
+    private static volatile int inChunkSize = 1000;
+
+    /**
+     * 是否按桶大小补齐 IN 列表
+     */
+    private static volatile boolean inBucketing = false;
+
+    /**
+     * IN 列表桶大小（升序），为空时按 2 的幂分桶
+     */
+    private static volatile int[] inBucketSizes = new int[0];
+
+    /**
+     * PostgreSQL 全文检索配置名
+     */
+    private static volatile String fullTextConfig;
+
+    /**
+     * 是否统计查询形态
+     */
+    private static volatile boolean shapeTelemetry = false;
+
+    /**
+     * 查询形态统计的最大条数
+     */
+    private static volatile int shapeTelemetryMaxShapes = 1000;
+
+    /**
+     * selectListBatch 每条 SQL 合并的查询 DTO 数量上限
+     */
+    private static volatile int batchQuerySize = 100;
+
+    /**
+     * 内存过滤时字符串是否忽略大小写，null 时按数据库类型判断
+     */
+    private static volatile Boolean caseInsensitiveStrings;
+
+    /**
+     * selectStream 未指定时的 JDBC fetch size
+     */
+    private static volatile int streamFetchSize = 1000;
+
+    /**
+     * selectPage 使用延迟关联的偏移量阈值，小于等于 0 时关闭，默认关闭
+     */
+    private static volatile int deferredJoinThreshold = 0;
+
+    /**
+     * insertBatch 是否使用多行 INSERT，默认关闭
+     */
+    private static volatile boolean multiRowInsert = false;
+
+    /**
+     * 多行 INSERT 单条语句的估算字节上限
+     */
+    private static volatile int multiRowInsertMaxBytes = 4 * 1024 * 1024;
+
+    /**
+     * updateBatch 的默认策略
+     */
+    private static volatile UpdateBatchStrategy updateBatchStrategy = UpdateBatchStrategy.PER_ROW;
+
+    /**
+     * CASE_WHEN 策略每条 UPDATE 的最大行数
+     */
+    private static volatile int caseWhenBatchSize = 500;
+
+    /**
+     * insertBatchParallel 的最大并发分区数
+     */
+    private static volatile int parallelInsertThreads = 4;
+
+    /**
+     * 应用的事务管理器，并行插入与导入流水线的分区事务使用，返回 null 时按实体所在数据源新建
+     */
+    private static volatile Supplier<PlatformTransactionManager> transactionManager = () -> null;
+
+    private MybatisPlusXConfig() {
+    }
+
+    /**
+     * 数据库类型，未配置时按数据源 URL 识别一次，无数据源时按 MySQL 处理
+     */
+    public static DbType getDbType() {
+        DbType configured = dbType;
+        if (ObjUtil.isNotNull(configured)) {
+            return configured;
+        }
+        DbType detected = detectedDbType;
+        return ObjUtil.isNotNull(detected) ? detected : detectDbType();
+    }
+
+    public static void setDbType(DbType dbType) {
+        MybatisPlusXConfig.dbType = dbType;
+        MybatisPlusXConfig.detectedDbType = null;
+    }
+
+    public static void setDataSource(Supplier<DataSource> dataSource) {
+        MybatisPlusXConfig.dataSource = ObjUtil.isNull(dataSource) ? () -> null : dataSource;
+        MybatisPlusXConfig.detectedDbType = null;
+    }
+
+    private static synchronized DbType detectDbType() {
+        if (ObjUtil.isNotNull(detectedDbType)) {
+            return detectedDbType;
+        }
+        DataSource source = dataSource.get();
+        if (ObjUtil.isNull(source)) {
+            // 非 Spring 环境且未配置数据源，暂按 MySQL 处理
+            return DbType.MYSQL;
+        }
+        try (Connection connection = source.getConnection()) {
+            detectedDbType = JdbcUtils.getDbType(connection.getMetaData().getURL());
+            Log.info("未配置数据库类型，按数据源 URL 识别为 {}", detectedDbType.getDb());
+            return detectedDbType;
+        } catch (SQLException e) {
+            Log.warn("读取 JDBC URL 失败，暂按 MySQL 处理: {}", e.getMessage());
+            return DbType.MYSQL;
+        }
+    }
+
+    public static InStrategy getInStrategy() {
+        return inStrategy;
+    }
+
+    public static void setInStrategy(InStrategy inStrategy) {
+        // 全局策略不能再指向全局
+        MybatisPlusXConfig.inStrategy = ObjUtil.isNull(inStrategy) || inStrategy == InStrategy.GLOBAL
+            ? InStrategy.PLAIN : inStrategy;
+    }
+
+    public static int getInChunkSize() {
+        return inChunkSize;
+    }
+
+    public static void setInChunkSize(int inChunkSize) {
+        if (inChunkSize <= 0) {
+            throw new IllegalArgumentException("inChunkSize 必须大于 0");
+        }
+        MybatisPlusXConfig.inChunkSize = inChunkSize;
+    }
+
+    public static boolean isInBucketing() {
+        return inBucketing;
+    }
+
+    public static void setInBucketing(boolean inBucketing) {
+        MybatisPlusXConfig.inBucketing = inBucketing;
+    }
+
+    public static int[] getInBucketSizes() {
+        return inBucketSizes;
+    }
+
+    public static void setInBucketSizes(Collection<Integer> inBucketSizes) {
+        MybatisPlusXConfig.inBucketSizes = ObjUtil.isNull(inBucketSizes) ? new int[0]
+            : inBucketSizes.stream().filter(size -> size != null && size > 0).mapToInt(Integer::intValue).sorted().distinct().toArray();
+    }
+
+    public static String getFullTextConfig() {
+        return fullTextConfig;
+    }
+
+    public static void setFullTextConfig(String fullTextConfig) {
+        if (StrUtil.isBlank(fullTextConfig)) {
+            MybatisPlusXConfig.fullTextConfig = null;
+            return;
+        }
+        // 配置名直接拼接到 SQL 中，只允许标识符
+        if (!fullTextConfig.matches("[A-Za-z_][A-Za-z0-9_.]*")) {
+            throw new IllegalArgumentException("fullTextConfig 不是合法的配置名：" + fullTextConfig);
+        }
+        MybatisPlusXConfig.fullTextConfig = fullTextConfig;
+    }
+
+    public static boolean isShapeTelemetry() {
+        return shapeTelemetry;
+    }
+
+    public static void setShapeTelemetry(boolean shapeTelemetry) {
+        MybatisPlusXConfig.shapeTelemetry = shapeTelemetry;
+    }
+
+    public static int getShapeTelemetryMaxShapes() {
+        return shapeTelemetryMaxShapes;
+    }
+
+    public static void setShapeTelemetryMaxShapes(int shapeTelemetryMaxShapes) {
+        if (shapeTelemetryMaxShapes <= 0) {
+            throw new IllegalArgumentException("shapeTelemetryMaxShapes 必须大于 0");
+        }
+        MybatisPlusXConfig.shapeTelemetryMaxShapes = shapeTelemetryMaxShapes;
+    }
+
+    public static int getBatchQuerySize() {
+        return batchQuerySize;
+    }
+
+    public static void setBatchQuerySize(int batchQuerySize) {
+        if (batchQuerySize <= 0) {
+            throw new IllegalArgumentException("batchQuerySize 必须大于 0");
+        }
+        MybatisPlusXConfig.batchQuerySize = batchQuerySize;
+    }
+
+    /**
+     * 内存过滤时字符串是否忽略大小写，未配置时 MySQL、MariaDB、SQL Server（默认排序规则不区分大小写）返回 true
+     */
+    public static boolean isCaseInsensitiveStrings() {
+        Boolean configured = caseInsensitiveStrings;
+        if (ObjUtil.isNotNull(configured)) {
+            return configured;
+        }
+        DbType type = getDbType();
+        return type == DbType.MYSQL || type == DbType.MARIADB || type == DbType.SQL_SERVER || type == DbType.SQL_SERVER2005;
+    }
+
+    public static void setCaseInsensitiveStrings(Boolean caseInsensitiveStrings) {
+        MybatisPlusXConfig.caseInsensitiveStrings = caseInsensitiveStrings;
+    }
+
+    public static int getStreamFetchSize() {
+        return streamFetchSize;
+    }
+
+    public static void setStreamFetchSize(int streamFetchSize) {
+        if (streamFetchSize <= 0) {
+            throw new IllegalArgumentException("streamFetchSize 必须大于 0");
+        }
+        MybatisPlusXConfig.streamFetchSize = streamFetchSize;
+    }
+
+    public static int getDeferredJoinThreshold() {
+        return deferredJoinThreshold;
+    }
+
+    public static void setDeferredJoinThreshold(int deferredJoinThreshold) {
+        MybatisPlusXConfig.deferredJoinThreshold = deferredJoinThreshold;
+    }
+
+    public static boolean isMultiRowInsert() {
+        return multiRowInsert;
+    }
+
+    public static void setMultiRowInsert(boolean multiRowInsert) {
+        MybatisPlusXConfig.multiRowInsert = multiRowInsert;
+    }
+
+    public static int getMultiRowInsertMaxBytes() {
+        return multiRowInsertMaxBytes;
+    }
+
+    public static void setMultiRowInsertMaxBytes(int multiRowInsertMaxBytes) {
+        if (multiRowInsertMaxBytes <= 0) {
+            throw new IllegalArgumentException("multiRowInsertMaxBytes 必须大于 0");
+        }
+        MybatisPlusXConfig.multiRowInsertMaxBytes = multiRowInsertMaxBytes;
+    }
+
+    public static UpdateBatchStrategy getUpdateBatchStrategy() {
+        return updateBatchStrategy;
+    }
+
+    public static void setUpdateBatchStrategy(UpdateBatchStrategy updateBatchStrategy) {
+        // 全局策略不能再指向全局
+        MybatisPlusXConfig.updateBatchStrategy = ObjUtil.isNull(updateBatchStrategy)
+            || updateBatchStrategy == UpdateBatchStrategy.GLOBAL ? UpdateBatchStrategy.PER_ROW : updateBatchStrategy;
+    }
+
+    public static int getCaseWhenBatchSize() {
+        return caseWhenBatchSize;
+    }
+
+    public static void setCaseWhenBatchSize(int caseWhenBatchSize) {
+        if (caseWhenBatchSize <= 0) {
+            throw new IllegalArgumentException("caseWhenBatchSize 必须大于 0");
+        }
+        MybatisPlusXConfig.caseWhenBatchSize = caseWhenBatchSize;
+    }
+
+    public static int getParallelInsertThreads() {
+        return parallelInsertThreads;
+    }
+
+    public static void setParallelInsertThreads(int parallelInsertThreads) {
+        if (parallelInsertThreads <= 0) {
+            throw new IllegalArgumentException("parallelInsertThreads 必须大于 0");
+        }
+        MybatisPlusXConfig.parallelInsertThreads = parallelInsertThreads;
+    }
+
+    public static PlatformTransactionManager getTransactionManager() {
+        return transactionManager.get();
+    }
+
+    public static void setTransactionManager(Supplier<PlatformTransactionManager> transactionManager) {
+        MybatisPlusXConfig.transactionManager = ObjUtil.isNull(transactionManager) ? () -> null : transactionManager;
+    }
+}
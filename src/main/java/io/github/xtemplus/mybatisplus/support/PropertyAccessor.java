@@ -0,0 +1,18 @@
+package io.github.xtemplus.mybatisplus.support;
+
+/**
+ * 属性读取器
+ * <p>
+ * 由 {@link PropertyAccessors} 生成，优先为 getter 的直接调用，无法生成时退化为反射读取
+ */
+@FunctionalInterface
+public interface PropertyAccessor {
+
+    /**
+     * 读取属性值
+     *
+     * @param target 目标对象
+     * @return 属性值
+     */
+    Object get(Object target);
+}
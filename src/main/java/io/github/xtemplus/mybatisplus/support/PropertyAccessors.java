@@ -0,0 +1,135 @@
+package io.github.xtemplus.mybatisplus.support;
+
+import cn.hutool.core.util.ObjUtil;
+import io.github.xtemplus.utils.Log;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 属性读取器工厂
+ * <p>
+ * 通过 {@link LambdaMetafactory} 把 getter 绑定为 {@link PropertyAccessor} 实现类，调用开销与手写 getter 相同，
+ * 可被 JIT 内联；以下情况退化为 {@link Field#get(Object)} 反射读取：
+ * 1. 找不到 public getter（含 record 风格的同名方法）
+ * 2. 声明类非 public 或对本类的类加载器不可见（模块限制、隔离类加载器等）
+ * 3. LambdaMetafactory 生成失败
+ * <p>
+ * 生成的读取器不做缓存，由调用方随类元数据一起缓存
+ */
+public final class PropertyAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(PropertyAccessor.class);
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private PropertyAccessors() {
+    }
+
+    /**
+     * 为字段生成读取器
+     *
+     * @param field 字段
+     * @return 读取器
+     */
+    public static PropertyAccessor forField(Field field) {
+        Method getter = findGetter(field);
+        if (ObjUtil.isNotNull(getter) && isAccessible(getter)) {
+            try {
+                return generate(getter);
+            } catch (Throwable e) {
+                Log.debug("字段 {}.{} 生成 getter 读取器失败，使用反射读取：{}",
+                    field.getDeclaringClass().getName(), field.getName(), e.toString());
+            }
+        }
+        return reflective(field);
+    }
+
+    /**
+     * 基于反射的读取器
+     */
+    public static PropertyAccessor reflective(Field field) {
+        field.setAccessible(true);
+        return target -> {
+            try {
+                return field.get(target);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(
+                    String.format("访问字段 %s.%s 失败",
+                        target.getClass().getName(),
+                        field.getName()
+                    ), e
+                );
+            }
+        };
+    }
+
+    private static PropertyAccessor generate(Method getter) throws Throwable {
+        MethodHandle handle = LOOKUP.unreflect(getter);
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", ACCESSOR_TYPE, GET_TYPE, handle,
+            MethodType.methodType(getter.getReturnType(), getter.getDeclaringClass()).wrap());
+        return (PropertyAccessor) site.getTarget().invokeExact();
+    }
+
+    /**
+     * 查找字段的 getter：getXxx / isXxx（boolean）/ xxx（record 访问器）
+     */
+    private static Method findGetter(Field field) {
+        String name = field.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Class<?> type = field.getType();
+
+        Method getter = findMethod(field.getDeclaringClass(), "get" + suffix, type);
+        if (ObjUtil.isNull(getter) && type == boolean.class) {
+            getter = findMethod(field.getDeclaringClass(), "is" + suffix, type);
+        }
+        if (ObjUtil.isNull(getter)) {
+            getter = findMethod(field.getDeclaringClass(), name, type);
+        }
+        return getter;
+    }
+
+    private static Method findMethod(Class<?> clazz, String name, Class<?> returnType) {
+        try {
+            Method method = clazz.getMethod(name);
+            return method.getReturnType() == returnType && !Modifier.isStatic(method.getModifiers()) ? method : null;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 生成的读取器类由本类的类加载器定义，getter 的声明类与返回类型必须 public 且对其可见
+     */
+    static boolean isAccessible(Method getter) {
+        Class<?> owner = getter.getDeclaringClass();
+        for (Class<?> c = owner; ObjUtil.isNotNull(c); c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return isVisible(owner)
+            && (getter.getReturnType().isPrimitive() || isVisible(getter.getReturnType()));
+    }
+
+    static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, PropertyAccessors.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
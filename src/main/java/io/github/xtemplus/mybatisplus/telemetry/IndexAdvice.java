@@ -0,0 +1,81 @@
+package io.github.xtemplus.mybatisplus.telemetry;
+
+import java.util.List;
+
+/**
+ * 单个查询形态的索引建议
+ */
+public class IndexAdvice {
+
+    /**
+     * 索引覆盖程度
+     */
+    public enum Coverage {
+        /**
+         * 存在以全部等值列（及范围列）开头的索引
+         */
+        FULL,
+        /**
+         * 只有部分前导列可以使用索引
+         */
+        PARTIAL,
+        /**
+         * 没有可用索引
+         */
+        NONE,
+        /**
+         * 没有可用 B-tree 索引的条件（如 '%值%'），或无法确定表名
+         */
+        NOT_APPLICABLE
+    }
+
+    private final QueryShape shape;
+    private final Coverage coverage;
+    private final String matchedIndex;
+    private final List<String> suggestedColumns;
+    private final String suggestedDdl;
+
+    IndexAdvice(QueryShape shape, Coverage coverage, String matchedIndex, List<String> suggestedColumns, String suggestedDdl) {
+        this.shape = shape;
+        this.coverage = coverage;
+        this.matchedIndex = matchedIndex;
+        this.suggestedColumns = suggestedColumns;
+        this.suggestedDdl = suggestedDdl;
+    }
+
+    public QueryShape getShape() {
+        return shape;
+    }
+
+    public Coverage getCoverage() {
+        return coverage;
+    }
+
+    /**
+     * 覆盖最好的现有索引名，没有时为 null
+     */
+    public String getMatchedIndex() {
+        return matchedIndex;
+    }
+
+    /**
+     * 建议的复合索引列（等值列在前，范围列在后）
+     */
+    public List<String> getSuggestedColumns() {
+        return suggestedColumns;
+    }
+
+    /**
+     * 建议的建索引语句，已完全覆盖或不适用时为 null
+     */
+    public String getSuggestedDdl() {
+        return suggestedDdl;
+    }
+
+    @Override
+    public String toString() {
+        return shape + " table=" + shape.getTableName() + " coverage=" + coverage
+            + (matchedIndex == null ? "" : " index=" + matchedIndex)
+            + (suggestedDdl == null ? "" : " suggest: " + suggestedDdl);
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.xtemplus.mybatisplus.telemetry;
+
+import cn.hutool.core.util.ObjUtil;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.utils.Log;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 索引建议
+ * <p>
+ * 取执行次数最多的查询形态，通过 JDBC {@link DatabaseMetaData#getIndexInfo} 读取表上的索引，
+ * 判断等值条件（EQ、IN）与一个范围条件（GT、LT、GE、LE、BETWEEN、LIKE_RIGHT）能否使用某个索引的前导列，
+ * 未完全覆盖时给出复合索引建议。'%值%'、'%值' 与全文检索条件不参与 B-tree 索引判断
+ * <pre>
+ * new IndexAdvisor(dataSource).advise(20).forEach(advice -&gt; Log.info("{}", advice));
+ * </pre>
+ */
+public class IndexAdvisor {
+
+    private final DataSource dataSource;
+
+    public IndexAdvisor(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 为执行次数最多的 top 个形态生成索引建议
+     */
+    public List<IndexAdvice> advise(int top) throws SQLException {
+        List<QueryShape> shapes = QueryShapes.top(top);
+        List<IndexAdvice> advices = new ArrayList<>(shapes.size());
+        Map<String, Map<String, List<String>>> indexCache = new HashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (QueryShape shape : shapes) {
+                String table = shape.getTableName();
+                Map<String, List<String>> indexes = ObjUtil.isNull(table) ? null
+                    : indexCache.computeIfAbsent(table, t -> readIndexes(metaData, connection, t));
+                advices.add(advise(shape, indexes));
+            }
+        }
+        return advices;
+    }
+
+    /**
+     * 生成文本报告
+     */
+    public String report(int top) throws SQLException {
+        StringBuilder sb = new StringBuilder("查询形态索引报告（按执行次数）\n");
+        for (IndexAdvice advice : advise(top)) {
+            sb.append(advice).append('\n');
+        }
+        long overflow = QueryShapes.getOverflow();
+        if (overflow > 0) {
+            sb.append("超出统计上限未记录的组装次数：").append(overflow).append('\n');
+        }
+        return sb.toString();
+    }
+
+    static IndexAdvice advise(QueryShape shape, Map<String, List<String>> indexes) {
+        Set<String> equalities = new LinkedHashSet<>();
+        String range = null;
+        for (int i = 0; i < shape.getColumns().size(); i++) {
+            String column = normalize(shape.getColumns().get(i));
+            AssemblyType type = shape.getTypes().get(i);
+            if (type == AssemblyType.EQ || type == AssemblyType.IN) {
+                equalities.add(column);
+            } else if (ObjUtil.isNull(range) && isRange(type)) {
+                range = column;
+            }
+        }
+
+        List<String> suggested = new ArrayList<>(equalities);
+        if (ObjUtil.isNotNull(range) && !equalities.contains(range)) {
+            suggested.add(range);
+        }
+        if (suggested.isEmpty() || ObjUtil.isNull(indexes)) {
+            return new IndexAdvice(shape, IndexAdvice.Coverage.NOT_APPLICABLE, null, suggested, null);
+        }
+
+        // 计算每个索引能连续使用的前导列数
+        String bestIndex = null;
+        int bestUsable = 0;
+        for (Map.Entry<String, List<String>> index : indexes.entrySet()) {
+            int usable = usableColumns(index.getValue(), equalities, range);
+            if (usable > bestUsable) {
+                bestUsable = usable;
+                bestIndex = index.getKey();
+            }
+        }
+
+        if (bestUsable >= suggested.size()) {
+            return new IndexAdvice(shape, IndexAdvice.Coverage.FULL, bestIndex, suggested, null);
+        }
+        IndexAdvice.Coverage coverage = bestUsable > 0 ? IndexAdvice.Coverage.PARTIAL : IndexAdvice.Coverage.NONE;
+        return new IndexAdvice(shape, coverage, bestIndex, suggested, ddl(shape.getTableName(), suggested));
+    }
+
+    /**
+     * 索引前导列中连续命中等值列的数量，之后允许再命中一个范围列
+     */
+    private static int usableColumns(List<String> indexColumns, Set<String> equalities, String range) {
+        int usable = 0;
+        for (String column : indexColumns) {
+            if (equalities.contains(column)) {
+                usable++;
+                continue;
+            }
+            if (column.equals(range)) {
+                usable++;
+            }
+            break;
+        }
+        return usable;
+    }
+
+    private static boolean isRange(AssemblyType type) {
+        switch (type) {
+            case GT:
+            case LT:
+            case GE:
+            case LE:
+            case BETWEEN:
+            case LIKE_RIGHT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static String ddl(String table, List<String> columns) {
+        return "CREATE INDEX idx_" + table + "_" + String.join("_", columns)
+            + " ON " + table + " (" + String.join(", ", columns) + ")";
+    }
+
+    /**
+     * 读取表上的索引：索引名 -> 按顺序排列的列名；表名依次尝试原样、大写、小写
+     */
+    private static Map<String, List<String>> readIndexes(DatabaseMetaData metaData, Connection connection, String table) {
+        String[] candidates = {table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT)};
+        for (String candidate : candidates) {
+            Map<String, TreeMap<Short, String>> ordered = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), candidate, false, true)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (ObjUtil.isNull(indexName) || ObjUtil.isNull(column)) {
+                        continue;
+                    }
+                    ordered.computeIfAbsent(indexName, k -> new TreeMap<>()).put(rs.getShort("ORDINAL_POSITION"), normalize(column));
+                }
+            } catch (SQLException | AbstractMethodError e) {
+                Log.warn("读取表 {} 的索引信息失败：{}", candidate, e.getMessage());
+                return null;
+            }
+            if (!ordered.isEmpty()) {
+                Map<String, List<String>> indexes = new HashMap<>();
+                ordered.forEach((name, columns) -> indexes.put(name, new ArrayList<>(columns.values())));
+                return indexes;
+            }
+        }
+        return new HashMap<>();
+    }
+
+    private static String normalize(String column) {
+        return column.replace("`", "").replace("\"", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.xtemplus.mybatisplus.telemetry;
+
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 查询形态：DTO 类 + 非空字段组合（列名与查询类型），以及该形态的执行统计
+ */
+public class QueryShape {
+
+    private final Class<?> dtoClass;
+    private final long mask;
+    private final List<String> columns;
+    private final List<AssemblyType> types;
+    private volatile String tableName;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder timedCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    QueryShape(Class<?> dtoClass, long mask, String[] allColumns, AssemblyType[] allTypes, String tableName) {
+        this.dtoClass = dtoClass;
+        this.mask = mask;
+        List<String> columns = new ArrayList<>(Long.bitCount(mask));
+        List<AssemblyType> types = new ArrayList<>(Long.bitCount(mask));
+        for (int i = 0; i < allColumns.length && i < Long.SIZE; i++) {
+            if ((mask & (1L << i)) != 0) {
+                columns.add(allColumns[i]);
+                types.add(allTypes[i]);
+            }
+        }
+        this.columns = Collections.unmodifiableList(columns);
+        this.types = Collections.unmodifiableList(types);
+        this.tableName = tableName;
+    }
+
+    void increment() {
+        count.increment();
+    }
+
+    void recordLatency(long nanos) {
+        timedCount.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    void tableNameIfAbsent(String tableName) {
+        if (this.tableName == null) {
+            this.tableName = tableName;
+        }
+    }
+
+    public Class<?> getDtoClass() {
+        return dtoClass;
+    }
+
+    /**
+     * 非空字段位图（按组装计划中的字段顺序，最多 64 个字段）
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public List<AssemblyType> getTypes() {
+        return types;
+    }
+
+    /**
+     * 表名，由实体 TableInfo 或执行时的 Mapper 解析，无法确定时为 null
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTimedCount() {
+        return timedCount.sum();
+    }
+
+    public double getAvgMillis() {
+        long timed = timedCount.sum();
+        return timed == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / timed;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * 形态描述，如 user_name LIKE_RIGHT AND age IN
+     */
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sb.append(" AND ");
+            }
+            sb.append(columns.get(i)).append(' ').append(types.get(i));
+        }
+        return sb.length() == 0 ? "(无条件)" : sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s] count=%d avg=%.2fms max=%.2fms",
+            dtoClass.getSimpleName(), describe(), getCount(), getAvgMillis(), getMaxMillis());
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.xtemplus.mybatisplus.telemetry;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 记录组装查询的执行耗时
+ * <p>
+ * 只有参数中包含当前线程最近一次组装结果的查询才会被计时，其它查询直接放行
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class QueryShapeInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        QueryShape shape = QueryShapes.take(invocation.getArgs()[1]);
+        if (ObjUtil.isNull(shape)) {
+            return invocation.proceed();
+        }
+
+        if (ObjUtil.isNull(shape.getTableName())) {
+            shape.tableNameIfAbsent(tableName((MappedStatement) invocation.getArgs()[0]));
+        }
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            shape.recordLatency(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 根据 Mapper 命名空间找到实体表名
+     */
+    private static String tableName(MappedStatement ms) {
+        String id = ms.getId();
+        String namespace = id.substring(0, id.lastIndexOf('.'));
+        for (TableInfo tableInfo : TableInfoHelper.getTableInfos()) {
+            if (namespace.equals(tableInfo.getCurrentNamespace())) {
+                return tableInfo.getTableName();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.xtemplus.mybatisplus.telemetry;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 查询形态统计
+ * <p>
+ * 以 (DTO 类, 非空字段位图) 为指纹计数，条数上限为 template.core.mybatis.shape-telemetry-max-shapes，
+ * 超出后新形态只计入溢出计数。组装结果（Wrapper / SqlCriteria）与形态绑定在当前线程，
+ * {@link QueryShapeInterceptor} 执行到同一对象时记录耗时
+ */
+public final class QueryShapes {
+
+    private static final Map<Key, QueryShape> SHAPES = new ConcurrentHashMap<>();
+    private static final LongAdder OVERFLOW = new LongAdder();
+    private static final ThreadLocal<Pending> PENDING = new ThreadLocal<>();
+
+    private QueryShapes() {
+    }
+
+    /**
+     * 记录一次组装
+     *
+     * @param dtoClass    DTO 类
+     * @param columns     组装计划中的全部列名
+     * @param types       组装计划中的全部查询类型
+     * @param mask        非空字段位图
+     * @param entityClass 实体类，用于解析表名，可为 null
+     * @param query       组装结果，执行时用于关联耗时
+     */
+    public static void record(Class<?> dtoClass, String[] columns, AssemblyType[] types, long mask,
+                              Class<?> entityClass, Object query) {
+        Key key = new Key(dtoClass, mask);
+        QueryShape shape = SHAPES.get(key);
+        if (ObjUtil.isNull(shape)) {
+            if (SHAPES.size() >= MybatisPlusXConfig.getShapeTelemetryMaxShapes()) {
+                OVERFLOW.increment();
+                return;
+            }
+            shape = SHAPES.computeIfAbsent(key, k -> new QueryShape(dtoClass, mask, columns, types, tableName(entityClass)));
+        }
+        shape.increment();
+        PENDING.set(new Pending(shape, query));
+    }
+
+    /**
+     * 取出当前线程与参数对应的形态
+     */
+    static QueryShape take(Object parameter) {
+        Pending pending = PENDING.get();
+        if (ObjUtil.isNull(pending)) {
+            return null;
+        }
+        Object query = pending.query.get();
+        if (ObjUtil.isNull(query) || !references(parameter, query)) {
+            return null;
+        }
+        PENDING.remove();
+        return pending.shape;
+    }
+
+    private static boolean references(Object parameter, Object query) {
+        if (parameter == query) {
+            return true;
+        }
+        if (parameter instanceof Map) {
+            for (Object value : ((Map<?, ?>) parameter).values()) {
+                if (value == query) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String tableName(Class<?> entityClass) {
+        TableInfo tableInfo = ObjUtil.isNull(entityClass) ? null : TableInfoHelper.getTableInfo(entityClass);
+        return ObjUtil.isNull(tableInfo) ? null : tableInfo.getTableName();
+    }
+
+    /**
+     * 按执行次数降序返回前 n 个形态
+     */
+    public static List<QueryShape> top(int n) {
+        List<QueryShape> shapes = new ArrayList<>(SHAPES.values());
+        shapes.sort(Comparator.comparingLong(QueryShape::getCount).reversed());
+        return shapes.size() > n ? new ArrayList<>(shapes.subList(0, n)) : shapes;
+    }
+
+    /**
+     * 因超出上限未被统计的组装次数
+     */
+    public static long getOverflow() {
+        return OVERFLOW.sum();
+    }
+
+    /**
+     * 清空统计
+     */
+    public static void reset() {
+        SHAPES.clear();
+        OVERFLOW.reset();
+    }
+
+    private static final class Key {
+        private final Class<?> dtoClass;
+        private final long mask;
+
+        private Key(Class<?> dtoClass, long mask) {
+            this.dtoClass = dtoClass;
+            this.mask = mask;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return mask == key.mask && dtoClass == key.dtoClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dtoClass, mask);
+        }
+    }
+
+    /**
+     * 已组装但尚未执行的查询，弱引用避免线程池中长期持有 Wrapper
+     */
+    private static final class Pending {
+        private final QueryShape shape;
+        private final WeakReference<Object> query;
+
+        private Pending(QueryShape shape, Object query) {
+            this.shape = shape;
+            this.query = new WeakReference<>(query);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.xtemplus.mybatisplus.tracking;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 实体快照与脏字段跟踪
+ * <p>
+ * 在 {@link #begin()} 开启的范围内，经 MyBatis 查询得到的实体由 {@link DirtyTrackingInterceptor} 记录字段快照，
+ * 按 UpdateBatchStrategy.DIRTY 批量更新时只写入与快照不同的列。快照按对象引用保存，只在当前线程有效，
+ * 字段值按 equals 比较，就地修改的可变对象（如 Date#setTime）无法识别
+ * <pre>
+ * try (DirtyTracker.Scope ignored = DirtyTracker.begin()) {
+ *     List&lt;Item&gt; items = itemMapper.selectList(...);
+ *     items.forEach(item -&gt; item.setStock(0));
+ *     itemMapper.updateBatch(items, UpdateBatchStrategy.DIRTY);
+ * }
+ * </pre>
+ */
+public final class DirtyTracker {
+
+    private static final ThreadLocal<Map<Object, Object[]>> SNAPSHOTS = new ThreadLocal<>();
+
+    private static final Scope NESTED = () -> {
+    };
+
+    private DirtyTracker() {
+    }
+
+    /**
+     * 开启跟踪范围，关闭时丢弃快照；嵌套调用共享外层范围
+     *
+     * @return 跟踪范围
+     */
+    public static Scope begin() {
+        if (isActive()) {
+            return NESTED;
+        }
+        SNAPSHOTS.set(new IdentityHashMap<>());
+        return SNAPSHOTS::remove;
+    }
+
+    /**
+     * 当前线程是否处于跟踪范围内
+     */
+    public static boolean isActive() {
+        return ObjUtil.isNotNull(SNAPSHOTS.get());
+    }
+
+    /**
+     * 记录实体快照，不在跟踪范围内或不是 MyBatis-Plus 实体时忽略；已记录的实体以当前状态覆盖
+     *
+     * @param entity 实体
+     */
+    public static void track(Object entity) {
+        snapshot(entity, true);
+    }
+
+    /**
+     * 查询结果记录快照，一级缓存返回同一对象时保留首次快照
+     */
+    static void trackIfAbsent(Object entity) {
+        snapshot(entity, false);
+    }
+
+    private static void snapshot(Object entity, boolean overwrite) {
+        Map<Object, Object[]> snapshots = SNAPSHOTS.get();
+        if (ObjUtil.isNull(snapshots) || ObjUtil.isNull(entity) || (!overwrite && snapshots.containsKey(entity))) {
+            return;
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entity.getClass());
+        if (ObjUtil.isNull(tableInfo)) {
+            return;
+        }
+        List<TableFieldInfo> fields = tableInfo.getFieldList();
+        Object[] values = new Object[fields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = tableInfo.getPropertyValue(entity, fields.get(i).getProperty());
+        }
+        snapshots.put(entity, values);
+    }
+
+    /**
+     * 获取需要更新的字段
+     * <p>
+     * 有快照时返回与快照不同的字段（包括改为 null 的字段），没有快照时按 updateById 的 updateStrategy 规则判断；
+     * updateStrategy 为 NEVER 的字段、逻辑删除字段与带 update 模板的字段不返回，后者由调用方按 updateById 规则追加
+     *
+     * @param tableInfo 实体元数据
+     * @param entity    实体
+     * @return 需要更新的字段，按 TableInfo 字段顺序
+     */
+    public static List<TableFieldInfo> dirtyFields(TableInfo tableInfo, Object entity) {
+        Map<Object, Object[]> snapshots = SNAPSHOTS.get();
+        Object[] snapshot = ObjUtil.isNull(snapshots) ? null : snapshots.get(entity);
+        List<TableFieldInfo> fields = tableInfo.getFieldList();
+        List<TableFieldInfo> dirty = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            TableFieldInfo field = fields.get(i);
+            if (field.getUpdateStrategy() == FieldStrategy.NEVER || field.isLogicDelete() || StrUtil.isNotBlank(field.getUpdate())) {
+                continue;
+            }
+            Object value = tableInfo.getPropertyValue(entity, field.getProperty());
+            boolean changed = ObjUtil.isNull(snapshot) ? isUpdatedById(field, value) : !Objects.deepEquals(snapshot[i], value);
+            if (changed) {
+                dirty.add(field);
+            }
+        }
+        return dirty;
+    }
+
+    /**
+     * updateById 是否写入该字段，与 TableFieldInfo#getSqlSet 生成的 if 条件一致
+     *
+     * @param field 字段
+     * @param value 字段值
+     * @return 是否写入
+     */
+    public static boolean isUpdatedById(TableFieldInfo field, Object value) {
+        if (field.isWithUpdateFill()) {
+            return true;
+        }
+        switch (field.getUpdateStrategy()) {
+            case NEVER:
+                return false;
+            case IGNORED:
+            case ALWAYS:
+                return true;
+            case NOT_EMPTY:
+                return ObjUtil.isNotNull(value) && (!field.isCharSequence() || StrUtil.isNotEmpty((CharSequence) value));
+            default:
+                return field.isPrimitive() || ObjUtil.isNotNull(value);
+        }
+    }
+
+    /**
+     * 跟踪范围，关闭时丢弃当前线程的快照
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
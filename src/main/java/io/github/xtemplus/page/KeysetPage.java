@@ -0,0 +1,75 @@
+package io.github.xtemplus.page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 游标（keyset）分页数据
+ * <p>
+ * 不返回总数和页码，下一页通过 nextToken 定位，翻页代价与页码无关
+ *
+ * @param <T> 实体类型
+ */
+public class KeysetPage<T> {
+    /**
+     * 当前页记录
+     */
+    private List<T> records = new ArrayList<>();
+
+    /**
+     * 每页显示记录数
+     */
+    private Integer pageSize;
+
+    /**
+     * 是否还有下一页
+     */
+    private boolean hasNext;
+
+    /**
+     * 下一页令牌，没有下一页时为 null
+     */
+    private String nextToken;
+
+    public List<T> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<T> records) {
+        this.records = records;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPage{" +
+                "records=" + records.size() +
+                ", pageSize=" + pageSize +
+                ", hasNext=" + hasNext +
+                ", nextToken='" + nextToken + '\'' +
+                '}';
+    }
+}
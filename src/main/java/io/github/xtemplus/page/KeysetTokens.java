@@ -0,0 +1,190 @@
+package io.github.xtemplus.page;
+
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 游标分页令牌编解码
+ * <p>
+ * 令牌为 Base64URL 编码的纯文本：版本|签名|类型:值|类型:值...，值按类型标记还原，
+ * 不使用 Java 反序列化，只支持常见的排序键类型。签名由排序列和方向计算，
+ * 用于拒绝其它查询的令牌；令牌未加密，不要放入敏感字段
+ */
+public final class KeysetTokens {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+
+    private KeysetTokens() {
+    }
+
+    /**
+     * 编码令牌
+     *
+     * @param signature 查询签名（排序列、方向）
+     * @param values    最后一行的排序键值
+     * @return 令牌
+     */
+    public static String encode(String signature, List<?> values) {
+        StringBuilder text = new StringBuilder(VERSION).append(SEPARATOR).append(crc(signature));
+        for (Object value : values) {
+            text.append(SEPARATOR).append(type(value)).append(':').append(urlEncode(String.valueOf(toText(value))));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码令牌
+     *
+     * @param signature 查询签名，需与编码时一致
+     * @param token     令牌
+     * @return 排序键值
+     * @throws IllegalArgumentException 令牌格式错误或不属于当前查询
+     */
+    public static List<Object> decode(String signature, String token) {
+        String text;
+        try {
+            text = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("分页令牌格式错误", e);
+        }
+        List<String> parts = StrUtil.split(text, SEPARATOR);
+        if (parts.size() < 3 || !VERSION.equals(parts.get(0)) || !crc(signature).equals(parts.get(1))) {
+            throw new IllegalArgumentException("分页令牌不属于当前查询");
+        }
+
+        List<Object> values = new ArrayList<>(parts.size() - 2);
+        for (String part : parts.subList(2, parts.size())) {
+            int index = part.indexOf(':');
+            if (index <= 0) {
+                throw new IllegalArgumentException("分页令牌格式错误");
+            }
+            try {
+                values.add(fromText(part.substring(0, index), urlDecode(part.substring(index + 1))));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("分页令牌格式错误", e);
+            }
+        }
+        return values;
+    }
+
+    private static String type(Object value) {
+        if (value instanceof String) {
+            return "s";
+        }
+        if (value instanceof Integer) {
+            return "i";
+        }
+        if (value instanceof Long) {
+            return "l";
+        }
+        if (value instanceof Short) {
+            return "h";
+        }
+        if (value instanceof BigDecimal) {
+            return "d";
+        }
+        if (value instanceof BigInteger) {
+            return "g";
+        }
+        if (value instanceof Double) {
+            return "f";
+        }
+        if (value instanceof Boolean) {
+            return "b";
+        }
+        if (value instanceof LocalDateTime) {
+            return "T";
+        }
+        if (value instanceof LocalDate) {
+            return "D";
+        }
+        if (value instanceof LocalTime) {
+            return "t";
+        }
+        if (value instanceof Instant) {
+            return "I";
+        }
+        if (value instanceof Date) {
+            return "M";
+        }
+        throw new IllegalArgumentException(
+            String.format("排序键类型 %s 不支持游标分页", ObjUtil.isNull(value) ? "null" : value.getClass().getName())
+        );
+    }
+
+    private static Object toText(Object value) {
+        return value instanceof Date ? ((Date) value).getTime() : value;
+    }
+
+    private static Object fromText(String type, String text) {
+        switch (type) {
+            case "s":
+                return text;
+            case "i":
+                return Integer.valueOf(text);
+            case "l":
+                return Long.valueOf(text);
+            case "h":
+                return Short.valueOf(text);
+            case "d":
+                return new BigDecimal(text);
+            case "g":
+                return new BigInteger(text);
+            case "f":
+                return Double.valueOf(text);
+            case "b":
+                return Boolean.valueOf(text);
+            case "T":
+                return LocalDateTime.parse(text);
+            case "D":
+                return LocalDate.parse(text);
+            case "t":
+                return LocalTime.parse(text);
+            case "I":
+                return Instant.parse(text);
+            case "M":
+                return new Date(Long.parseLong(text));
+            default:
+                throw new IllegalArgumentException("未知的排序键类型：" + type);
+        }
+    }
+
+    private static String crc(String signature) {
+        CRC32 crc = new CRC32();
+        crc.update(signature.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static String urlEncode(String text) {
+        try {
+            return URLEncoder.encode(text, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String urlDecode(String text) {
+        try {
+            return URLDecoder.decode(text, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -24,6 +24,11 @@ public class TableSupport {
      */
     public static final String ORDER_BY = "orderBy";
 
+    /**
+     * 游标分页令牌
+     */
+    public static final String PAGE_TOKEN = "pageToken";
+
 
     public static PageVo buildPageRequest() {
         PageVo pageVo = new PageVo();
@@ -0,0 +1,112 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import io.github.xtemplus.mybatisplus.annotation.Assembly;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 直接从请求参数组装的条件按字段类型转换后在数据库上执行
+ */
+class AssembleParamsTest {
+
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void createTable() {
+        DataSource dataSource = TestMybatis.h2("assemble_params");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, balance DECIMAL(10, 2), deleted INT DEFAULT 0)",
+            "INSERT INTO t_user (id, name, dept_id, balance) VALUES (1, 'ann', 7, 10.00), (2, 'amy', 7, 20.50), "
+                + "(3, 'bob', 8, 30.00), (4, 'ann2', 9, 40.00)");
+        sqlSessionFactory = TestMybatis.sqlSessionFactory(TestMybatis.configuration(UserMapper.class), dataSource);
+    }
+
+    @Test
+    void convertsMultiValueParamsToFieldTypes() {
+        // 多个同名参数与逗号分隔混用
+        assertEquals(Arrays.asList(1L, 2L), select(params("id", new String[]{"1,2", "4"}, "deptId", "7")));
+        assertEquals(Arrays.asList(2L, 3L), select(params("balance", new String[]{"15", " 35 "})));
+        assertEquals(Arrays.asList(1L, 4L), select(params("name", "ann", "depts", "7, 7,9")));
+    }
+
+    @Test
+    void scalarFieldTakesFirstValue() {
+        assertEquals(Collections.singletonList(3L), select(params("deptId", new String[]{"8", "9"})));
+    }
+
+    @Test
+    void blankParamsAreSkipped() {
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), select(params("deptId", " ", "name", "", "id", ",")));
+    }
+
+    @Test
+    void unconvertibleParamFails() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> WrapperAssembler.assembleParams(params("deptId", "abc"), UserParams.class));
+        assertTrue(e.getMessage().contains("deptId"), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class,
+            () -> WrapperAssembler.assembleParams(params("id", "1,x"), UserParams.class));
+        assertTrue(e.getMessage().contains("id"), e.getMessage());
+    }
+
+    @Test
+    void setFieldRemovesDuplicates() throws NoSuchFieldException {
+        Object value = ParamConverters.of(UserParams.class.getDeclaredField("depts")).apply("7,7,9");
+        assertEquals(Arrays.asList(7L, 9L), Arrays.asList(((Set<?>) value).toArray()));
+    }
+
+    private static List<Long> select(Map<String, Object> params) {
+        QueryWrapper<User> wrapper = WrapperAssembler.assembleParams(params, UserParams.class);
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            return session.getMapper(UserMapper.class).selectList(wrapper).stream()
+                .map(User::getId).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static Map<String, Object> params(Object... pairs) {
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            params.put((String) pairs[i], pairs[i + 1]);
+        }
+        return params;
+    }
+
+    static class UserParams {
+        @Assembly(type = AssemblyType.IN)
+        List<Long> id;
+
+        @Assembly(type = AssemblyType.LIKE_RIGHT)
+        String name;
+
+        @Assembly
+        Long deptId;
+
+        @Assembly(type = AssemblyType.IN, column = "dept_id")
+        Set<Long> depts;
+
+        @Assembly(type = AssemblyType.BETWEEN)
+        List<BigDecimal> balance;
+    }
+}
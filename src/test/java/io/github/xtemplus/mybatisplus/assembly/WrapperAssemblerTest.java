@@ -0,0 +1,86 @@
+package io.github.xtemplus.mybatisplus.assembly;
+
+import com.baomidou.mybatisplus.annotation.TableField;
+import io.github.xtemplus.mybatisplus.annotation.Assembly;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.query.LambdaQueryWrapperX;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WrapperAssemblerTest {
+
+    @BeforeAll
+    static void registerTables() {
+        TestMybatis.configuration(UserMapper.class);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void assembleLambdaResolvesColumnsFromTableInfo() {
+        UserQuery query = new UserQuery();
+        query.name = "ab";
+        query.deptId = 7L;
+        query.keyword = "ignored";
+
+        LambdaQueryWrapperX<Object> wrapper = WrapperAssembler.assembleLambda((Object) query, (Class) User.class);
+
+        String sql = TestMybatis.normalize(wrapper.getSqlSegment());
+        assertTrue(sql.startsWith("(name LIKE #{"), sql);
+        assertTrue(sql.contains("AND dept_id = #{"), sql);
+        assertEquals(2, wrapper.getParamNameValuePairs().size());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void unmappedFieldFailsInsteadOfWideningTheQuery() {
+        UnmappedQuery query = new UnmappedQuery();
+        query.tenant = 1L;
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> WrapperAssembler.assembleLambda((Object) query, (Class) User.class));
+        assertTrue(e.getMessage().contains("[tenant]"), e.getMessage());
+
+        // 再次调用仍然失败，不会缓存缺少字段的解析结果
+        assertThrows(IllegalArgumentException.class, () -> WrapperAssembler.assembleLambda((Object) query, (Class) User.class));
+        assertThrows(IllegalArgumentException.class, () -> WrapperAssembler.toPredicate(query, User.class));
+    }
+
+    @Test
+    void predicateFiltersWithSameSemantics() {
+        UserQuery query = new UserQuery();
+        query.name = "ab";
+        query.deptId = 7L;
+
+        Predicate<User> predicate = WrapperAssembler.toPredicate(query, User.class);
+
+        assertTrue(predicate.test(new User(1L, "xaby", 7L)));
+        assertFalse(predicate.test(new User(2L, "xaby", 8L)));
+        assertFalse(predicate.test(new User(3L, "xy", 7L)));
+    }
+
+    static class UserQuery {
+        @Assembly(type = AssemblyType.LIKE)
+        String name;
+
+        @Assembly
+        Long deptId;
+
+        @TableField(exist = false)
+        String keyword;
+    }
+
+    static class UnmappedQuery {
+        @Assembly
+        Long tenant;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLWarning;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkLoadsTest {
+
+    private static TableInfo tableInfo;
+
+    @BeforeAll
+    static void registerTables() {
+        TestMybatis.configuration(UserMapper.class);
+        tableInfo = TableInfoHelper.getTableInfo(User.class);
+    }
+
+    @Test
+    void skippedRowsFailTheLoad() {
+        assertDoesNotThrow(() -> BulkLoads.checkWarnings(tableInfo, 3, 3, null));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> BulkLoads.checkWarnings(tableInfo, 3, 2,
+            new SQLWarning("Duplicate entry '1' for key 'PRIMARY'")));
+        assertTrue(e.getMessage().contains("跳过 1 行"), e.getMessage());
+        assertTrue(e.getMessage().contains("Duplicate entry"), e.getMessage());
+    }
+
+    @Test
+    void warningsFailEvenWhenAllRowsLoaded() {
+        SQLWarning warning = new SQLWarning("Data truncated for column 'name' at row 1");
+        warning.setNextWarning(new SQLWarning("Data truncated for column 'name' at row 2"));
+        RuntimeException e = assertThrows(RuntimeException.class, () -> BulkLoads.checkWarnings(tableInfo, 2, 2, warning));
+        assertTrue(e.getMessage().contains("row 2"), e.getMessage());
+    }
+}
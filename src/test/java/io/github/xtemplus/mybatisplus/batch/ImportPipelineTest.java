@@ -0,0 +1,166 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import cn.hutool.core.util.StrUtil;
+import io.github.xtemplus.core.enums.error.OptErrEnum;
+import io.github.xtemplus.core.enums.error.ValidateErrEnum;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 导入流水线的错误行、整批失败后的逐行重试与队列背压
+ */
+class ImportPipelineTest {
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void createTable() {
+        dataSource = TestMybatis.h2("import_pipeline");
+        TestMybatis.execute(dataSource, "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, "
+            + "balance DECIMAL(10, 2), deleted INT DEFAULT 0)");
+    }
+
+    @BeforeEach
+    void clearTable() {
+        TestMybatis.execute(dataSource, "DELETE FROM t_user");
+    }
+
+    @Test
+    void rejectsRowsAndRetriesFailedBatchRowByRow() {
+        List<ImportRowError> reported = new ArrayList<>();
+        ImportResult result = pipeline(3)
+            .validator(user -> {
+                if (StrUtil.isBlank(user.getName())) {
+                    throw new RowRejectedException(ValidateErrEnum.PARAM_REQUIRED, "名称为空");
+                }
+            })
+            .onError(error -> {
+                synchronized (reported) {
+                    reported.add(error);
+                }
+            })
+            // 第 5 行与第 1 行主键重复，所在批次回滚后逐行重试
+            .run(Stream.of("1,a", "x,b", "3, ", "4,d", "1,dup", "5,e"));
+
+        assertEquals(6, result.getRead());
+        assertEquals(2, result.getRejected());
+        assertEquals(3, result.getWritten());
+        assertEquals(1, result.getWriteFailed());
+        assertEquals(1, result.getBatches());
+        assertEquals(1, result.getRetriedBatches());
+
+        List<ImportRowError> errors = new ArrayList<>(result.getErrors());
+        errors.sort(Comparator.comparingLong(ImportRowError::getRowNumber));
+        assertEquals(Arrays.asList(2L, 3L, 5L), errors.stream().map(ImportRowError::getRowNumber).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(ValidateErrEnum.PARAM_FORMAT_ERROR.errCode(), ValidateErrEnum.PARAM_REQUIRED.errCode(),
+            OptErrEnum.IMPORT_FAILED.errCode()), errors.stream().map(ImportRowError::getErrCode).collect(Collectors.toList()));
+        assertEquals(3, reported.size());
+
+        assertEquals(Arrays.asList("1:a", "4:d", "5:e"), stored());
+    }
+
+    @Test
+    void slowWriterBlocksReader() throws Exception {
+        AtomicInteger supplied = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ImportPipeline<String, User> pipeline = new ImportPipeline<String, User>(User.class, ImportPipelineTest::parse,
+            batch -> {
+                await(release);
+                written.addAndGet(batch.size());
+            }, user -> written.incrementAndGet())
+            .transactionManager(new DataSourceTransactionManager(dataSource))
+            .batchSize(1)
+            .queueCapacity(2);
+
+        Stream<String> rows = IntStream.rangeClosed(1, 100).mapToObj(i -> {
+            supplied.incrementAndGet();
+            return i + ",u" + i;
+        });
+        CompletableFuture<ImportResult> running = CompletableFuture.supplyAsync(() -> pipeline.run(rows));
+
+        TimeUnit.MILLISECONDS.sleep(300);
+        // 写入中 1 行 + 两个队列各 2 行 + 解析、读取线程各持有 1 行
+        assertTrue(supplied.get() <= 7, "读取未被阻塞：" + supplied.get());
+
+        release.countDown();
+        ImportResult result = running.get(10, TimeUnit.SECONDS);
+        assertEquals(100, result.getWritten());
+        assertEquals(100, written.get());
+    }
+
+    private static ImportPipeline<String, User> pipeline(int batchSize) {
+        return new ImportPipeline<String, User>(User.class, ImportPipelineTest::parse,
+            batch -> batch.forEach(ImportPipelineTest::insert), ImportPipelineTest::insert)
+            .transactionManager(new DataSourceTransactionManager(dataSource))
+            .batchSize(batchSize);
+    }
+
+    private static User parse(String line) {
+        String[] cells = line.split(",", -1);
+        return new User(Long.valueOf(cells[0]), cells[1].trim(), null);
+    }
+
+    /**
+     * 通过 DataSourceUtils 取连接，事务中写入时参与当前事务
+     */
+    private static void insert(User user) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t_user (id, name) VALUES (?, ?)")) {
+            statement.setLong(1, user.getId());
+            statement.setString(2, user.getName());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static List<String> stored() {
+        List<String> rows = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id, name FROM t_user ORDER BY id")) {
+            while (resultSet.next()) {
+                rows.add(resultSet.getLong(1) + ":" + resultSet.getString(2));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return rows;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
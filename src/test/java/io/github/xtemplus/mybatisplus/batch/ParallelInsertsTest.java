@@ -0,0 +1,95 @@
+package io.github.xtemplus.mybatisplus.batch;
+
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 分区事务使用应用的事务管理器
+ */
+class ParallelInsertsTest {
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void createFactory() {
+        dataSource = TestMybatis.h2("parallel_inserts");
+        TestMybatis.sqlSessionFactory(TestMybatis.configuration(UserMapper.class), dataSource);
+    }
+
+    @AfterEach
+    void reset() {
+        MybatisPlusXConfig.setTransactionManager(null);
+    }
+
+    @Test
+    void usesApplicationTransactionManager() {
+        CountingTransactionManager manager = new CountingTransactionManager(dataSource);
+        MybatisPlusXConfig.setTransactionManager(() -> manager);
+
+        ParallelInsertResult result = ParallelInserts.insert(users(5), 2, this::assertInTransaction);
+        assertEquals(3, result.getPartitions().size());
+        assertEquals(3, manager.begun.get());
+    }
+
+    @Test
+    void explicitTransactionManagerWins() {
+        CountingTransactionManager global = new CountingTransactionManager(dataSource);
+        CountingTransactionManager explicit = new CountingTransactionManager(dataSource);
+        MybatisPlusXConfig.setTransactionManager(() -> global);
+
+        ParallelInserts.insert(users(4), 2, explicit, this::assertInTransaction);
+        assertEquals(0, global.begun.get());
+        assertEquals(2, explicit.begun.get());
+    }
+
+    @Test
+    void fallsBackToEntityDataSource() {
+        List<Boolean> active = new ArrayList<>();
+        ParallelInserts.insert(users(1), 1, partition -> active.add(TransactionSynchronizationManager.isActualTransactionActive()));
+        assertEquals(Arrays.asList(true), active);
+    }
+
+    private void assertInTransaction(List<User> partition) {
+        assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    private static List<User> users(int count) {
+        List<User> users = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            users.add(new User(i, "u" + i, null));
+        }
+        return users;
+    }
+
+    private static class CountingTransactionManager extends DataSourceTransactionManager {
+
+        private final AtomicInteger begun = new AtomicInteger();
+
+        CountingTransactionManager(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.incrementAndGet();
+            super.doBegin(transaction, definition);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.xtemplus.mybatisplus.criteria;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlCriteriaTest {
+
+    private static MybatisConfiguration configuration;
+    private static DataSource dataSource;
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void createTable() {
+        dataSource = TestMybatis.h2("sql_criteria");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, balance DECIMAL(10, 2), deleted INT DEFAULT 0)",
+            "INSERT INTO t_user (id, name, dept_id, deleted) VALUES (1, 'ann', 7, 0), (2, 'a_b', 7, 0), (3, 'bob', 8, 0), "
+                + "(4, 'abe', 7, 1), (5, 'amy', 9, 0)");
+        configuration = TestMybatis.configuration(UserMapper.class);
+        sqlSessionFactory = TestMybatis.sqlSessionFactory(configuration, dataSource);
+    }
+
+    @AfterEach
+    void reset() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+        MybatisPlusXConfig.setInChunkSize(1000);
+    }
+
+    @Test
+    void rendersPositionalWhere() {
+        SqlCriteria criteria = new SqlCriteria().eq("dept_id", 7L).eq("name", null).between("balance", 1, 2);
+        assertEquals("dept_id = ? AND name IS NULL AND balance BETWEEN ? AND ?", criteria.getSqlSegment());
+        assertEquals(Arrays.asList(7L, 1, 2), criteria.getParams());
+
+        BoundSql boundSql = boundSql("selectCriteriaList", criteria);
+        assertEquals("SELECT id,name,dept_id,balance,deleted FROM t_user"
+                + " WHERE (dept_id = ? AND name IS NULL AND balance BETWEEN ? AND ?) AND deleted=0",
+            TestMybatis.normalize(boundSql.getSql()));
+        assertEquals(Arrays.asList(7L, 1, 2), TestMybatis.parameters(configuration, boundSql));
+
+        assertEquals("SELECT id,name,dept_id,balance,deleted FROM t_user WHERE deleted=0",
+            TestMybatis.normalize(boundSql("selectCriteriaList", new SqlCriteria()).getSql()));
+    }
+
+    @Test
+    void largeInListsAreChunked() {
+        MybatisPlusXConfig.setInChunkSize(2);
+        SqlCriteria criteria = new SqlCriteria().in("id", Arrays.asList(1L, 2L, 3L));
+        assertEquals("(id IN (?,?) OR id IN (?))", criteria.getSqlSegment());
+        assertEquals(Arrays.asList(1L, 2L, 3L), criteria.getParams());
+    }
+
+    @Test
+    void likeEscapesWildcards() {
+        SqlCriteria criteria = new SqlCriteria().like("name", "a_", SqlLike.RIGHT, true);
+        assertEquals("name LIKE ?", criteria.getSqlSegment());
+        assertEquals(Arrays.asList("a\\_%"), criteria.getParams());
+    }
+
+    @Test
+    void executesAgainstDatabase() {
+        assertQueries(sqlSessionFactory);
+    }
+
+    @Test
+    void customInjectorFallsBackToWrapper() {
+        SqlCriteria criteria = new SqlCriteria().eq("dept_id", 7L).in("id", Arrays.asList(1L, 2L));
+        QueryWrapper<User> wrapper = criteria.toWrapper();
+        assertEquals("(dept_id = ? AND id IN (?,?))", wrapper.getSqlSegment().replaceAll("#\\{[^}]+}", "?"));
+
+        MybatisConfiguration plain = TestMybatis.configuration(new DefaultSqlInjector(), UserMapper.class);
+        assertQueries(TestMybatis.sqlSessionFactory(plain, dataSource));
+    }
+
+    private static void assertQueries(SqlSessionFactory factory) {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        try (SqlSession session = factory.openSession(true)) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+            List<Long> ids = mapper.selectListByCriteria(new SqlCriteria().eq("dept_id", 7L).like("name", "a", SqlLike.RIGHT, true))
+                .stream().map(User::getId).sorted().collect(Collectors.toList());
+            assertEquals(Arrays.asList(1L, 2L), ids);
+
+            assertEquals(1L, mapper.selectCountByCriteria(new SqlCriteria().like("name", "a_", SqlLike.RIGHT, true)));
+            assertEquals(4L, mapper.selectCountByCriteria(new SqlCriteria()));
+            assertEquals(4, mapper.selectListByCriteria(null).size());
+        }
+    }
+
+    private static BoundSql boundSql(String method, SqlCriteria criteria) {
+        return configuration.getMappedStatement(UserMapper.class.getName() + "." + method).getBoundSql(criteria);
+    }
+}
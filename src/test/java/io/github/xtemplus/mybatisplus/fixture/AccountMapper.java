@@ -0,0 +1,6 @@
+package io.github.xtemplus.mybatisplus.fixture;
+
+import io.github.xtemplus.mybatisplus.mapper.BaseMapperX;
+
+public interface AccountMapper extends BaseMapperX<Account> {
+}
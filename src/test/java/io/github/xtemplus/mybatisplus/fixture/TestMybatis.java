@@ -0,0 +1,99 @@
+package io.github.xtemplus.mybatisplus.fixture;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.MybatisSqlSessionFactoryBuilder;
+import com.baomidou.mybatisplus.core.injector.ISqlInjector;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+import io.github.xtemplus.mybatisplus.injector.DefaultSqlInjectorX;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 测试用 MyBatis 配置：只注册 Mapper 时用于检查注入方法渲染的 SQL，绑定 H2 内存库时用于执行
+ */
+public final class TestMybatis {
+
+    private TestMybatis() {
+    }
+
+    public static MybatisConfiguration configuration(Class<?>... mappers) {
+        return configuration(new DefaultSqlInjectorX(), mappers);
+    }
+
+    public static MybatisConfiguration configuration(ISqlInjector sqlInjector, Class<?>... mappers) {
+        MybatisConfiguration configuration = new MybatisConfiguration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        GlobalConfigUtils.getGlobalConfig(configuration).setSqlInjector(sqlInjector);
+        for (Class<?> mapper : mappers) {
+            configuration.addMapper(mapper);
+        }
+        return configuration;
+    }
+
+    /**
+     * H2 内存库，连接关闭后保留数据直到 JVM 退出
+     */
+    public static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL");
+        return dataSource;
+    }
+
+    /**
+     * 在 H2 内存库上执行 DDL/DML
+     */
+    public static void execute(DataSource dataSource, String... sqls) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 绑定数据源的 SqlSessionFactory，事务自动提交
+     */
+    public static SqlSessionFactory sqlSessionFactory(MybatisConfiguration configuration, DataSource dataSource) {
+        configuration.setEnvironment(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        return new MybatisSqlSessionFactoryBuilder().build(configuration);
+    }
+
+    public static BoundSql boundSql(MybatisConfiguration configuration, Class<?> mapper, String method, Map<String, Object> params) {
+        MappedStatement statement = configuration.getMappedStatement(mapper.getName() + "." + method);
+        return statement.getBoundSql(params);
+    }
+
+    /**
+     * 压缩空白，便于比较
+     */
+    public static String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * 占位符按顺序对应的参数值
+     */
+    public static List<Object> parameters(MybatisConfiguration configuration, BoundSql boundSql) {
+        return boundSql.getParameterMappings().stream().map(mapping -> {
+            String property = mapping.getProperty();
+            if (boundSql.hasAdditionalParameter(property)) {
+                return boundSql.getAdditionalParameter(property);
+            }
+            return configuration.newMetaObject(boundSql.getParameterObject()).getValue(property);
+        }).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import io.github.xtemplus.mybatisplus.annotation.UpdateBatchStrategy;
+import io.github.xtemplus.mybatisplus.fixture.Account;
+import io.github.xtemplus.mybatisplus.fixture.AccountMapper;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CaseWhenSqlSourceTest {
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void skipsNullValuesAndKeepsLogicDelete() {
+        MybatisConfiguration configuration = TestMybatis.configuration(UserMapper.class);
+        User first = new User(1L, "a", null);
+        User second = new User(2L, null, 7L);
+        second.setBalance(new BigDecimal("3.50"));
+
+        BoundSql boundSql = TestMybatis.boundSql(configuration, UserMapper.class, "updateBatchByCase",
+            Collections.singletonMap("list", Arrays.asList(first, second)));
+        assertEquals("UPDATE t_user SET name = CASE id WHEN ? THEN ? ELSE name END,"
+                + " dept_id = CASE id WHEN ? THEN ? ELSE dept_id END,"
+                + " balance = CASE id WHEN ? THEN ? ELSE balance END"
+                + " WHERE id IN (?,?) AND deleted=0",
+            TestMybatis.normalize(boundSql.getSql()));
+        assertEquals(Arrays.asList(1L, "a", 2L, 7L, 2L, new BigDecimal("3.50"), 1L, 2L),
+            TestMybatis.parameters(configuration, boundSql));
+    }
+
+    @Test
+    void rejectsMissingKeyOrEmptyUpdate() {
+        MybatisConfiguration configuration = TestMybatis.configuration(UserMapper.class);
+        assertThrows(IllegalArgumentException.class, () -> TestMybatis.boundSql(configuration, UserMapper.class,
+            "updateBatchByCase", Collections.singletonMap("list", Collections.singletonList(new User(null, "a", 1L)))));
+        assertThrows(IllegalArgumentException.class, () -> TestMybatis.boundSql(configuration, UserMapper.class,
+            "updateBatchByCase", Collections.singletonMap("list", Collections.singletonList(new User(1L, null, null)))));
+    }
+
+    @Test
+    void updatesRowsInOneStatement() {
+        assertCaseWhenUpdate(TestMybatis.configuration(AccountMapper.class), "case_when");
+    }
+
+    @Test
+    void customInjectorFallsBackToUpdateById() {
+        assertCaseWhenUpdate(TestMybatis.configuration(new DefaultSqlInjector(), AccountMapper.class), "case_when_plain");
+    }
+
+    private static void assertCaseWhenUpdate(MybatisConfiguration configuration, String database) {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        DataSource dataSource = TestMybatis.h2(database);
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_account (id BIGINT PRIMARY KEY, code VARCHAR(32), name VARCHAR(32), score INT, "
+                + "create_time TIMESTAMP, created_by VARCHAR(32))",
+            "INSERT INTO t_account (id, code, name, score, created_by) VALUES (1, 'a', 'old-a', 10, 'init'), "
+                + "(2, 'b', 'old-b', 20, 'init'), (3, 'c', 'old-c', 30, 'init')");
+
+        Account a = new Account(1L, null, "new-a", null);
+        a.setCreatedBy("changed");
+        Account b = new Account(2L, null, null, 21);
+        try (SqlSession session = TestMybatis.sqlSessionFactory(configuration, dataSource).openSession(true)) {
+            AccountMapper mapper = session.getMapper(AccountMapper.class);
+            mapper.updateBatch(Arrays.asList(a, b), 2, UpdateBatchStrategy.CASE_WHEN);
+
+            List<Account> stored = mapper.selectBatchIds(Arrays.asList(1L, 2L, 3L));
+            stored.sort((x, y) -> Long.compare(x.getId(), y.getId()));
+            assertEquals(Arrays.asList("new-a", "old-b", "old-c"), Arrays.asList(stored.get(0).getName(),
+                stored.get(1).getName(), stored.get(2).getName()));
+            assertEquals(Arrays.asList(10, 21, 30), Arrays.asList(stored.get(0).getScore(),
+                stored.get(1).getScore(), stored.get(2).getScore()));
+            // updateStrategy = NEVER 的字段不更新
+            assertEquals("init", stored.get(0).getCreatedBy());
+        } finally {
+            TestMybatis.execute(dataSource, "DROP TABLE t_account");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.xtemplus.mybatisplus.injector;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import io.github.xtemplus.mybatisplus.fixture.Account;
+import io.github.xtemplus.mybatisplus.fixture.AccountMapper;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpsertSqlSourceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static MybatisConfiguration configuration;
+
+    @BeforeAll
+    static void registerTables() {
+        configuration = TestMybatis.configuration(AccountMapper.class);
+    }
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void mysqlUpdatesOnlyUpdatableColumns() {
+        assertEquals("INSERT INTO t_account (id,code,name,create_time,created_by) VALUES (?,?,?,?,?),(?,?,?,?,?)"
+                + " ON DUPLICATE KEY UPDATE code = VALUES(code),name = VALUES(name)",
+            sql(Arrays.asList(account(1L, "a", null), account(2L, "b", null))));
+    }
+
+    @Test
+    void postgresUsesConflictColumns() {
+        MybatisPlusXConfig.setDbType(DbType.POSTGRE_SQL);
+        assertEquals("INSERT INTO t_account (id,code,name,score,create_time,created_by) VALUES (?,?,?,?,?,?)"
+                + " ON CONFLICT (code) DO UPDATE SET name = EXCLUDED.name,score = EXCLUDED.score",
+            sql(Collections.singletonList(account(1L, "a", 5)), "code"));
+    }
+
+    @Test
+    void h2MergeExcludesInsertOnlyColumns() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        assertEquals("MERGE INTO t_account t USING (VALUES (?,?,?,?,?)) s (id,code,name,create_time,created_by) ON (t.id = s.id)"
+                + " WHEN MATCHED THEN UPDATE SET t.code = s.code,t.name = s.name"
+                + " WHEN NOT MATCHED THEN INSERT (id,code,name,create_time,created_by)"
+                + " VALUES (s.id,s.code,s.name,s.create_time,s.created_by)",
+            sql(Collections.singletonList(account(1L, "a", null))));
+    }
+
+    @Test
+    void nullFieldsDoNotOverwriteExistingValues() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        DataSource dataSource = TestMybatis.h2("upsert");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_account (id BIGINT PRIMARY KEY, code VARCHAR(32) UNIQUE, name VARCHAR(32), score INT, "
+                + "create_time TIMESTAMP, created_by VARCHAR(32))",
+            "INSERT INTO t_account VALUES (1, 'a', 'old-a', 10, TIMESTAMP '2020-01-01 00:00:00', 'init')",
+            "INSERT INTO t_account VALUES (2, 'b', 'old-b', 20, TIMESTAMP '2020-01-01 00:00:00', 'init')");
+
+        Account a = account(1L, "a", null);
+        a.setName("new-a");
+        Account b = account(2L, "b", 21);
+        b.setName("new-b");
+        Account c = account(3L, "c", 30);
+        c.setName("new-c");
+        for (Account account : Arrays.asList(a, b, c)) {
+            account.setCreateTime(LocalDateTime.now());
+            account.setCreatedBy("upsert");
+        }
+
+        try (SqlSession session = TestMybatis.sqlSessionFactory(configuration, dataSource).openSession(true)) {
+            AccountMapper mapper = session.getMapper(AccountMapper.class);
+            mapper.upsertBatch(Arrays.asList(a, b, c));
+
+            Account storedA = mapper.selectById(1L);
+            assertEquals("new-a", storedA.getName());
+            assertEquals(10, storedA.getScore());
+            assertEquals(CREATED, storedA.getCreateTime());
+            assertEquals("init", storedA.getCreatedBy());
+
+            Account storedB = mapper.selectById(2L);
+            assertEquals(21, storedB.getScore());
+            assertEquals("init", storedB.getCreatedBy());
+
+            Account storedC = mapper.selectById(3L);
+            assertEquals("upsert", storedC.getCreatedBy());
+            assertEquals(30, storedC.getScore());
+        } finally {
+            TestMybatis.execute(dataSource, "DROP TABLE t_account");
+        }
+    }
+
+    @Test
+    void duplicateConflictValuesKeepLastEntity() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        DataSource dataSource = TestMybatis.h2("upsert_duplicates");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_account (id BIGINT PRIMARY KEY, code VARCHAR(32) UNIQUE, name VARCHAR(32), score INT, "
+                + "create_time TIMESTAMP, created_by VARCHAR(32))",
+            "INSERT INTO t_account VALUES (1, 'a', 'old-a', 10, TIMESTAMP '2020-01-01 00:00:00', 'init')");
+
+        Account first = account(1L, "a", 11);
+        Account last = account(1L, "a", 12);
+        Account other = account(2L, "b", 20);
+        Account duplicate = account(2L, "b", 21);
+
+        try (SqlSession session = TestMybatis.sqlSessionFactory(configuration, dataSource).openSession(true)) {
+            AccountMapper mapper = session.getMapper(AccountMapper.class);
+            // 同一条语句中的重复冲突值在 MERGE 中会报错
+            mapper.upsertBatch(Arrays.asList(first, other, last, duplicate), "code");
+
+            assertEquals(12, mapper.selectById(1L).getScore());
+            assertEquals(21, mapper.selectById(2L).getScore());
+            assertEquals(2L, mapper.selectCount(null));
+        } finally {
+            TestMybatis.execute(dataSource, "DROP TABLE t_account");
+        }
+    }
+
+    @Test
+    void customInjectorFailsWithClearMessage() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        MybatisConfiguration plain = TestMybatis.configuration(new DefaultSqlInjector(), AccountMapper.class);
+        try (SqlSession session = TestMybatis.sqlSessionFactory(plain, TestMybatis.h2("upsert_plain")).openSession(true)) {
+            AccountMapper mapper = session.getMapper(AccountMapper.class);
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> mapper.upsertBatch(Collections.singletonList(account(1L, "a", 1))));
+            assertTrue(e.getMessage().startsWith("upsertList 未注入"), e.getMessage());
+        }
+    }
+
+    private static Account account(Long id, String code, Integer score) {
+        Account account = new Account(id, code, "n" + id, score);
+        account.setCreateTime(CREATED);
+        account.setCreatedBy("init");
+        return account;
+    }
+
+    private static String sql(List<Account> accounts, String... conflictColumns) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("list", accounts);
+        params.put(UpsertSqlSource.CONFLICT_COLUMNS, Arrays.asList(conflictColumns));
+        BoundSql boundSql = TestMybatis.boundSql(configuration, AccountMapper.class, "upsertList", params);
+        assertEquals(boundSql.getSql().chars().filter(ch -> ch == '?').count(), boundSql.getParameterMappings().size());
+        return TestMybatis.normalize(boundSql.getSql());
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.xtemplus.mybatisplus.mapper;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 多行 INSERT 与 JDBC 批处理两条路径写入结果一致，null 字段使用数据库默认值
+ */
+class InsertBatchTest {
+
+    private static final int ROWS = 2000;
+
+    private static DataSource dataSource;
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void createTable() {
+        dataSource = TestMybatis.h2("insert_batch");
+        TestMybatis.execute(dataSource, "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, "
+            + "balance DECIMAL(10, 2) DEFAULT 1.50, deleted INT DEFAULT 0)");
+        sqlSessionFactory = TestMybatis.sqlSessionFactory(TestMybatis.configuration(UserMapper.class), dataSource);
+    }
+
+    @BeforeEach
+    void useH2() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        TestMybatis.execute(dataSource, "DELETE FROM t_user");
+    }
+
+    @AfterEach
+    void reset() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+        MybatisPlusXConfig.setMultiRowInsert(false);
+    }
+
+    @Test
+    void multiRowIsOffByDefault() {
+        assertFalse(MybatisPlusXConfig.isMultiRowInsert());
+    }
+
+    @Test
+    void bothPathsWriteTheSameRows() {
+        MybatisPlusXConfig.setMultiRowInsert(false);
+        insert(users(0));
+        String jdbcBatch = dump(0);
+
+        MybatisPlusXConfig.setMultiRowInsert(true);
+        insert(users(ROWS));
+        String multiRow = dump(ROWS);
+
+        assertEquals(jdbcBatch, multiRow);
+        assertEquals(ROWS, count("SELECT COUNT(*) FROM t_user WHERE id >= " + ROWS));
+        // null 字段不写入 NULL，使用列默认值
+        assertEquals(ROWS / 2, count("SELECT COUNT(*) FROM t_user WHERE id >= " + ROWS + " AND balance = 1.50"));
+        assertEquals(0, count("SELECT COUNT(*) FROM t_user WHERE deleted IS NULL"));
+    }
+
+    @Test
+    void generatesKeysBeforeGrouping() {
+        MybatisPlusXConfig.setMultiRowInsert(true);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            users.add(new User(null, "g" + i, i % 2 == 0 ? null : 1L));
+        }
+        insert(users);
+
+        users.forEach(user -> assertNotNull(user.getId()));
+        assertEquals(10, count("SELECT COUNT(*) FROM t_user WHERE name LIKE 'g%'"));
+        assertEquals(5, count("SELECT COUNT(*) FROM t_user WHERE name LIKE 'g%' AND dept_id IS NULL"));
+    }
+
+    @Test
+    void customInjectorFallsBackToJdbcBatch() {
+        MybatisPlusXConfig.setMultiRowInsert(true);
+        SqlSessionFactory plain = TestMybatis.sqlSessionFactory(
+            TestMybatis.configuration(new DefaultSqlInjector(), UserMapper.class), dataSource);
+        try (SqlSession session = plain.openSession(true)) {
+            session.getMapper(UserMapper.class).insertBatch(users(0), 500);
+        }
+        assertEquals(ROWS, count("SELECT COUNT(*) FROM t_user"));
+        assertEquals(ROWS / 2, count("SELECT COUNT(*) FROM t_user WHERE balance = 1.50"));
+    }
+
+    private static List<User> users(long offset) {
+        List<User> users = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            User user = new User(offset + i, "u" + i, i % 3 == 0 ? null : (long) (i % 7));
+            if (i % 2 == 0) {
+                user.setBalance(new BigDecimal("9.25"));
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static void insert(List<User> users) {
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            session.getMapper(UserMapper.class).insertBatch(users, 500);
+        }
+    }
+
+    /**
+     * 按 id 偏移后的行内容，用于比较两条路径
+     */
+    private static String dump(long offset) {
+        StringBuilder sb = new StringBuilder();
+        query("SELECT id - " + offset + ", name, dept_id, balance, deleted FROM t_user WHERE id >= " + offset
+            + " AND id < " + (offset + ROWS) + " ORDER BY id", rs -> {
+            for (int i = 1; i <= 5; i++) {
+                sb.append(rs.getString(i)).append(i == 5 ? '\n' : ',');
+            }
+        });
+        return sb.toString();
+    }
+
+    private static int count(String sql) {
+        int[] count = new int[1];
+        query(sql, rs -> count[0] = rs.getInt(1));
+        return count[0];
+    }
+
+    private static void query(String sql, RowCallback callback) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                callback.accept(rs);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface RowCallback {
+        void accept(ResultSet rs) throws SQLException;
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.xtemplus.mybatisplus.mapper;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import io.github.xtemplus.page.KeysetPage;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetPageTest {
+
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void createTable() {
+        DataSource dataSource = TestMybatis.h2("keyset_page");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, balance DECIMAL(10, 2), deleted INT DEFAULT 0)",
+            "INSERT INTO t_user (id, name, dept_id) VALUES (1, 'a', 7), (2, 'b', 7), (3, 'c', 7), (4, 'd', 8), (5, 'e', 7)");
+        // 不注册分页插件，行数必须由 SQL 自身限制
+        sqlSessionFactory = TestMybatis.sqlSessionFactory(TestMybatis.configuration(UserMapper.class), dataSource);
+    }
+
+    @BeforeEach
+    void useH2() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+    }
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void pagesAreLimitedInSqlWithoutPaginationInterceptor() {
+        List<SFunction<User, ?>> sortKeys = Arrays.asList(User::getId);
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+
+            KeysetPage<User> first = mapper.selectKeysetPage(new LambdaQueryWrapper<User>().eq(User::getDeptId, 7),
+                sortKeys, true, (String) null, 2);
+            assertEquals(Arrays.asList(1L, 2L), ids(first));
+            assertTrue(first.isHasNext());
+
+            KeysetPage<User> second = mapper.selectKeysetPage(new LambdaQueryWrapper<User>().eq(User::getDeptId, 7),
+                sortKeys, true, first.getNextToken(), 2);
+            assertEquals(Arrays.asList(3L, 5L), ids(second));
+            assertFalse(second.isHasNext());
+            assertNull(second.getNextToken());
+        }
+    }
+
+    @Test
+    void selectLimitRendersDialectLimit() {
+        List<User> rows;
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            rows = session.getMapper(UserMapper.class).selectLimit(new LambdaQueryWrapper<User>().orderByDesc(User::getId), 3);
+        }
+        assertEquals(Arrays.asList(5L, 4L, 3L), rows.stream().map(User::getId).collect(Collectors.toList()));
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("ew", new LambdaQueryWrapper<User>().eq(User::getDeptId, 7));
+        params.put("limit", 3);
+        String sql = TestMybatis.boundSql((MybatisConfiguration) sqlSessionFactory.getConfiguration(),
+            UserMapper.class, "selectLimit", params).getSql();
+        assertTrue(TestMybatis.normalize(sql).endsWith(" LIMIT 3"), sql);
+        assertFalse(sql.contains("\n\n"), sql);
+    }
+
+    private static List<Long> ids(KeysetPage<User> page) {
+        return page.getRecords().stream().map(User::getId).collect(Collectors.toList());
+    }
+}
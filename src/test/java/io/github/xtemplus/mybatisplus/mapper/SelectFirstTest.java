@@ -0,0 +1,82 @@
+package io.github.xtemplus.mybatisplus.mapper;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SelectFirstTest {
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void createTable() {
+        dataSource = TestMybatis.h2("select_first");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, balance DECIMAL(10, 2), deleted INT DEFAULT 0)",
+            "INSERT INTO t_user (id, name, dept_id) VALUES (1, 'a', 7), (2, 'b', 7), (3, 'c', 8)");
+    }
+
+    @BeforeEach
+    void useH2() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+    }
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void injectedStatementLimitsToOneRow() {
+        MybatisConfiguration configuration = TestMybatis.configuration(UserMapper.class);
+        String sql = TestMybatis.boundSql(configuration, UserMapper.class, "selectFirst",
+            Collections.singletonMap("ew", new LambdaQueryWrapper<User>().eq(User::getDeptId, 7))).getSql();
+        assertTrue(TestMybatis.normalize(sql).endsWith(" LIMIT 1"), sql);
+        // 空行会被 JSqlParser 当作语句结束，租户、分页等解析 SQL 的插件失效
+        assertFalse(sql.contains("\n\n"), sql);
+
+        try (SqlSession session = TestMybatis.sqlSessionFactory(configuration, dataSource).openSession(true)) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+            assertEquals("a", mapper.selectFirstOne(User::getDeptId, 7L).getName());
+            assertNull(mapper.selectFirstOne(User::getDeptId, 9L));
+            assertTrue(mapper.exists(User::getDeptId, 8L));
+            assertFalse(mapper.exists("dept_id", 9L));
+
+            // 已有 last 时不能在其后追加 LIMIT
+            assertEquals("a", mapper.selectFirst(new LambdaQueryWrapper<User>().eq(User::getDeptId, 7).last("FOR UPDATE")).getName());
+            assertEquals("b", mapper.selectFirst(new LambdaQueryWrapper<User>().orderByDesc(User::getId).last("LIMIT 2 OFFSET 1")).getName());
+        }
+    }
+
+    @Test
+    void customInjectorFallsBackToSelectList() {
+        MybatisConfiguration configuration = TestMybatis.configuration(new DefaultSqlInjector(), UserMapper.class);
+        assertFalse(configuration.hasStatement(UserMapper.class.getName() + ".selectFirst"));
+
+        try (SqlSession session = TestMybatis.sqlSessionFactory(configuration, dataSource).openSession(true)) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+            assertEquals("a", mapper.selectFirstOne(User::getDeptId, 7L).getName());
+            assertNull(mapper.selectFirstOne(User::getDeptId, 9L));
+            assertTrue(mapper.exists(User::getDeptId, 8L));
+            assertFalse(mapper.exists(User::getDeptId, 9L));
+        }
+    }
+}
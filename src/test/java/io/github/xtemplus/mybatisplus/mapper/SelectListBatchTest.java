@@ -0,0 +1,109 @@
+package io.github.xtemplus.mybatisplus.mapper;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import io.github.xtemplus.mybatisplus.annotation.Assembly;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 合并查询的结果按 DTO 拆分，DTO 字段类型与实体不一致、内存比较与数据库不一致时不丢行
+ */
+class SelectListBatchTest {
+
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void createTable() {
+        DataSource dataSource = TestMybatis.h2("select_list_batch");
+        // name 列不区分大小写，内存比较区分大小写
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR_IGNORECASE(32), dept_id BIGINT, balance DECIMAL(10, 2), deleted INT DEFAULT 0)",
+            "INSERT INTO t_user (id, name, dept_id) VALUES (1, 'ann', 7), (2, 'amy', 7), (3, 'bob', 8), (4, 'ben', 9)");
+        sqlSessionFactory = TestMybatis.sqlSessionFactory(TestMybatis.configuration(UserMapper.class), dataSource);
+    }
+
+    @BeforeEach
+    void useH2() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        MybatisPlusXConfig.setCaseInsensitiveStrings(false);
+    }
+
+    @AfterEach
+    void reset() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+        MybatisPlusXConfig.setCaseInsensitiveStrings(null);
+    }
+
+    @Test
+    void inShapeSplitsByConvertedKey() {
+        List<List<User>> results = select(Arrays.asList(new DeptQuery("7"), new DeptQuery("8"), new DeptQuery("7"),
+            new DeptQuery("5")));
+
+        assertEquals(Arrays.asList(Arrays.asList(1L, 2L), Arrays.asList(3L), Arrays.asList(1L, 2L), Arrays.asList()),
+            ids(results));
+    }
+
+    @Test
+    void orShapeSplitsWithConvertedValues() {
+        List<List<User>> results = select(Arrays.asList(new DeptNameQuery("7", "a"), new DeptNameQuery("9", "b")));
+
+        assertEquals(Arrays.asList(Arrays.asList(1L, 2L), Arrays.asList(4L)), ids(results));
+    }
+
+    @Test
+    void unmatchedRowsFallBackToSingleQueries() {
+        List<List<User>> results = select(Arrays.asList(new DeptNameQuery("7", "AN"), new DeptNameQuery("8", "B")));
+
+        assertEquals(Arrays.asList(Arrays.asList(1L), Arrays.asList(3L)), ids(results));
+    }
+
+    private static List<List<User>> select(List<?> queries) {
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            return session.getMapper(UserMapper.class).selectListBatch(queries);
+        }
+    }
+
+    private static List<List<Long>> ids(List<List<User>> results) {
+        return results.stream()
+            .map(rows -> rows.stream().map(User::getId).sorted().collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    static class DeptQuery {
+        @Assembly
+        String deptId;
+
+        DeptQuery(String deptId) {
+            this.deptId = deptId;
+        }
+    }
+
+    static class DeptNameQuery {
+        @Assembly
+        String deptId;
+
+        @Assembly(type = AssemblyType.LIKE_RIGHT)
+        String name;
+
+        DeptNameQuery(String deptId, String name) {
+            this.deptId = deptId;
+            this.name = name;
+        }
+    }
+}
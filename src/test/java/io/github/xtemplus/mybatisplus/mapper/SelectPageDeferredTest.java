@@ -0,0 +1,114 @@
+package io.github.xtemplus.mybatisplus.mapper;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import com.baomidou.mybatisplus.core.injector.ISqlInjector;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.OrderItem;
+import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.injector.DefaultSqlInjectorX;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 延迟关联分页与普通分页结果一致
+ */
+class SelectPageDeferredTest {
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void createTable() {
+        dataSource = TestMybatis.h2("select_page_deferred");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, balance DECIMAL(10, 2), deleted INT DEFAULT 0)",
+            "INSERT INTO t_user (id, name, dept_id, deleted) VALUES (1, 'a', 7, 0), (2, 'b', 8, 0), (3, 'c', 7, 0), "
+                + "(4, 'd', 9, 0), (5, 'e', 8, 1), (6, 'f', 7, 0), (7, 'g', 9, 0), (8, 'h', 8, 0)");
+    }
+
+    @BeforeEach
+    void useH2() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+    }
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void matchesNormalPaging() {
+        try (SqlSession session = sqlSessionFactory(new DefaultSqlInjectorX()).openSession(true)) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+            QueryWrapper<User> wrapper = new QueryWrapper<User>().ne("dept_id", 9);
+
+            // 分页参数上的排序
+            assertSamePage(mapper, wrapper, () -> {
+                Page<User> page = new Page<>(2, 2);
+                page.addOrder(OrderItem.desc("dept_id"), OrderItem.asc("id"));
+                return page;
+            });
+            // Wrapper 上的排序
+            assertSamePage(mapper, new QueryWrapper<User>().orderByDesc("name"), () -> new Page<>(2, 3));
+            // 单页上限
+            assertSamePage(mapper, wrapper, () -> {
+                Page<User> page = new Page<>(1, 5);
+                page.addOrder(OrderItem.desc("id"));
+                page.setMaxLimit(2L);
+                return page;
+            });
+            // 不统计总数
+            assertSamePage(mapper, wrapper, () -> {
+                Page<User> page = new Page<>(2, 2, false);
+                page.addOrder(OrderItem.asc("name"));
+                return page;
+            });
+        }
+    }
+
+    @Test
+    void customInjectorFallsBackToSelectPage() {
+        try (SqlSession session = sqlSessionFactory(new DefaultSqlInjector()).openSession(true)) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+            assertSamePage(mapper, new QueryWrapper<User>().orderByDesc("dept_id").orderByAsc("id"), () -> new Page<>(2, 3));
+        }
+    }
+
+    private static void assertSamePage(UserMapper mapper, QueryWrapper<User> wrapper, Supplier<Page<User>> page) {
+        IPage<User> deferred = mapper.selectPageDeferred(page.get(), wrapper);
+        IPage<User> normal = mapper.selectPage(page.get(), wrapper);
+        assertEquals(normal.getTotal(), deferred.getTotal());
+        assertEquals(ids(normal), ids(deferred));
+    }
+
+    private static SqlSessionFactory sqlSessionFactory(ISqlInjector sqlInjector) {
+        MybatisConfiguration configuration = TestMybatis.configuration(sqlInjector, UserMapper.class);
+        MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
+        interceptor.addInnerInterceptor(new PaginationInnerInterceptor(DbType.H2));
+        configuration.addInterceptor(interceptor);
+        return TestMybatis.sqlSessionFactory(configuration, dataSource);
+    }
+
+    private static List<Long> ids(IPage<User> page) {
+        return page.getRecords().stream().map(User::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.xtemplus.mybatisplus.mapper;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import com.baomidou.mybatisplus.core.injector.ISqlInjector;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.injector.DefaultSqlInjectorX;
+import io.github.xtemplus.mybatisplus.stream.FetchSizeInterceptor;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 游标与 ResultHandler 两种流式查询
+ */
+class SelectStreamTest {
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void createTable() {
+        dataSource = TestMybatis.h2("select_stream");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, balance DECIMAL(10, 2), deleted INT DEFAULT 0)",
+            "INSERT INTO t_user (id, name, dept_id, deleted) VALUES (1, 'a', 7, 0), (2, 'b', 7, 0), (3, 'c', 8, 1), (4, 'd', 7, 0)");
+    }
+
+    @BeforeEach
+    void useH2() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+    }
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void cursorStreamsLiveRowsWithFetchSize() {
+        RecordingInterceptor recorder = new RecordingInterceptor();
+        try (SqlSession session = sqlSessionFactory(new DefaultSqlInjectorX(), recorder).openSession()) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+            try (Stream<User> users = mapper.selectStream(new QueryWrapper<User>().orderByAsc("id"), 2)) {
+                assertEquals(Arrays.asList(1L, 2L, 4L), users.map(User::getId).collect(Collectors.toList()));
+            }
+            assertEquals(Collections.singletonList(2), recorder.fetchSizes);
+
+            List<Long> ids = new ArrayList<>();
+            mapper.selectStream(new QueryWrapper<User>().eq("dept_id", 7), 3, user -> ids.add(user.getId()));
+            ids.sort(Long::compare);
+            assertEquals(Arrays.asList(1L, 2L, 4L), ids);
+            assertEquals(Arrays.asList(2, 3), recorder.fetchSizes);
+
+            // 流式查询之外不覆盖驱动默认值
+            mapper.selectList(new QueryWrapper<User>().eq("id", 1));
+            assertEquals(3, recorder.fetchSizes.size());
+            assertNotEquals(3, recorder.fetchSizes.get(2));
+        }
+    }
+
+    @Test
+    void customInjectorFailsWithClearMessage() {
+        try (SqlSession session = sqlSessionFactory(new DefaultSqlInjector()).openSession(true)) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+            IllegalStateException e = assertThrows(IllegalStateException.class, () -> mapper.selectStream(null));
+            assertTrue(e.getMessage().startsWith("selectCursor 未注入"), e.getMessage());
+
+            // 基于 ResultHandler 的重载不依赖注入
+            List<Long> ids = new ArrayList<>();
+            mapper.selectStream(null, 2, user -> ids.add(user.getId()));
+            ids.sort(Long::compare);
+            assertEquals(Arrays.asList(1L, 2L, 4L), ids);
+        }
+    }
+
+    private static SqlSessionFactory sqlSessionFactory(ISqlInjector sqlInjector) {
+        return TestMybatis.sqlSessionFactory(TestMybatis.configuration(sqlInjector, UserMapper.class), dataSource);
+    }
+
+    private static SqlSessionFactory sqlSessionFactory(ISqlInjector sqlInjector, Interceptor recorder) {
+        MybatisConfiguration configuration = TestMybatis.configuration(sqlInjector, UserMapper.class);
+        configuration.addInterceptor(new FetchSizeInterceptor());
+        // 后添加的插件在外层，能看到 FetchSizeInterceptor 设置后的值
+        configuration.addInterceptor(recorder);
+        return TestMybatis.sqlSessionFactory(configuration, dataSource);
+    }
+
+    /**
+     * 记录每条语句创建后的 fetch size
+     */
+    @Intercepts({
+        @Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class})
+    })
+    static class RecordingInterceptor implements Interceptor {
+
+        private final List<Integer> fetchSizes = new ArrayList<>();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            fetchSizes.add(((Statement) result).getFetchSize());
+            return result;
+        }
+    }
+}
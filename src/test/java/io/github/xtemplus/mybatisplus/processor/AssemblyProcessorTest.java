@@ -0,0 +1,192 @@
+package io.github.xtemplus.mybatisplus.processor;
+
+import cn.hutool.core.util.ObjUtil;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import io.github.xtemplus.mybatisplus.assembly.GeneratedAssembler;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.StringUtils;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssemblyProcessorTest {
+
+    private static final String LOMBOK_DATA = "package lombok; public @interface Data {}";
+
+    @TempDir
+    Path out;
+
+    @Test
+    void generatedAssemblerCompilesAgainstExplicitGetters() throws IOException {
+        String dto = "package demo;\n"
+            + "import io.github.xtemplus.mybatisplus.annotation.*;\n"
+            + "public class UserQuery {\n"
+            + "    @Assembly(type = AssemblyType.LIKE_RIGHT, escape = true) private String name;\n"
+            + "    @Assembly(column = \"dept_id\") private Long deptId;\n"
+            + "    @Assembly private boolean active;\n"
+            + "    public String getName() { return name; }\n"
+            + "    public Long getDeptId() { return deptId; }\n"
+            + "    public boolean isActive() { return active; }\n"
+            + "}\n";
+
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(false, source("demo.UserQuery", dto));
+        assertTrue(diagnostics.getDiagnostics().stream().noneMatch(d -> d.getKind() == javax.tools.Diagnostic.Kind.ERROR),
+            diagnostics.getDiagnostics().toString());
+
+        String generated = generated("demo/UserQueryAssembler.java");
+        assertTrue(generated.contains("value = queryDto.getName();"));
+        assertTrue(generated.contains("value = queryDto.isActive();"));
+        assertTrue(generated.contains("wrapper, \"dept_id\", value"));
+        assertTrue(generated.contains("(SFunction<demo.UserQuery, ?>) demo.UserQuery::isActive"), generated);
+        assertTrue(generated.contains("AssemblyType.LIKE_RIGHT, \"name\", io.github.xtemplus.mybatisplus.annotation.InStrategy.GLOBAL, true"));
+        assertTrue(Files.exists(out.resolve("classes/demo/UserQueryAssembler.class")));
+    }
+
+    @Test
+    void lombokBooleanGettersFollowLombokNaming() throws IOException {
+        String dto = "package demo;\n"
+            + "import io.github.xtemplus.mybatisplus.annotation.*;\n"
+            + "@lombok.Data\n"
+            + "public class FlagQuery {\n"
+            + "    @Assembly private boolean isActive;\n"
+            + "    @Assembly private boolean enabled;\n"
+            + "    @Assembly private Boolean isDeleted;\n"
+            + "    @Assembly private String code;\n"
+            + "}\n";
+
+        // Lombok 不在测试类路径上，只运行处理器检查生成的调用
+        compile(true, source("lombok.Data", LOMBOK_DATA), source("demo.FlagQuery", dto));
+
+        String generated = generated("demo/FlagQueryAssembler.java");
+        assertTrue(generated.contains("queryDto.isActive();"), generated);
+        assertTrue(generated.contains("queryDto.isEnabled();"), generated);
+        assertTrue(generated.contains("queryDto.getIsDeleted();"), generated);
+        assertTrue(generated.contains("queryDto.getCode();"), generated);
+        assertFalse(generated.contains("isIsActive"), generated);
+    }
+
+    @Test
+    void nonBeanGettersLeaveLambdaToReflection() throws Exception {
+        String dto = "package demo;\n"
+            + "import io.github.xtemplus.mybatisplus.annotation.*;\n"
+            + "public class RecordQuery {\n"
+            + "    @Assembly private String name;\n"
+            + "    @Assembly private boolean isActive;\n"
+            + "    public String name() { return name; }\n"
+            + "    public boolean isActive() { return isActive; }\n"
+            + "}\n";
+
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(false, source("demo.RecordQuery", dto));
+        assertTrue(diagnostics.getDiagnostics().stream().noneMatch(d -> d.getKind() == javax.tools.Diagnostic.Kind.ERROR),
+            diagnostics.getDiagnostics().toString());
+
+        String generated = generated("demo/RecordQueryAssembler.java");
+        assertTrue(generated.contains("value = queryDto.name();"), generated);
+        assertFalse(generated.contains("RecordQuery::"), generated);
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{out.resolve("classes").toUri().toURL()},
+            AssemblyProcessor.class.getClassLoader())) {
+            GeneratedAssembler<?> assembler = (GeneratedAssembler<?>) loader.loadClass("demo.RecordQueryAssembler")
+                .getDeclaredConstructor().newInstance();
+            assertFalse(assembler.supportsLambda());
+        }
+    }
+
+    @Test
+    void lombokGetterNames() {
+        assertEquals("isActive", AssemblyProcessor.lombokGetter("isActive", "IsActive", true));
+        assertEquals("isIsland", AssemblyProcessor.lombokGetter("island", "Island", true));
+        assertEquals("isIs", AssemblyProcessor.lombokGetter("is", "Is", true));
+        assertEquals("getIsActive", AssemblyProcessor.lombokGetter("isActive", "IsActive", false));
+    }
+
+    @Test
+    void dtoWithoutGetterIsSkipped() throws IOException {
+        String dto = "package demo;\n"
+            + "import io.github.xtemplus.mybatisplus.annotation.*;\n"
+            + "public class HiddenQuery {\n"
+            + "    @Assembly private String name;\n"
+            + "}\n";
+
+        compile(true, source("demo.HiddenQuery", dto));
+
+        assertFalse(Files.exists(out.resolve("generated/demo/HiddenQueryAssembler.java")));
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(boolean procOnly, JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Files.createDirectories(out.resolve("generated"));
+        Files.createDirectories(out.resolve("classes"));
+        List<String> options = new ArrayList<>(Arrays.asList(
+            "-classpath", classpath(),
+            "-s", out.resolve("generated").toString(),
+            "-d", out.resolve("classes").toString()));
+        if (procOnly) {
+            options.add("-proc:only");
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, Arrays.asList(sources));
+            task.setProcessors(Collections.singletonList(new AssemblyProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    /**
+     * 生成代码依赖的本库、MyBatis-Plus 等类所在位置，不依赖测试运行器设置的 java.class.path
+     */
+    private static String classpath() {
+        Set<String> entries = new LinkedHashSet<>();
+        for (Class<?> type : Arrays.asList(AssemblyProcessor.class, QueryWrapper.class, TableField.class,
+            Configuration.class, ObjUtil.class, StringUtils.class)) {
+            try {
+                entries.add(Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        entries.add(System.getProperty("java.class.path"));
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private String generated(String path) throws IOException {
+        return new String(Files.readAllBytes(out.resolve("generated").resolve(path)), StandardCharsets.UTF_8);
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import io.github.xtemplus.mybatisplus.annotation.Assembly;
+import io.github.xtemplus.mybatisplus.annotation.AssemblyType;
+import io.github.xtemplus.mybatisplus.assembly.WrapperAssembler;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FullTextConditionsTest {
+
+    private static final String H2_SQL = "(id IN (SELECT FT.KEYS[1] FROM FT_SEARCH_DATA(#{";
+    private static final String H2_TABLE = "FT WHERE FT.\"TABLE\" = 'T_USER'))";
+
+    @BeforeAll
+    static void registerTables() {
+        TestMybatis.configuration(UserMapper.class);
+    }
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+        MybatisPlusXConfig.setFullTextConfig(null);
+    }
+
+    @Test
+    void mysqlUsesMatchAgainst() {
+        QueryWrapper<User> wrapper = new QueryWrapper<>();
+        FullTextConditions.match(wrapper, "name", "alice");
+
+        String sql = TestMybatis.normalize(wrapper.getSqlSegment());
+        assertTrue(sql.startsWith("(MATCH(name) AGAINST(#{") && sql.endsWith("} IN BOOLEAN MODE))"), sql);
+    }
+
+    @Test
+    void postgresUsesConfiguredTextSearchConfig() {
+        MybatisPlusXConfig.setDbType(DbType.POSTGRE_SQL);
+        MybatisPlusXConfig.setFullTextConfig("simple");
+
+        assertEquals("to_tsvector('simple', name) @@ plainto_tsquery('simple', {0})",
+            FullTextConditions.template("name", null));
+    }
+
+    @Test
+    void h2FiltersByKeyOfEntityTable() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        LambdaQueryWrapperX<User> wrapper = new LambdaQueryWrapperX<>();
+        wrapper.fullTextIfPresent(User::getName, "alice");
+
+        String sql = TestMybatis.normalize(wrapper.getSqlSegment());
+        assertTrue(sql.startsWith(H2_SQL) && sql.endsWith(H2_TABLE), sql);
+    }
+
+    @Test
+    void h2AssembledWrapperUsesGivenEntityClass() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        KeywordQuery query = new KeywordQuery();
+        query.name = "alice";
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        QueryWrapper<Object> wrapper = WrapperAssembler.assemble((Object) query, (Class) User.class);
+
+        assertEquals(User.class, wrapper.getEntityClass());
+        String sql = TestMybatis.normalize(wrapper.getSqlSegment());
+        assertTrue(sql.startsWith(H2_SQL) && sql.endsWith(H2_TABLE), sql);
+    }
+
+    @Test
+    void h2WithoutEntityFallsBackToLike() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        KeywordQuery query = new KeywordQuery();
+        query.name = "alice";
+
+        QueryWrapper<KeywordQuery> wrapper = WrapperAssembler.assemble(query);
+
+        String sql = TestMybatis.normalize(wrapper.getSqlSegment());
+        assertTrue(sql.startsWith("(name LIKE #{"), sql);
+    }
+
+    @Test
+    void h2CriteriaResolvesTableRegisteredAfterFirstUse() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        Note note = new Note();
+        note.body = "alice";
+
+        // 实体的 Mapper 尚未加载时退化为 LIKE，加载后改用全文检索
+        assertTrue(WrapperAssembler.assembleCriteria(note).getSqlSegment().startsWith("body LIKE ?"));
+        MybatisConfiguration configuration = new MybatisConfiguration();
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(configuration, ""), Note.class);
+        String sql = WrapperAssembler.assembleCriteria(note).getSqlSegment();
+        assertTrue(sql.startsWith("id IN (SELECT FT.KEYS[1] FROM FT_SEARCH_DATA(?") && sql.endsWith("'T_NOTE')"), sql);
+    }
+
+    @TableName("t_note")
+    static class Note {
+        Long id;
+
+        @Assembly(type = AssemblyType.FULLTEXT)
+        String body;
+    }
+
+    static class KeywordQuery {
+        @Assembly(type = AssemblyType.FULLTEXT)
+        String name;
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.xtemplus.mybatisplus.annotation.InStrategy;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InConditionsTest {
+
+    private static final List<Long> IDS = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void createTable() {
+        DataSource dataSource = TestMybatis.h2("in_conditions");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(32), dept_id BIGINT, balance DECIMAL(10, 2), deleted INT DEFAULT 0)",
+            "INSERT INTO t_user (id, name, dept_id) VALUES (1, 'a', 7), (2, 'b', 7), (3, 'c', 8), (4, 'd', 8), (5, 'e', 9), (6, 'f', 9)");
+        sqlSessionFactory = TestMybatis.sqlSessionFactory(TestMybatis.configuration(UserMapper.class), dataSource);
+    }
+
+    @AfterEach
+    void reset() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+        MybatisPlusXConfig.setInStrategy(InStrategy.PLAIN);
+        MybatisPlusXConfig.setInChunkSize(1000);
+        MybatisPlusXConfig.setInBucketing(false);
+        MybatisPlusXConfig.setInBucketSizes(Collections.emptyList());
+    }
+
+    @Test
+    void smallListsStayPlain() {
+        QueryWrapper<User> wrapper = new QueryWrapper<>();
+        InConditions.in(wrapper, "id", IDS, InStrategy.OR_CHUNKS);
+        assertEquals("(id IN (?,?,?,?,?))", shape(wrapper));
+    }
+
+    @Test
+    void orChunksSplitLargeLists() {
+        MybatisPlusXConfig.setInChunkSize(2);
+        LambdaQueryWrapper<User> wrapper = new LambdaQueryWrapper<>();
+        InConditions.in(wrapper, (SFunction<User, ?>) User::getId, IDS, InStrategy.OR_CHUNKS);
+        assertEquals("((id IN (?,?) OR id IN (?,?) OR id IN (?)))", shape(wrapper));
+    }
+
+    @Test
+    void anyArrayOnlyWhereSupported() {
+        MybatisPlusXConfig.setInChunkSize(2);
+        QueryWrapper<User> mysql = new QueryWrapper<>();
+        InConditions.in(mysql, "id", IDS, InStrategy.ANY_ARRAY);
+        assertEquals("((id IN (?,?) OR id IN (?,?) OR id IN (?)))", shape(mysql));
+
+        MybatisPlusXConfig.setDbType(DbType.POSTGRE_SQL);
+        QueryWrapper<User> postgres = new QueryWrapper<>();
+        InConditions.in(postgres, "id", IDS, InStrategy.ANY_ARRAY);
+        assertEquals("(id = ANY(?))", shape(postgres));
+        assertEquals(Long[].class, postgres.getParamNameValuePairs().values().iterator().next().getClass());
+    }
+
+    @Test
+    void bucketingPadsWithLastValue() {
+        MybatisPlusXConfig.setInBucketing(true);
+        QueryWrapper<User> wrapper = new QueryWrapper<>();
+        InConditions.in(wrapper, "id", Arrays.asList(1L, 2L, 3L), InStrategy.PLAIN);
+        assertEquals("(id IN (?,?,?,?))", shape(wrapper));
+
+        MybatisPlusXConfig.setInBucketSizes(Arrays.asList(5, 10));
+        assertEquals(5, InListBuckets.bucketOf(3));
+        assertEquals(11, InListBuckets.bucketOf(11));
+    }
+
+    @Test
+    void strategiesReturnTheSameRows() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        MybatisPlusXConfig.setInChunkSize(2);
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            UserMapper mapper = session.getMapper(UserMapper.class);
+            for (InStrategy strategy : InStrategy.values()) {
+                List<Long> ids = mapper.selectList("id", IDS, strategy).stream().map(User::getId).sorted()
+                    .collect(Collectors.toList());
+                assertEquals(IDS, ids, strategy.name());
+            }
+        }
+    }
+
+    /**
+     * 参数占位替换为 ?，便于比较 SQL 形态
+     */
+    private static String shape(AbstractWrapper<?, ?, ?> wrapper) {
+        return TestMybatis.normalize(wrapper.getSqlSegment()).replaceAll("#\\{[^}]+}", "?");
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlLike;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LikeConditionsTest {
+
+    @BeforeAll
+    static void registerTables() {
+        TestMybatis.configuration(UserMapper.class);
+    }
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void escapesWildcards() {
+        assertEquals("50\\%\\_off\\\\", LikeConditions.escape("50%_off\\"));
+    }
+
+    @Test
+    void backslashDialectsUsePlainLike() {
+        QueryWrapper<User> wrapper = new QueryWrapper<>();
+        LikeConditions.like(wrapper, "name", "a%b", SqlLike.RIGHT, true);
+
+        assertTrue(TestMybatis.normalize(wrapper.getSqlSegment()).matches("\\(name LIKE #\\{[^}]+}\\)"), wrapper.getSqlSegment());
+        assertEquals("a\\%b%", value(wrapper));
+    }
+
+    @Test
+    void otherDialectsAppendEscapeClause() {
+        MybatisPlusXConfig.setDbType(DbType.ORACLE);
+        QueryWrapper<User> wrapper = new QueryWrapper<>();
+        LikeConditions.like(wrapper, "name", "a_b", SqlLike.DEFAULT, true);
+
+        assertTrue(wrapper.getSqlSegment().endsWith(" ESCAPE '\\')"), wrapper.getSqlSegment());
+        assertEquals("%a\\_b%", value(wrapper));
+    }
+
+    @Test
+    void plainLambdaWrapperResolvesColumnForEscapeClause() {
+        MybatisPlusXConfig.setDbType(DbType.SQL_SERVER);
+        LambdaQueryWrapper<User> wrapper = new LambdaQueryWrapper<>();
+        LikeConditions.like(wrapper, (SFunction<User, ?>) User::getName,
+            "x%", SqlLike.LEFT, true);
+
+        String sql = TestMybatis.normalize(wrapper.getSqlSegment());
+        assertTrue(sql.startsWith("(name LIKE #{") && sql.endsWith(" ESCAPE '\\')"), sql);
+        assertEquals("%x\\%", value(wrapper));
+    }
+
+    @Test
+    void unresolvableColumnFailsInsteadOfMatchingLiterally() {
+        MybatisPlusXConfig.setDbType(DbType.ORACLE);
+        LambdaQueryWrapper<NotAnEntity> wrapper = new LambdaQueryWrapper<>();
+
+        assertThrows(IllegalArgumentException.class, () -> LikeConditions.like(wrapper,
+            (SFunction<NotAnEntity, ?>) NotAnEntity::getCode, "x%", SqlLike.RIGHT, true));
+    }
+
+    @Test
+    void withoutEscapeValueIsUntouched() {
+        MybatisPlusXConfig.setDbType(DbType.ORACLE);
+        QueryWrapper<User> wrapper = new QueryWrapper<>();
+        LikeConditions.like(wrapper, "name", "a%", SqlLike.RIGHT, false);
+
+        assertFalse(wrapper.getSqlSegment().contains("ESCAPE"), wrapper.getSqlSegment());
+        assertEquals("a%%", value(wrapper));
+    }
+
+    private static Object value(AbstractWrapper<?, ?, ?> wrapper) {
+        return new ArrayList<>(wrapper.getParamNameValuePairs().values()).get(0);
+    }
+
+    public static class NotAnEntity {
+        private String code;
+
+        public String getCode() {
+            return code;
+        }
+    }
+}
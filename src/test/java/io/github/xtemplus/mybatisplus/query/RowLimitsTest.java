@@ -0,0 +1,99 @@
+package io.github.xtemplus.mybatisplus.query;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.fixture.User;
+import io.github.xtemplus.mybatisplus.fixture.UserMapper;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowLimitsTest {
+
+    private static final String SQL = "SELECT id,name FROM t_user WHERE (dept_id = ?) ORDER BY id";
+
+    @BeforeAll
+    static void registerTables() {
+        TestMybatis.configuration(UserMapper.class);
+    }
+
+    @AfterEach
+    void resetDbType() {
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void appendsDialectLimit() {
+        assertEquals(SQL + " LIMIT 1", RowLimits.apply(SQL, 1));
+
+        MybatisPlusXConfig.setDbType(DbType.ORACLE_12C);
+        assertEquals(SQL + " FETCH FIRST 1 ROWS ONLY", RowLimits.apply(SQL, 1));
+
+        MybatisPlusXConfig.setDbType(DbType.ORACLE);
+        assertEquals("SELECT * FROM (" + SQL + ") WHERE ROWNUM <= 1", RowLimits.apply(SQL, 1));
+
+        MybatisPlusXConfig.setDbType(DbType.SQL_SERVER2005);
+        assertEquals("SELECT TOP 1 id,name FROM t_user WHERE (dept_id = ?) ORDER BY id", RowLimits.apply(SQL, 1));
+
+        MybatisPlusXConfig.setDbType(DbType.INFORMIX);
+        assertEquals("SELECT DISTINCT FIRST 1 name FROM t_user", RowLimits.apply("SELECT DISTINCT name FROM t_user", 1));
+    }
+
+    @Test
+    void limitGoesBeforeLockClause() {
+        String sql = SQL + " FOR UPDATE";
+        assertEquals(SQL + " LIMIT 1 FOR UPDATE", RowLimits.apply(sql, "FOR UPDATE", 1));
+
+        MybatisPlusXConfig.setDbType(DbType.ORACLE_12C);
+        assertEquals(SQL + " FETCH FIRST 1 ROWS ONLY FOR UPDATE", RowLimits.apply(sql, " FOR UPDATE", 1));
+    }
+
+    @Test
+    void otherLastIsWrappedInSubquery() {
+        String sql = SQL + " LIMIT 5";
+        assertEquals("SELECT * FROM (" + sql + ") t LIMIT 1", RowLimits.apply(sql, "LIMIT 5", 1));
+        assertEquals(SQL + " LIMIT 1", RowLimits.apply(SQL, null, 1));
+    }
+
+    @Test
+    void rownumWrapsOrderedQuery() {
+        MybatisPlusXConfig.setDbType(DbType.ORACLE);
+        QueryWrapper<User> wrapper = new QueryWrapperX<User>().eq("dept_id", 1).orderByDesc("id");
+        RowLimits.limit(wrapper, 3);
+
+        assertEquals("SELECT * FROM (", wrapper.getSqlFirst());
+        String segment = TestMybatis.normalize(wrapper.getSqlSegment());
+        assertTrue(segment.endsWith("ORDER BY id DESC ) WHERE ROWNUM <= 3"), segment);
+    }
+
+    @Test
+    void topAndFirstGoIntoSelectList() {
+        MybatisPlusXConfig.setDbType(DbType.SYBASE);
+        QueryWrapperX<User> wrapper = new QueryWrapperX<>();
+        wrapper.select("DISTINCT name").orderByAsc("name");
+        wrapper.limitN(2);
+        assertEquals("DISTINCT TOP 2 name", wrapper.getSqlSelect());
+        assertNull(wrapper.getSqlFirst());
+
+        MybatisPlusXConfig.setDbType(DbType.INFORMIX);
+        QueryWrapperX<User> untyped = new QueryWrapperX<>();
+        untyped.limitN(1);
+        assertEquals("FIRST 1 *", untyped.getSqlSelect());
+
+        LambdaQueryWrapperX<User> lambda = new LambdaQueryWrapperX<>();
+        lambda.setEntityClass(User.class);
+        lambda.limitN(1);
+        assertEquals("FIRST 1 id,name,dept_id,balance,deleted", lambda.getSqlSelect());
+
+        LambdaQueryWrapperX<User> selected = new LambdaQueryWrapperX<>();
+        selected.select(User::getName);
+        selected.limitN(1);
+        assertEquals("FIRST 1 name", selected.getSqlSelect());
+    }
+}
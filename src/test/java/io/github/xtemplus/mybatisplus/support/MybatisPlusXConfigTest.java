@@ -0,0 +1,47 @@
+package io.github.xtemplus.mybatisplus.support;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 未配置数据库类型时按数据源 URL 识别
+ */
+class MybatisPlusXConfigTest {
+
+    @AfterEach
+    void reset() {
+        MybatisPlusXConfig.setDataSource(null);
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void detectsDbTypeOnceFromDataSource() {
+        DataSource dataSource = TestMybatis.h2("db_type");
+        AtomicInteger lookups = new AtomicInteger();
+        MybatisPlusXConfig.setDataSource(() -> {
+            lookups.incrementAndGet();
+            return dataSource;
+        });
+        MybatisPlusXConfig.setDbType(null);
+
+        assertEquals(DbType.H2, MybatisPlusXConfig.getDbType());
+        assertEquals(DbType.H2, MybatisPlusXConfig.getDbType());
+        assertEquals(1, lookups.get());
+        // H2 默认排序规则区分大小写
+        assertEquals(false, MybatisPlusXConfig.isCaseInsensitiveStrings());
+    }
+
+    @Test
+    void configuredDbTypeWins() {
+        MybatisPlusXConfig.setDataSource(() -> TestMybatis.h2("db_type"));
+        MybatisPlusXConfig.setDbType(DbType.POSTGRE_SQL);
+        assertEquals(DbType.POSTGRE_SQL, MybatisPlusXConfig.getDbType());
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.xtemplus.mybatisplus.tracking;
+
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import io.github.xtemplus.mybatisplus.batch.UpdateBatches;
+import io.github.xtemplus.mybatisplus.fixture.Account;
+import io.github.xtemplus.mybatisplus.fixture.AccountMapper;
+import io.github.xtemplus.mybatisplus.fixture.TestMybatis;
+import io.github.xtemplus.mybatisplus.support.MybatisPlusXConfig;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 按脏字段批量更新只在执行成功、事务提交后刷新快照，字段写入规则与 updateById 一致
+ */
+class UpdateDirtyTest {
+
+    private DataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+    private TableInfo tableInfo;
+    private DirtyTracker.Scope scope;
+
+    @BeforeEach
+    void setUp() {
+        MybatisPlusXConfig.setDbType(DbType.H2);
+        dataSource = TestMybatis.h2("update_dirty");
+        TestMybatis.execute(dataSource,
+            "CREATE TABLE t_account (id BIGINT PRIMARY KEY, code VARCHAR(32), name VARCHAR(8), score INT, "
+                + "create_time TIMESTAMP, created_by VARCHAR(32))",
+            "INSERT INTO t_account (id, code, name, score) VALUES (1, 'a', 'old', 10)");
+        sqlSessionFactory = TestMybatis.sqlSessionFactory(TestMybatis.configuration(AccountMapper.class), dataSource);
+        tableInfo = TableInfoHelper.getTableInfo(Account.class);
+        scope = DirtyTracker.begin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scope.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TestMybatis.execute(dataSource, "DROP TABLE t_account");
+        MybatisPlusXConfig.setDbType(DbType.MYSQL);
+    }
+
+    @Test
+    void refreshesSnapshotAfterSuccess() {
+        Account account = tracked();
+        account.setScore(11);
+
+        assertTrue(UpdateBatches.updateDirty(tableInfo, Collections.singletonList(account), 10));
+        assertTrue(DirtyTracker.dirtyFields(tableInfo, account).isEmpty());
+    }
+
+    @Test
+    void keepsSnapshotWhenBatchFails() {
+        Account account = tracked();
+        account.setName("much too long for the column");
+
+        assertThrows(RuntimeException.class, () -> UpdateBatches.updateDirty(tableInfo, Collections.singletonList(account), 10));
+        assertEquals("name", DirtyTracker.dirtyFields(tableInfo, account).get(0).getProperty());
+    }
+
+    @Test
+    void waitsForCommitInTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        Account account = tracked();
+        account.setScore(12);
+
+        assertTrue(UpdateBatches.updateDirty(tableInfo, Collections.singletonList(account), 10));
+        assertEquals(1, DirtyTracker.dirtyFields(tableInfo, account).size());
+
+        // 回滚时不刷新
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(1, DirtyTracker.dirtyFields(tableInfo, account).size());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertTrue(DirtyTracker.dirtyFields(tableInfo, account).isEmpty());
+    }
+
+    @Test
+    void skipsNeverUpdatedFields() {
+        Account account = tracked();
+        account.setScore(13);
+        account.setCreatedBy("changed");
+
+        assertEquals(Collections.singletonList("score"), properties(DirtyTracker.dirtyFields(tableInfo, account)));
+        assertTrue(UpdateBatches.updateDirty(tableInfo, Collections.singletonList(account), 10));
+        Account stored = stored();
+        assertEquals(13, stored.getScore());
+        assertNull(stored.getCreatedBy());
+    }
+
+    @Test
+    void untrackedEntitiesFollowUpdateById() {
+        Account account = new Account(1L, null, "new", null);
+        account.setCreatedBy("changed");
+
+        assertEquals(Collections.singletonList("name"), properties(DirtyTracker.dirtyFields(tableInfo, account)));
+        assertTrue(UpdateBatches.updateDirty(tableInfo, Collections.singletonList(account), 10));
+        Account stored = stored();
+        assertEquals("new", stored.getName());
+        assertEquals("a", stored.getCode());
+        assertEquals(10, stored.getScore());
+        assertNull(stored.getCreatedBy());
+    }
+
+    private Account stored() {
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            return session.getMapper(AccountMapper.class).selectById(1L);
+        }
+    }
+
+    private static List<String> properties(List<TableFieldInfo> fields) {
+        return fields.stream().map(TableFieldInfo::getProperty).collect(Collectors.toList());
+    }
+
+    private static Account tracked() {
+        Account account = new Account(1L, "a", "old", 10);
+        DirtyTracker.track(account);
+        return account;
+    }
+}